@@ -54,6 +54,12 @@ object Config {
         const val JAVET_LINUX_ARM64 = "com.caoccao.javet:javet-linux-arm64:${Versions.JAVET}"
         const val JAVET_MACOS = "com.caoccao.javet:javet-macos:${Versions.JAVET}"
 
+        // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-core
+        const val JMH_CORE = "org.openjdk.jmh:jmh-core:${Versions.JMH}"
+
+        // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-generator-annprocess
+        const val JMH_GENERATOR_ANNPROCESS = "org.openjdk.jmh:jmh-generator-annprocess:${Versions.JMH}"
+
         // https://mvnrepository.com/artifact/org.junit/junit-bom
         const val JUNIT_BOM = "org.junit:junit-bom:${Versions.JUNIT}"
 
@@ -66,6 +72,7 @@ object Config {
         const val JAVA_VERSION = "1.8"
         const val JAVET = "3.0.4"
         const val JAVET_SANITIZER = "0.3.0"
+        const val JMH = "1.37"
         const val JUNIT = "5.10.1"
     }
 }
@@ -90,6 +97,19 @@ java {
     withSourcesJar()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+}
+
 dependencies {
     implementation(Config.Projects.ANTLR4)
 
@@ -104,6 +124,9 @@ dependencies {
     }
     testImplementation(platform(Config.Projects.JUNIT_BOM))
     testImplementation(Config.Projects.JUNIT_JUPITER)
+
+    "jmhImplementation"(Config.Projects.JMH_CORE)
+    "jmhAnnotationProcessor"(Config.Projects.JMH_GENERATOR_ANNPROCESS)
 }
 
 publishing {
@@ -150,6 +173,38 @@ publishing {
 }
 
 tasks {
+    register<JavaExec>("generateGrammar") {
+        group = "build"
+        description = "Regenerates the JavaScript lexer and parser from the grammar in src/main/antlr. JDK 11+ is required."
+        val outputDir = file("src/main/java/com/caoccao/javet/sanitizer/antlr")
+        classpath = configurations.runtimeClasspath.get()
+        mainClass.set("org.antlr.v4.Tool")
+        workingDir = file("src/main/antlr")
+        args = listOf(
+            "-Xexact-output-dir",
+            "-package", "com.caoccao.javet.sanitizer.antlr",
+            "-o", outputDir.absolutePath,
+            "JavaScriptLexer.g4",
+            "JavaScriptParser.g4",
+        )
+        doLast {
+            delete(fileTree(outputDir) { include("*.interp", "*.tokens") })
+            val listenerFile = outputDir.resolve("JavaScriptParserListener.java")
+            listenerFile.writeText(
+                listenerFile.readText().replace(
+                    "@link JavaScriptParser#singleExpression}",
+                    "@link JavaScriptParser#singleExpression()}"
+                )
+            )
+        }
+    }
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks. Arguments are passed via -PjmhArgs=\"...\"."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args = (project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+    }
     withType(Test::class.java) {
         useJUnitPlatform()
     }
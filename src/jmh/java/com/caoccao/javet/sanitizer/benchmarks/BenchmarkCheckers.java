@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.IJavetSanitizerChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark checkers measures every checker against small, medium and multi-megabyte inputs
+ * on the pass path, the reject path and a JSFuck payload.
+ * <p>
+ * The GC allocation rate is reported by running with the GC profiler, e.g.
+ * <code>gradle jmh -PjmhArgs="BenchmarkCheckers -prof gc"</code>.
+ * The large inputs take tens of seconds per operation, so they are usually selected explicitly,
+ * e.g. <code>-p size=Large -p checkerType=Module</code>.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkCheckers {
+    private static final String REJECTED_EXPRESSION = "eval('1')";
+    private static final String REJECTED_STATEMENT = "function rejected() {\n  return eval('1');\n}\n";
+    @Param({"AnonymousFunction", "ExpressionSequence", "Module", "SingleExpression", "StatementList"})
+    public JavetSanitizerCheckerType checkerType;
+    @Param({"Pass", "Reject", "JSFuck"})
+    public Payload payload;
+    @Param({"Small", "Medium", "Large"})
+    public Size size;
+    private IJavetSanitizerChecker checker;
+    private String codeString;
+
+    /**
+     * Create the code string of the given checker type, payload and size.
+     *
+     * @param checkerType the checker type
+     * @param payload     the payload
+     * @param size        the size
+     * @return the code string
+     * @since 0.3.0
+     */
+    public static String createCodeString(JavetSanitizerCheckerType checkerType, Payload payload, Size size) {
+        boolean expression = checkerType == JavetSanitizerCheckerType.SingleExpression
+                || checkerType == JavetSanitizerCheckerType.ExpressionSequence;
+        List<String> units = new ArrayList<>();
+        int length = 0;
+        do {
+            String unit = expression ? createExpression(payload) : createStatement(payload, units.size());
+            units.add(unit);
+            length += unit.length();
+        } while (length < size.getLength());
+        if (payload == Payload.Reject) {
+            units.add(expression ? REJECTED_EXPRESSION : REJECTED_STATEMENT);
+        }
+        switch (checkerType) {
+            case AnonymousFunction:
+                return "(input) => {\n" + String.join("", units) + "}";
+            case ExpressionSequence:
+                return String.join(",\n", units);
+            case SingleExpression:
+                return units.size() == 1 ? units.get(0) : "[" + String.join(",\n", units) + "]";
+            default:
+                return String.join("", units);
+        }
+    }
+
+    private static String createExpression(Payload payload) {
+        return payload == Payload.JSFuck ? BenchmarkCorpus.JSFUCK : BenchmarkCorpus.EXPRESSION;
+    }
+
+    private static String createStatement(Payload payload, int index) {
+        if (payload == Payload.JSFuck) {
+            return "function " + (index == 0 ? "main" : "jsfuck" + index) + "() {\n" +
+                    "  return " + BenchmarkCorpus.JSFUCK + ";\n" +
+                    "}\n";
+        }
+        return index == 0
+                ? BenchmarkCorpus.MODULE
+                : BenchmarkCorpus.MODULE.replaceAll("\\b(add|sum|format|main)\\b", "$1" + index);
+    }
+
+    @Benchmark
+    public boolean check() {
+        try {
+            return checker.check(codeString);
+        } catch (JavetSanitizerException e) {
+            return false;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        checker = checkerType.createChecker(JavetSanitizerOption.Default);
+        codeString = createCodeString(checkerType, payload, size);
+        if (check() == (payload == Payload.Reject)) {
+            throw new IllegalStateException(
+                    "The " + payload + " payload of size " + size + " has an unexpected verdict on the "
+                            + checkerType + " checker.");
+        }
+    }
+
+    /**
+     * The enum Payload.
+     *
+     * @since 0.3.0
+     */
+    public enum Payload {
+        /**
+         * The JSFuck payload that is syntactically valid and allowed by the default option.
+         *
+         * @since 0.3.0
+         */
+        JSFuck,
+        /**
+         * The typical code that passes.
+         *
+         * @since 0.3.0
+         */
+        Pass,
+        /**
+         * The typical code followed by a violation at the very end.
+         *
+         * @since 0.3.0
+         */
+        Reject,
+    }
+
+    /**
+     * The enum Size.
+     *
+     * @since 0.3.0
+     */
+    public enum Size {
+        /**
+         * One copy of the payload.
+         *
+         * @since 0.3.0
+         */
+        Small(0),
+        /**
+         * About 64 KB.
+         *
+         * @since 0.3.0
+         */
+        Medium(64 * 1024),
+        /**
+         * About 2 MB.
+         *
+         * @since 0.3.0
+         */
+        Large(2 * 1024 * 1024),
+        ;
+
+        private final int length;
+
+        Size(int length) {
+            this.length = length;
+        }
+
+        /**
+         * Gets the minimal length of the code string.
+         *
+         * @return the length
+         * @since 0.3.0
+         */
+        public int getLength() {
+            return length;
+        }
+    }
+}
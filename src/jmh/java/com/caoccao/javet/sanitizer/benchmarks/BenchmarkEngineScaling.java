@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.engines.JavetSanitizerEngine;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark engine scaling measures how one shared engine scales from 1 to N threads.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkEngineScaling {
+    private JavetSanitizerEngine engine;
+
+    private boolean checkModule() throws JavetSanitizerException {
+        return engine.check(JavetSanitizerCheckerType.Module, BenchmarkCorpus.MODULE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean checkModuleWith1Thread() throws JavetSanitizerException {
+        return checkModule();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean checkModuleWith2Threads() throws JavetSanitizerException {
+        return checkModule();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean checkModuleWith4Threads() throws JavetSanitizerException {
+        return checkModule();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean checkModuleWithMaxThreads() throws JavetSanitizerException {
+        return checkModule();
+    }
+
+    @Setup
+    public void setup() {
+        engine = new JavetSanitizerEngine();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark file check compares checking a file read into a string with checking a memory-mapped file.
+ * Run it with {@code -prof gc} to compare the allocation per check.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+public class BenchmarkFileCheck {
+    @Param({"16", "256"})
+    public int sizeInKB;
+    private JavetSanitizerStatementListChecker checker;
+    private Path path;
+
+    @Benchmark
+    public boolean checkPath() throws IOException, JavetSanitizerException {
+        return checker.check(path);
+    }
+
+    @Benchmark
+    public boolean checkString() throws IOException, JavetSanitizerException {
+        return checker.check(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        StringBuilder sb = new StringBuilder(sizeInKB * 1024 + 64);
+        for (int i = 0; sb.length() < sizeInKB * 1024; i++) {
+            sb.append("const a").append(i).append(" = b.c(").append(i).append(", 'd');\n");
+        }
+        path = Files.createTempFile("javet-sanitizer-", ".js");
+        Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+        checker = new JavetSanitizerStatementListChecker();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        checker = null;
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerIdentifierTable;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark identifier lookup compares the identifier table compiled at seal
+ * with the set lookups and the boxed reserved identifier matcher it replaced,
+ * over every identifier of the module corpus.
+ * The identifier tokens are also classified by the text read from the char stream per token
+ * and by the symbols interned when the tokens are lexed.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkIdentifierLookup {
+    private Token[] identifierTokens;
+    private String[] identifiers;
+    private JavetSanitizerOption matcherOption;
+    private JavetSanitizerOption prefixOption;
+    private JavetSanitizerSymbolTable symbolTable;
+    private int[] symbols;
+
+    /**
+     * The identifier matcher of 0.2.0.
+     */
+    private static boolean matchesBySets(JavetSanitizerOption option, String identifier) {
+        if (identifier == null || identifier.isEmpty()) {
+            return false;
+        }
+        if (option.getReservedIdentifierMatcher().apply(identifier)) {
+            return !option.getReservedIdentifierSet().contains(identifier);
+        }
+        return option.getDisallowedIdentifierSet().contains(identifier);
+    }
+
+    private static boolean matchesByFlags(int flags) {
+        if ((flags & JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME) != 0) {
+            return (flags & JavetSanitizerIdentifierTable.FLAG_RESERVED) == 0;
+        }
+        return (flags & JavetSanitizerIdentifierTable.FLAG_DISALLOWED) != 0;
+    }
+
+    private static boolean matchesByTable(JavetSanitizerOption option, String identifier) {
+        return matchesByFlags(option.getIdentifierFlags(identifier));
+    }
+
+    @Benchmark
+    public void lookupBySets(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(matchesBySets(matcherOption, identifier));
+        }
+    }
+
+    @Benchmark
+    public void lookupBySymbol(Blackhole blackhole) {
+        for (int symbol : symbols) {
+            blackhole.consume(matchesByFlags(symbolTable.getFlags(symbol)));
+        }
+    }
+
+    @Benchmark
+    public void lookupByTableWithMatcher(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(matchesByTable(matcherOption, identifier));
+        }
+    }
+
+    @Benchmark
+    public void lookupByTableWithPrefix(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(matchesByTable(prefixOption, identifier));
+        }
+    }
+
+    @Benchmark
+    public void lookupByTokenText(Blackhole blackhole) {
+        for (Token identifierToken : identifierTokens) {
+            blackhole.consume(matchesByTable(prefixOption, identifierToken.getText()));
+        }
+    }
+
+    @Setup
+    public void setup() {
+        matcherOption = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierMatcher(identifier -> identifier.startsWith("$"));
+        matcherOption.getReservedIdentifierSet().add("$c");
+        matcherOption.seal();
+        prefixOption = JavetSanitizerOption.Default.toClone();
+        prefixOption.getReservedIdentifierPrefixSet().add("$");
+        prefixOption.getReservedIdentifierSet().add("$c");
+        prefixOption.seal();
+        List<Token> identifierTokenList = new ArrayList<>();
+        List<String> identifierList = new ArrayList<>();
+        List<Integer> symbolList = new ArrayList<>();
+        symbolTable = prefixOption.getCompiledOption().createSymbolTable();
+        CharStream charStream = CharStreams.fromString(BenchmarkCorpus.MODULE);
+        JavaScriptLexer lexer = new JavaScriptLexer(charStream);
+        for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+            if (token.getType() == JavaScriptLexer.Identifier) {
+                identifierTokenList.add(token);
+                identifierList.add(token.getText());
+                symbolList.add(symbolTable.intern(charStream, token.getStartIndex(), token.getStopIndex()));
+            }
+        }
+        identifierTokens = identifierTokenList.toArray(new Token[0]);
+        identifiers = identifierList.toArray(new String[0]);
+        symbols = symbolList.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
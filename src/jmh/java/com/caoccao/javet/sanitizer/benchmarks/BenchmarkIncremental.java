@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.IJavetSanitizerChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerIncrementalChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark incremental compares the full check with the incremental check
+ * on a script of the module corpus repeated several times, with a one-character edit in the middle per check.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkIncremental {
+    @Param({"1", "8"})
+    public int copies;
+    @Param({"false", "true"})
+    public boolean incremental;
+    private IJavetSanitizerChecker checker;
+    private String[] codeStrings;
+    private int index;
+
+    @Benchmark
+    public boolean checkEdited() throws JavetSanitizerException {
+        index = 1 - index;
+        return checker.check(codeStrings[index]);
+    }
+
+    @Setup
+    public void setup() throws JavetSanitizerException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < copies; ++i) {
+            sb.append(BenchmarkCorpus.MODULE);
+        }
+        String codeString = sb.toString();
+        final int position = copies / 2 * BenchmarkCorpus.MODULE.length() + BenchmarkCorpus.MODULE.indexOf("'unknown'");
+        codeStrings = new String[]{
+                codeString,
+                codeString.substring(0, position) + "'unknown!'" + codeString.substring(position + 9)};
+        checker = incremental
+                ? new JavetSanitizerIncrementalChecker(new JavetSanitizerStatementListChecker())
+                : new JavetSanitizerStatementListChecker();
+        index = 0;
+        checker.check(codeStrings[index]);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptTableDrivenLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark lexer compares the generated lexer with the table-driven lexer,
+ * by the tokenization alone and by the module checker end to end.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkLexer {
+    @Param({"Generated", "TableDriven"})
+    public JavetSanitizerLexerType lexerType;
+    private JavetSanitizerModuleChecker moduleChecker;
+
+    @Benchmark
+    public boolean checkModule() throws JavetSanitizerException {
+        return moduleChecker.check(BenchmarkCorpus.MODULE);
+    }
+
+    @Setup
+    public void setup() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setLexerType(lexerType)
+                .seal();
+        moduleChecker = new JavetSanitizerModuleChecker(option);
+    }
+
+    @Benchmark
+    public int tokenizeJsFuck() {
+        return tokenize(BenchmarkCorpus.JSFUCK);
+    }
+
+    @Benchmark
+    public int tokenizeModule() {
+        return tokenize(BenchmarkCorpus.MODULE);
+    }
+
+    private int tokenize(String codeString) {
+        final TokenSource tokenSource;
+        if (lexerType == JavetSanitizerLexerType.TableDriven) {
+            JavaScriptTableDrivenLexer tableDrivenLexer = new JavaScriptTableDrivenLexer(CharStreams.fromString(codeString));
+            tableDrivenLexer.setUseStrictDefault(true);
+            tokenSource = tableDrivenLexer;
+        } else {
+            JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+            javaScriptLexer.setUseStrictDefault(true);
+            tokenSource = javaScriptLexer;
+        }
+        int tokenCount = 0;
+        while (tokenSource.nextToken().getType() != Token.EOF) {
+            ++tokenCount;
+        }
+        return tokenCount;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.matchers.IJavetSanitizerMatcher;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerBuiltInObjectMatcher;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerKeywordMatcher;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark matcher compares the rule index dispatch tables of the matchers
+ * with the instanceof chains they replaced, over every rule context of the module corpus.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkMatcher {
+    private IJavetSanitizerMatcher chainBuiltInObjectMatcher;
+    private IJavetSanitizerMatcher chainKeywordMatcher;
+    private ParserRuleContext[] contexts;
+    private JavetSanitizerOption option;
+    private IJavetSanitizerMatcher tableKeywordMatcher;
+
+    private static void match(
+            Blackhole blackhole,
+            IJavetSanitizerMatcher matcher,
+            JavetSanitizerOption option,
+            ParserRuleContext[] contexts) {
+        for (ParserRuleContext context : contexts) {
+            blackhole.consume(matcher.matches(option, context));
+        }
+    }
+
+    @Benchmark
+    public void matchBuiltInObjectByChain(Blackhole blackhole) {
+        match(blackhole, chainBuiltInObjectMatcher, option, contexts);
+    }
+
+    @Benchmark
+    public void matchBuiltInObjectByTable(Blackhole blackhole) {
+        match(blackhole, JavetSanitizerBuiltInObjectMatcher.getInstance(), option, contexts);
+    }
+
+    @Benchmark
+    public void matchKeywordByChain(Blackhole blackhole) {
+        match(blackhole, chainKeywordMatcher, option, contexts);
+    }
+
+    @Benchmark
+    public void matchKeywordByTable(Blackhole blackhole) {
+        match(blackhole, tableKeywordMatcher, option, contexts);
+    }
+
+    @Setup
+    public void setup() throws JavetSanitizerException {
+        option = JavetSanitizerOption.Default;
+        chainBuiltInObjectMatcher = new ChainBuiltInObjectMatcher();
+        chainKeywordMatcher = new ChainKeywordMatcher();
+        tableKeywordMatcher = JavetSanitizerKeywordMatcher.getInstance().getMatcher(option);
+        List<ParserRuleContext> contextList = new ArrayList<>();
+        ParseTreeWalker.DEFAULT.walk(new ParseTreeListener() {
+            @Override
+            public void enterEveryRule(ParserRuleContext ctx) {
+                contextList.add(ctx);
+            }
+
+            @Override
+            public void exitEveryRule(ParserRuleContext ctx) {
+            }
+
+            @Override
+            public void visitErrorNode(ErrorNode node) {
+            }
+
+            @Override
+            public void visitTerminal(TerminalNode node) {
+            }
+        }, new JavaScriptStatementListParser(BenchmarkCorpus.MODULE).parse().getContext());
+        contexts = contextList.toArray(new ParserRuleContext[0]);
+    }
+
+    /**
+     * The built-in object matcher as the instanceof chain of 0.2.0.
+     */
+    private static final class ChainBuiltInObjectMatcher implements IJavetSanitizerMatcher {
+        @Override
+        public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
+            if (context instanceof JavaScriptParser.ArrayElementContext) {
+                JavaScriptParser.ArrayElementContext arrayElementContext = (JavaScriptParser.ArrayElementContext) context;
+                return matches(option, arrayElementContext.singleExpression());
+            }
+            if (context instanceof JavaScriptParser.ArrayLiteralExpressionContext) {
+                JavaScriptParser.ArrayLiteralExpressionContext arrayLiteralExpressionContext =
+                        (JavaScriptParser.ArrayLiteralExpressionContext) context;
+                JavaScriptParser.ArrayLiteralContext arrayLiteralContext = arrayLiteralExpressionContext.arrayLiteral();
+                JavaScriptParser.ElementListContext elementListContext = arrayLiteralContext.elementList();
+                for (JavaScriptParser.ArrayElementContext arrayElementContext : elementListContext.arrayElement()) {
+                    ParseTree parseTree = matches(option, arrayElementContext);
+                    if (parseTree != null) {
+                        return parseTree;
+                    }
+                }
+            }
+            if (context instanceof JavaScriptParser.AssignableContext) {
+                JavaScriptParser.AssignableContext assignableContext = (JavaScriptParser.AssignableContext) context;
+                return matches(option, assignableContext.identifier());
+            }
+            if (context instanceof JavaScriptParser.AssignmentExpressionContext) {
+                JavaScriptParser.AssignmentExpressionContext assignmentExpressionContext =
+                        (JavaScriptParser.AssignmentExpressionContext) context;
+                return matches(option, assignmentExpressionContext.singleExpression(0));
+            }
+            if (context instanceof JavaScriptParser.AssignmentOperatorExpressionContext) {
+                JavaScriptParser.AssignmentOperatorExpressionContext assignmentOperatorExpressionContext =
+                        (JavaScriptParser.AssignmentOperatorExpressionContext) context;
+                return matches(option, assignmentOperatorExpressionContext.singleExpression(0));
+            }
+            if (context instanceof JavaScriptParser.CatchProductionContext) {
+                JavaScriptParser.CatchProductionContext catchProductionContext =
+                        (JavaScriptParser.CatchProductionContext) context;
+                return matches(option, catchProductionContext.assignable());
+            }
+            if (context instanceof JavaScriptParser.ClassDeclarationContext) {
+                JavaScriptParser.ClassDeclarationContext classDeclarationContext =
+                        (JavaScriptParser.ClassDeclarationContext) context;
+                return matches(option, classDeclarationContext.identifier());
+            }
+            if (context instanceof JavaScriptParser.ClassExpressionContext) {
+                JavaScriptParser.ClassExpressionContext classExpressionContext =
+                        (JavaScriptParser.ClassExpressionContext) context;
+                return matches(option, classExpressionContext.identifier());
+            }
+            if (context instanceof JavaScriptParser.FormalParameterArgContext) {
+                JavaScriptParser.FormalParameterArgContext formalParameterArgContext =
+                        (JavaScriptParser.FormalParameterArgContext) context;
+                return matches(option, formalParameterArgContext.assignable());
+            }
+            if (context instanceof JavaScriptParser.FunctionDeclarationContext) {
+                JavaScriptParser.FunctionDeclarationContext functionDeclarationContext =
+                        (JavaScriptParser.FunctionDeclarationContext) context;
+                return matches(option, functionDeclarationContext.identifier());
+            }
+            if (context instanceof JavaScriptParser.IdentifierContext) {
+                JavaScriptParser.IdentifierContext identifierContext = (JavaScriptParser.IdentifierContext) context;
+                TerminalNode terminalNode = identifierContext.Identifier();
+                if (terminalNode != null) {
+                    String identifier = terminalNode.getText();
+                    if (option.getReservedIdentifierMatcher().apply(identifier)) {
+                        if (identifierContext.getParent() instanceof JavaScriptParser.FunctionDeclarationContext) {
+                            if (!option.getReservedFunctionIdentifierSet().contains(identifier)) {
+                                return terminalNode;
+                            }
+                        } else if (!option.getReservedMutableIdentifierSet().contains(identifier)) {
+                            return terminalNode;
+                        }
+                    } else if (option.getBuiltInObjectSet().contains(identifier)) {
+                        return terminalNode;
+                    }
+                }
+            }
+            if (context instanceof JavaScriptParser.IdentifierExpressionContext) {
+                JavaScriptParser.IdentifierExpressionContext identifierExpressionContext =
+                        (JavaScriptParser.IdentifierExpressionContext) context;
+                return matches(option, identifierExpressionContext.identifier());
+            }
+            if (context instanceof JavaScriptParser.MemberDotExpressionContext) {
+                JavaScriptParser.MemberDotExpressionContext memberDotExpressionContext =
+                        (JavaScriptParser.MemberDotExpressionContext) context;
+                return matches(option, memberDotExpressionContext.singleExpression());
+            }
+            if (context instanceof JavaScriptParser.MemberIndexExpressionContext) {
+                JavaScriptParser.MemberIndexExpressionContext memberIndexExpressionContext =
+                        (JavaScriptParser.MemberIndexExpressionContext) context;
+                return matches(option, memberIndexExpressionContext.singleExpression());
+            }
+            if (context instanceof JavaScriptParser.VariableDeclarationContext) {
+                JavaScriptParser.VariableDeclarationContext variableDeclarationContext =
+                        (JavaScriptParser.VariableDeclarationContext) context;
+                JavaScriptParser.AssignableContext assignableContext = variableDeclarationContext.assignable();
+                return matches(option, assignableContext);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The keyword matcher as the instanceof chain of 0.2.0.
+     */
+    private static final class ChainKeywordMatcher implements IJavetSanitizerMatcher {
+        @Override
+        public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
+            if (!option.isKeywordAsyncEnabled()) {
+                if (context instanceof JavaScriptParser.AnonymousFunctionDeclContext) {
+                    return ((JavaScriptParser.AnonymousFunctionDeclContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.ArrowFunctionContext) {
+                    return ((JavaScriptParser.ArrowFunctionContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.FunctionDeclarationContext) {
+                    return ((JavaScriptParser.FunctionDeclarationContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.FunctionPropertyContext) {
+                    return ((JavaScriptParser.FunctionPropertyContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.IdentifierContext) {
+                    return ((JavaScriptParser.IdentifierContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Async();
+                }
+                if (context instanceof JavaScriptParser.MethodDefinitionContext) {
+                    return ((JavaScriptParser.MethodDefinitionContext) context).Async();
+                }
+            }
+            if (!option.isKeywordAwaitEnabled()) {
+                if (context instanceof JavaScriptParser.AwaitExpressionContext) {
+                    return ((JavaScriptParser.AwaitExpressionContext) context).Await();
+                }
+                if (context instanceof JavaScriptParser.ForOfStatementContext) {
+                    return ((JavaScriptParser.ForOfStatementContext) context).Await();
+                }
+                if (context instanceof JavaScriptParser.ImportedBindingContext) {
+                    return ((JavaScriptParser.ImportedBindingContext) context).Await();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Await();
+                }
+            }
+            if (!option.isKeywordDebuggerEnabled()) {
+                if (context instanceof JavaScriptParser.DebuggerStatementContext) {
+                    return ((JavaScriptParser.DebuggerStatementContext) context).Debugger();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Debugger();
+                }
+            }
+            if (!option.isKeywordExportEnabled()) {
+                if (context instanceof JavaScriptParser.ExportDeclarationContext) {
+                    return ((JavaScriptParser.ExportDeclarationContext) context).Export();
+                }
+                if (context instanceof JavaScriptParser.ExportDefaultDeclarationContext) {
+                    return ((JavaScriptParser.ExportDefaultDeclarationContext) context).Export();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Export();
+                }
+            }
+            if (!option.isKeywordImportEnabled()) {
+                if (context instanceof JavaScriptParser.ImportExpressionContext) {
+                    return ((JavaScriptParser.ImportExpressionContext) context).Import();
+                }
+                if (context instanceof JavaScriptParser.ImportStatementContext) {
+                    return ((JavaScriptParser.ImportStatementContext) context).Import();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Import();
+                }
+            }
+            if (!option.isKeywordVarEnabled()) {
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Var();
+                }
+                if (context instanceof JavaScriptParser.VarModifierContext) {
+                    return ((JavaScriptParser.VarModifierContext) context).Var();
+                }
+            }
+            if (!option.isKeywordWithEnabled()) {
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).With();
+                }
+                if (context instanceof JavaScriptParser.WithStatementContext) {
+                    return ((JavaScriptParser.WithStatementContext) context).With();
+                }
+            }
+            if (!option.isKeywordYieldEnabled()) {
+                if (context instanceof JavaScriptParser.ImportedBindingContext) {
+                    return ((JavaScriptParser.ImportedBindingContext) context).Yield();
+                }
+                if (context instanceof JavaScriptParser.KeywordContext) {
+                    return ((JavaScriptParser.KeywordContext) context).Yield();
+                }
+                if (context instanceof JavaScriptParser.YieldStatementContext) {
+                    return ((JavaScriptParser.YieldStatementContext) context).Yield();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark module parallel compares the sequential module check with the parallel one
+ * on a module of many small functions.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkModuleParallel {
+    @Param({"false", "true"})
+    public boolean parallel;
+    private JavetSanitizerModuleChecker checker;
+    private String codeString;
+
+    @Benchmark
+    public boolean check() throws JavetSanitizerException {
+        return checker.check(codeString);
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 256; ++i) {
+            sb.append("function f").append(i).append("(a, b) {\n")
+                    .append("  const c = [a, b].map(x => x * ").append(i).append(");\n")
+                    .append("  return c.length > 0 ? c[0] + c[1] : 0;\n")
+                    .append("}\n");
+        }
+        sb.append("function main() { return f0(1, 2); }\n");
+        codeString = sb.toString();
+        checker = new JavetSanitizerModuleChecker(
+                JavetSanitizerOption.Default,
+                parallel ? ForkJoinPool.commonPool() : null);
+    }
+}
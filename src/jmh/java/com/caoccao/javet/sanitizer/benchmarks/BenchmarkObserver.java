@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.observers.IJavetSanitizerObserver;
+import com.caoccao.javet.sanitizer.observers.JavetSanitizerJfrObserver;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark observer measures the overhead of the phase observation.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkObserver {
+    @Param({"None", "NoOp", "Jfr"})
+    public String observerType;
+    private JavetSanitizerModuleChecker moduleChecker;
+
+    @Benchmark
+    public boolean checkModule() throws JavetSanitizerException {
+        return moduleChecker.check(BenchmarkCorpus.MODULE);
+    }
+
+    @Setup
+    public void setup() {
+        IJavetSanitizerObserver observer = null;
+        if ("NoOp".equals(observerType)) {
+            observer = (phase, elapsedNanos, inputSize, tokenCount, nodeCount) -> {
+            };
+        } else if ("Jfr".equals(observerType)) {
+            observer = JavetSanitizerJfrObserver.getInstance();
+        }
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone().setObserver(observer).seal();
+        moduleChecker = new JavetSanitizerModuleChecker(option);
+    }
+}
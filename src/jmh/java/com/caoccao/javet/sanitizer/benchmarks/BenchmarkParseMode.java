@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerSingleExpressionChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerParseMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark parse mode compares the full LL prediction with the two-stage SLL / LL prediction.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkParseMode {
+    @Param({"LL", "TwoStage"})
+    public JavetSanitizerParseMode parseMode;
+    private JavetSanitizerModuleChecker moduleChecker;
+    private JavetSanitizerSingleExpressionChecker singleExpressionChecker;
+
+    @Benchmark
+    public boolean checkModule() throws JavetSanitizerException {
+        return moduleChecker.check(BenchmarkCorpus.MODULE);
+    }
+
+    @Benchmark
+    public boolean checkSingleExpression() throws JavetSanitizerException {
+        return singleExpressionChecker.check(BenchmarkCorpus.EXPRESSION);
+    }
+
+    @Setup
+    public void setup() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setParseMode(parseMode)
+                .seal();
+        moduleChecker = new JavetSanitizerModuleChecker(option);
+        singleExpressionChecker = new JavetSanitizerSingleExpressionChecker(option);
+    }
+}
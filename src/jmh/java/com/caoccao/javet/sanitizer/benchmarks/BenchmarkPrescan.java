@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark prescan compares the checks with and without the token prescan
+ * on the module corpus that passes and on the same corpus with a disallowed identifier at the end.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkPrescan {
+    private static final String REJECTED_CODE_STRING = BenchmarkCorpus.MODULE + "\neval('1');\n";
+    @Param({"false", "true"})
+    public boolean prescanEnabled;
+    private JavetSanitizerStatementListChecker checker;
+
+    @Benchmark
+    public boolean checkPassed() throws JavetSanitizerException {
+        return checker.check(BenchmarkCorpus.MODULE);
+    }
+
+    @Benchmark
+    public JavetSanitizerException checkRejected() {
+        try {
+            checker.check(REJECTED_CODE_STRING);
+        } catch (JavetSanitizerException e) {
+            return e;
+        }
+        throw new IllegalStateException("The code string must be rejected.");
+    }
+
+    @Setup
+    public void setup() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setPrescanEnabled(prescanEnabled)
+                .seal();
+        checker = new JavetSanitizerStatementListChecker(option);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark rejection measures the rejection path on a disallowed identifier
+ * nested deep in the parse tree, where the walk is unwound from the innermost rule context.
+ * The walk benchmark walks a tree parsed once, so the parser does not hide the cost of the rejection.
+ * Run it with the GC profiler (-prof gc) to see the allocation per rejection.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BenchmarkRejection {
+    private static final int DEPTH = 32;
+    @Param({"true", "false"})
+    public boolean stackTraceEnabled;
+    private JavetSanitizerStatementListChecker checker;
+    private String codeString;
+    private JavetSanitizerOption option;
+    private JavaScriptStatementListParser parser;
+
+    @Benchmark
+    public JavetSanitizerException checkRejected() {
+        try {
+            checker.check(codeString);
+        } catch (JavetSanitizerException e) {
+            return e;
+        }
+        throw new IllegalStateException("The code string must be rejected.");
+    }
+
+    @Setup
+    public void setup() throws JavetSanitizerException {
+        option = JavetSanitizerOption.Default.toClone()
+                .setStackTraceEnabled(stackTraceEnabled)
+                .seal();
+        checker = new JavetSanitizerStatementListChecker(option);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < DEPTH; i++) {
+            sb.append("{ ");
+        }
+        sb.append("eval;");
+        for (int i = 0; i < DEPTH; i++) {
+            sb.append(" }");
+        }
+        codeString = sb.toString();
+        parser = new JavaScriptStatementListParser(codeString).setOption(option).parse();
+    }
+
+    @Benchmark
+    public JavetSanitizerException walkRejected() throws JavetSanitizerException {
+        try {
+            parser.walk(option.createListener());
+        } catch (JavetSanitizerException e) {
+            return e;
+        }
+        throw new IllegalStateException("The code string must be rejected.");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.checkers.IJavetSanitizerChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark retained heap measures the heap a checker retains after the check,
+ * with and without the verdict only mode, per checker type on the medium input that passes.
+ * The retained heap is reported by the retained kilobytes counter which sums up the measurement iterations.
+ * The table-driven lexer is selected to keep the inputs affordable.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Measurement(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+public class BenchmarkRetainedHeap {
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    @Param({"AnonymousFunction", "ExpressionSequence", "Module", "SingleExpression", "StatementList"})
+    public JavetSanitizerCheckerType checkerType;
+    @Param({"false", "true"})
+    public boolean verdictOnlyEnabled;
+    private IJavetSanitizerChecker checker;
+    private String codeString;
+    private JavetSanitizerOption option;
+
+    private static long getUsedHeap() {
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public boolean check(RetainedHeap retainedHeap) throws JavetSanitizerException {
+        final long usedHeap = getUsedHeap();
+        // The checker is kept by the benchmark like a long-lived checker is kept by the application.
+        checker = checkerType.createChecker(option);
+        final boolean passed = checker.check(codeString);
+        retainedHeap.retainedKilobytes += (getUsedHeap() - usedHeap) >> 10;
+        return passed;
+    }
+
+    @Setup
+    public void setup() {
+        option = JavetSanitizerOption.Default.toClone()
+                .setLexerType(JavetSanitizerLexerType.TableDriven)
+                .setVerdictOnlyEnabled(verdictOnlyEnabled)
+                .seal();
+        codeString = BenchmarkCheckers.createCodeString(
+                checkerType, BenchmarkCheckers.Payload.Pass, BenchmarkCheckers.Size.Medium);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        checker = null;
+    }
+
+    /**
+     * The type Retained heap counts the heap retained by the checker.
+     *
+     * @since 0.3.0
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RetainedHeap {
+        public long retainedKilobytes;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            retainedKilobytes = 0;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.benchmarks;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptParserEngine;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptTableDrivenLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Benchmark token memory compares the heap retained by the common token stream
+ * with the heap retained by the compact token stream of the parser engine,
+ * after the tokens of a multi-megabyte bundle are buffered and after the bundle is parsed.
+ * The retained heap is reported by the retained kilobytes counter which sums up the measurement iterations.
+ * Both token streams are fed by the table-driven lexer to keep the bundle affordable.
+ *
+ * @since 0.3.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Measurement(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+public class BenchmarkTokenMemory {
+    private static final int BUNDLE_SIZE = 4 * 1024 * 1024;
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private String bundle;
+    @Param({"Common", "Compact"})
+    public String tokenStore;
+
+    private static long getUsedHeap() {
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public int fill(RetainedHeap retainedHeap) {
+        final long usedHeap = getUsedHeap();
+        if ("Compact".equals(tokenStore)) {
+            JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(bundle);
+            try {
+                javaScriptParserEngine.setLexerType(JavetSanitizerLexerType.TableDriven);
+                javaScriptParserEngine.getTokenStream().fill();
+                retainedHeap.retainedKilobytes += (getUsedHeap() - usedHeap) >> 10;
+                return javaScriptParserEngine.getTokenStream().size();
+            } finally {
+                javaScriptParserEngine.release();
+            }
+        }
+        CommonTokenStream commonTokenStream = newCommonTokenStream();
+        commonTokenStream.fill();
+        retainedHeap.retainedKilobytes += (getUsedHeap() - usedHeap) >> 10;
+        return commonTokenStream.size();
+    }
+
+    private CommonTokenStream newCommonTokenStream() {
+        JavaScriptTableDrivenLexer tableDrivenLexer = new JavaScriptTableDrivenLexer(CharStreams.fromString(bundle));
+        tableDrivenLexer.setUseStrictDefault(true);
+        return new CommonTokenStream(tableDrivenLexer);
+    }
+
+    @Benchmark
+    public int parse(RetainedHeap retainedHeap) {
+        final long usedHeap = getUsedHeap();
+        if ("Compact".equals(tokenStore)) {
+            JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(bundle);
+            try {
+                javaScriptParserEngine.setLexerType(JavetSanitizerLexerType.TableDriven);
+                javaScriptParserEngine.getJavaScriptParser().getInterpreter().setPredictionMode(PredictionMode.SLL);
+                JavaScriptParser.ProgramContext programContext = javaScriptParserEngine.getJavaScriptParser().program();
+                retainedHeap.retainedKilobytes += (getUsedHeap() - usedHeap) >> 10;
+                return programContext.getChildCount();
+            } finally {
+                javaScriptParserEngine.release();
+            }
+        }
+        JavaScriptParser javaScriptParser = new JavaScriptParser(newCommonTokenStream());
+        javaScriptParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        JavaScriptParser.ProgramContext programContext = javaScriptParser.program();
+        retainedHeap.retainedKilobytes += (getUsedHeap() - usedHeap) >> 10;
+        return programContext.getChildCount();
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(BUNDLE_SIZE + BenchmarkCorpus.MODULE.length());
+        while (sb.length() < BUNDLE_SIZE) {
+            sb.append(BenchmarkCorpus.MODULE);
+        }
+        bundle = sb.toString();
+    }
+
+    /**
+     * The type Retained heap counts the heap retained by the token stream and the parse tree.
+     *
+     * @since 0.3.0
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RetainedHeap {
+        public long retainedKilobytes;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            retainedKilobytes = 0;
+        }
+    }
+}
@@ -23,7 +23,7 @@ public abstract class JavaScriptParserBase extends Parser
      * Whether the previous token value equals to @param str
      */
     protected boolean prev(String str) {
-        return _input.LT(-1).getText().equals(str);
+        return textEquals(_input.LT(-1), str);
     }
 
     /**
@@ -37,7 +37,19 @@ public abstract class JavaScriptParserBase extends Parser
      * Whether the next token value equals to @param str
      */
     protected boolean next(String str) {
-        return _input.LT(1).getText().equals(str);
+        return textEquals(_input.LT(1), str);
+    }
+
+    /**
+     * Whether the token text equals to @param str. The token length in code points is compared
+     * first so that the text is not copied out of the char stream on a mismatch.
+     */
+    private static boolean textEquals(Token token, String str) {
+        if (token.getType() != Token.EOF && token.getStartIndex() >= 0
+                && token.getStopIndex() - token.getStartIndex() + 1 != str.codePointCount(0, str.length())) {
+            return false;
+        }
+        return token.getText().equals(str);
     }
 
     protected boolean notLineTerminator() {
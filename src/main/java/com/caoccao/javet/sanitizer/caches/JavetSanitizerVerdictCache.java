@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.caches;
+
+import com.caoccao.javet.sanitizer.checkers.IJavetSanitizerChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerErrorContext;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.utils.StringUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer verdict cache is a bounded LRU cache of check verdicts.
+ * <p>
+ * The key combines the fingerprint of the sealed option, the listener function and
+ * the reserved identifier matcher of the option, the checker type and the SHA-256 of the code.
+ * Both the pass verdicts and the javet sanitizer exceptions are cached.
+ * Checks with an option that is not sealed bypass the cache.
+ * On a hit the checker is not called, so the parse results of the checker are not available.
+ * The javet sanitizer cached checker resets them on a hit.
+ *
+ * @since 0.3.0
+ */
+public class JavetSanitizerVerdictCache {
+    /**
+     * The constant DEFAULT_MAX_WEIGHT in approximate bytes.
+     *
+     * @since 0.3.0
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 16L * 1024L * 1024L;
+    /**
+     * The constant ENTRY_WEIGHT is the approximate bytes of an entry without the error.
+     *
+     * @since 0.3.0
+     */
+    public static final long ENTRY_WEIGHT = 320L;
+    /**
+     * The constant ERROR_WEIGHT is the approximate bytes of an error without the source code.
+     *
+     * @since 0.3.0
+     */
+    public static final long ERROR_WEIGHT = 512L;
+    private final Map<Key, Verdict> map;
+    private final long maxWeight;
+    private long evictionCount;
+    private long hitCount;
+    private long missCount;
+    private long weight;
+
+    /**
+     * Instantiates a new Javet sanitizer verdict cache.
+     *
+     * @since 0.3.0
+     */
+    public JavetSanitizerVerdictCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Instantiates a new Javet sanitizer verdict cache.
+     *
+     * @param maxWeight the max weight in approximate bytes
+     * @since 0.3.0
+     */
+    public JavetSanitizerVerdictCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive.");
+        }
+        evictionCount = 0;
+        hitCount = 0;
+        map = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxWeight = maxWeight;
+        missCount = 0;
+        weight = 0;
+    }
+
+    /**
+     * Check the code string by the checker with the cached verdict if it exists.
+     *
+     * @param checker    the checker
+     * @param codeString the code string
+     * @return true : checked, false : not checked
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public boolean check(IJavetSanitizerChecker checker, String codeString) throws JavetSanitizerException {
+        Objects.requireNonNull(checker);
+        if (codeString == null || !checker.getOption().isSealed()) {
+            return checker.check(codeString);
+        }
+        Key key = new Key(checker, codeString);
+        Verdict verdict;
+        synchronized (this) {
+            verdict = map.get(key);
+            if (verdict == null) {
+                ++missCount;
+            } else {
+                ++hitCount;
+            }
+        }
+        if (verdict == null) {
+            try {
+                boolean result = checker.check(codeString);
+                put(key, new Verdict(result, null));
+                return result;
+            } catch (JavetSanitizerException e) {
+                // Errors in the general range, e.g. unknown error or listener not found, are not cached.
+                if (e.getError().getCode() >= 100) {
+                    JavetSanitizerException cachedException = e.toClone();
+                    cachedException.setStackTrace(new StackTraceElement[0]);
+                    put(key, new Verdict(false, cachedException));
+                }
+                throw e;
+            }
+        }
+        if (verdict.exception != null) {
+            throw verdict.exception.toClone();
+        }
+        return verdict.result;
+    }
+
+    /**
+     * Gets eviction count.
+     *
+     * @return the eviction count
+     * @since 0.3.0
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets hit count.
+     *
+     * @return the hit count
+     * @since 0.3.0
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets max weight.
+     *
+     * @return the max weight
+     * @since 0.3.0
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Gets miss count.
+     *
+     * @return the miss count
+     * @since 0.3.0
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the size
+     * @since 0.3.0
+     */
+    public synchronized int getSize() {
+        return map.size();
+    }
+
+    /**
+     * Gets weight.
+     *
+     * @return the weight
+     * @since 0.3.0
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Invalidate the verdict of the code string checked by the checker.
+     *
+     * @param checker    the checker
+     * @param codeString the code string
+     * @return true : invalidated, false : not found
+     * @since 0.3.0
+     */
+    public synchronized boolean invalidate(IJavetSanitizerChecker checker, String codeString) {
+        if (codeString == null || !checker.getOption().isSealed()) {
+            return false;
+        }
+        Verdict verdict = map.remove(new Key(checker, codeString));
+        if (verdict == null) {
+            return false;
+        }
+        weight -= verdict.weight;
+        return true;
+    }
+
+    /**
+     * Invalidate all the verdicts checked with the option or an equal option.
+     *
+     * @param option the option
+     * @return the number of invalidated verdicts
+     * @since 0.3.0
+     */
+    public synchronized int invalidate(JavetSanitizerOption option) {
+        final String fingerprint = option.getFingerprint();
+        int count = 0;
+        Iterator<Map.Entry<Key, Verdict>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Verdict> entry = iterator.next();
+            if (entry.getKey().fingerprint.equals(fingerprint)) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Invalidate all the verdicts.
+     *
+     * @since 0.3.0
+     */
+    public synchronized void invalidateAll() {
+        map.clear();
+        weight = 0;
+    }
+
+    private synchronized void put(Key key, Verdict verdict) {
+        if (verdict.weight > maxWeight) {
+            return;
+        }
+        Verdict oldVerdict = map.put(key, verdict);
+        if (oldVerdict != null) {
+            weight -= oldVerdict.weight;
+        }
+        weight += verdict.weight;
+        Iterator<Verdict> iterator = map.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+            ++evictionCount;
+        }
+    }
+
+    /**
+     * Reset the statistics.
+     *
+     * @since 0.3.0
+     */
+    public synchronized void resetStatistics() {
+        evictionCount = 0;
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    private static final class Key {
+        private final Class<?> checkerClass;
+        private final String codeHash;
+        private final String fingerprint;
+        private final int hashCode;
+        private final Object listenerFunction;
+        private final Object reservedIdentifierMatcher;
+
+        private Key(IJavetSanitizerChecker checker, String codeString) {
+            JavetSanitizerOption option = checker.getOption();
+            checkerClass = checker.getClass();
+            codeHash = StringUtils.toSHA256(codeString);
+            fingerprint = option.getFingerprint();
+            listenerFunction = option.getListenerFunction();
+            reservedIdentifierMatcher = option.getReservedIdentifierMatcher();
+            hashCode = Objects.hash(checkerClass, codeHash, fingerprint,
+                    System.identityHashCode(listenerFunction), System.identityHashCode(reservedIdentifierMatcher));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return checkerClass == key.checkerClass
+                    && listenerFunction == key.listenerFunction
+                    && reservedIdentifierMatcher == key.reservedIdentifierMatcher
+                    && codeHash.equals(key.codeHash)
+                    && fingerprint.equals(key.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Verdict {
+        private final JavetSanitizerException exception;
+        private final boolean result;
+        private final long weight;
+
+        private Verdict(boolean result, JavetSanitizerException exception) {
+            this.exception = exception;
+            this.result = result;
+            long weight = ENTRY_WEIGHT;
+            if (exception != null) {
+                weight += ERROR_WEIGHT;
+                JavetSanitizerErrorContext context = exception.getContext();
+                if (context != null && context.getSourceCode() != null) {
+                    weight += 2L * context.getSourceCode().length();
+                }
+            }
+            this.weight = weight;
+        }
+    }
+}
@@ -17,9 +17,12 @@
 package com.caoccao.javet.sanitizer.checkers;
 
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.observers.IJavetSanitizerObserver;
+import com.caoccao.javet.sanitizer.observers.JavetSanitizerPhase;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.BaseJavaScriptContextParser;
 import com.caoccao.javet.sanitizer.utils.StringUtils;
+import org.antlr.v4.runtime.CharStream;
 
 import java.util.Objects;
 
@@ -65,6 +68,13 @@ public abstract class BaseJavetSanitizerChecker
         reset();
     }
 
+    @Override
+    public boolean check(CharStream charStream) throws JavetSanitizerException {
+        reset();
+        validateBlank(charStream);
+        return true;
+    }
+
     @Override
     public boolean check(String codeString) throws JavetSanitizerException {
         reset();
@@ -72,11 +82,48 @@ public abstract class BaseJavetSanitizerChecker
         return true;
     }
 
+    /**
+     * Check root parser.
+     *
+     * @param rootParser the root parser
+     * @return true : checked, false : not checked
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected boolean checkRootParser(Parser rootParser) throws JavetSanitizerException {
+        try {
+            rootParser.setOption(option).parse();
+            // The rules are checked during the parse if streaming is enabled.
+            if (!option.isStreamingEnabled()) {
+                rootParser.walk(option.createListener());
+            }
+            this.rootParser = rootParser;
+            validateRootParser();
+            return true;
+        } finally {
+            if (option.isVerdictOnlyEnabled()) {
+                rootParser.release();
+                release();
+            }
+        }
+    }
+
     @Override
     public JavetSanitizerOption getOption() {
         return option;
     }
 
+    /**
+     * Release the parsers of the last check so that the checker only keeps the verdict
+     * and the small metadata of the last check.
+     * It is called after each check if the verdict only mode is enabled.
+     *
+     * @since 0.3.0
+     */
+    protected void release() {
+        rootParser = null;
+    }
+
     /**
      * Reset.
      *
@@ -86,6 +133,39 @@ public abstract class BaseJavetSanitizerChecker
         rootParser = null;
     }
 
+    /**
+     * Validate the root parser after the security check.
+     *
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected void validate() throws JavetSanitizerException {
+    }
+
+    /**
+     * Validate blank.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected void validateBlank(CharStream charStream) throws JavetSanitizerException {
+        final int index = charStream.index();
+        final int size = charStream.size();
+        try {
+            charStream.seek(0);
+            for (int i = 1; i <= size; i++) {
+                final int codePoint = charStream.LA(i);
+                if (codePoint != ' ' && codePoint != '\t' && codePoint != '\r' && codePoint != '\n') {
+                    return;
+                }
+            }
+        } finally {
+            charStream.seek(index);
+        }
+        throw JavetSanitizerException.emptyCodeString();
+    }
+
     /**
      * Validate blank.
      *
@@ -98,4 +178,25 @@ public abstract class BaseJavetSanitizerChecker
             throw JavetSanitizerException.emptyCodeString();
         }
     }
+
+    /**
+     * Validate the root parser and report the time spent to the observer as the validate phase.
+     *
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected final void validateRootParser() throws JavetSanitizerException {
+        final IJavetSanitizerObserver observer = option.getObserver();
+        if (observer == null) {
+            validate();
+            return;
+        }
+        final long startTime = System.nanoTime();
+        try {
+            validate();
+        } finally {
+            observer.onPhase(JavetSanitizerPhase.Validate, System.nanoTime() - startTime,
+                    rootParser.getInputSize(), rootParser.getTokenCount(), rootParser.getNodeCount());
+        }
+    }
 }
@@ -18,6 +18,14 @@ package com.caoccao.javet.sanitizer.checkers;
 
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptCharStreams;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
 
 /**
  * The interface Javet sanitizer checker.
@@ -25,6 +33,46 @@ import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
  * @since 0.1.0
  */
 public interface IJavetSanitizerChecker {
+    /**
+     * Check the given char stream.
+     * The default implementation materializes the char stream as a code string.
+     *
+     * @param charStream the char stream
+     * @return true : checked, false : not checked
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    default boolean check(CharStream charStream) throws JavetSanitizerException {
+        Objects.requireNonNull(charStream);
+        return check(charStream.getText(Interval.of(0, charStream.size() - 1)));
+    }
+
+    /**
+     * Check the given file channel. The file is memory-mapped and decoded as UTF-8.
+     *
+     * @param fileChannel the file channel
+     * @return true : checked, false : not checked
+     * @throws IOException             the io exception
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    default boolean check(FileChannel fileChannel) throws IOException, JavetSanitizerException {
+        return check(JavaScriptCharStreams.fromFileChannel(fileChannel, null));
+    }
+
+    /**
+     * Check the given file. The file is memory-mapped and decoded as UTF-8.
+     *
+     * @param path the path
+     * @return true : checked, false : not checked
+     * @throws IOException             the io exception
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    default boolean check(Path path) throws IOException, JavetSanitizerException {
+        return check(JavaScriptCharStreams.fromPath(path));
+    }
+
     /**
      * Check the given code string.
      *
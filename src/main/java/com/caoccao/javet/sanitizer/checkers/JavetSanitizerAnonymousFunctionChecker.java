@@ -20,6 +20,7 @@ package com.caoccao.javet.sanitizer.checkers;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptAnonymousFunctionParser;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type Javet sanitizer anonymous function checker.
@@ -47,12 +48,15 @@ public class JavetSanitizerAnonymousFunctionChecker
         super(option);
     }
 
+    @Override
+    public boolean check(CharStream charStream) throws JavetSanitizerException {
+        super.check(charStream);
+        return checkRootParser(new JavaScriptAnonymousFunctionParser(charStream));
+    }
+
     @Override
     public boolean check(String codeString) throws JavetSanitizerException {
         super.check(codeString);
-        rootParser = new JavaScriptAnonymousFunctionParser(codeString)
-                .parse()
-                .walk(option.getListener());
-        return true;
+        return checkRootParser(new JavaScriptAnonymousFunctionParser(codeString));
     }
 }
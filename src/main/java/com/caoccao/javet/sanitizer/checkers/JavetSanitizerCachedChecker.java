@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.checkers;
+
+import com.caoccao.javet.sanitizer.caches.JavetSanitizerVerdictCache;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer cached checker puts a verdict cache in front of another checker.
+ * <p>
+ * On a hit the wrapped checker is not called. The parse results it holds, e.g. the root parser,
+ * the statement parsers and the function parser map, are reset so that they never describe
+ * an earlier code string. They are only available after a miss.
+ *
+ * @since 0.3.0
+ */
+public class JavetSanitizerCachedChecker implements IJavetSanitizerChecker {
+    /**
+     * The Cache.
+     *
+     * @since 0.3.0
+     */
+    protected final JavetSanitizerVerdictCache cache;
+    /**
+     * The Checker.
+     *
+     * @since 0.3.0
+     */
+    protected final IJavetSanitizerChecker checker;
+
+    /**
+     * Instantiates a new Javet sanitizer cached checker.
+     *
+     * @param checker the checker
+     * @param cache   the cache
+     * @since 0.3.0
+     */
+    public JavetSanitizerCachedChecker(IJavetSanitizerChecker checker, JavetSanitizerVerdictCache cache) {
+        this.cache = Objects.requireNonNull(cache);
+        this.checker = Objects.requireNonNull(checker);
+    }
+
+    @Override
+    public boolean check(String codeString) throws JavetSanitizerException {
+        if (checker instanceof BaseJavetSanitizerChecker) {
+            // The checker resets itself on a miss, so this only takes effect on a hit.
+            ((BaseJavetSanitizerChecker) checker).reset();
+            return cache.check(checker, codeString);
+        }
+        try {
+            return cache.check(checker, codeString);
+        } finally {
+            if (checker instanceof JavetSanitizerIncrementalChecker) {
+                // The passed code string is kept on a miss so that the next check stays incremental.
+                JavetSanitizerIncrementalChecker incrementalChecker = (JavetSanitizerIncrementalChecker) checker;
+                if (incrementalChecker.getCodeString() != codeString) {
+                    incrementalChecker.reset();
+                    incrementalChecker.getChecker().reset();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets cache.
+     *
+     * @return the cache
+     * @since 0.3.0
+     */
+    public JavetSanitizerVerdictCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Gets checker.
+     * The parse results of the checker are reset on a hit, so they are only available after a miss.
+     *
+     * @return the checker
+     * @since 0.3.0
+     */
+    public IJavetSanitizerChecker getChecker() {
+        return checker;
+    }
+
+    @Override
+    public JavetSanitizerOption getOption() {
+        return checker.getOption();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.checkers;
+
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+
+import java.util.function.Function;
+
+/**
+ * The enum Javet sanitizer checker type.
+ *
+ * @since 0.3.0
+ */
+public enum JavetSanitizerCheckerType {
+    /**
+     * Anonymous function checker.
+     *
+     * @since 0.3.0
+     */
+    AnonymousFunction(JavetSanitizerAnonymousFunctionChecker::new),
+    /**
+     * Expression sequence checker.
+     *
+     * @since 0.3.0
+     */
+    ExpressionSequence(JavetSanitizerExpressionSequenceChecker::new),
+    /**
+     * Module checker.
+     *
+     * @since 0.3.0
+     */
+    Module(JavetSanitizerModuleChecker::new),
+    /**
+     * Single expression checker.
+     *
+     * @since 0.3.0
+     */
+    SingleExpression(JavetSanitizerSingleExpressionChecker::new),
+    /**
+     * Statement list checker.
+     *
+     * @since 0.3.0
+     */
+    StatementList(JavetSanitizerStatementListChecker::new),
+    ;
+
+    private final Function<JavetSanitizerOption, IJavetSanitizerChecker> checkerFunction;
+
+    JavetSanitizerCheckerType(Function<JavetSanitizerOption, IJavetSanitizerChecker> checkerFunction) {
+        this.checkerFunction = checkerFunction;
+    }
+
+    /**
+     * Create a new checker of this type.
+     *
+     * @param option the option
+     * @return the checker
+     * @since 0.3.0
+     */
+    public IJavetSanitizerChecker createChecker(JavetSanitizerOption option) {
+        return checkerFunction.apply(option);
+    }
+}
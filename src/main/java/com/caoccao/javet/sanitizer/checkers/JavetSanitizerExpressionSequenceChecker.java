@@ -20,6 +20,7 @@ package com.caoccao.javet.sanitizer.checkers;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptExpressionSequenceParser;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type Javet sanitizer expression sequence checker.
@@ -45,12 +46,15 @@ public class JavetSanitizerExpressionSequenceChecker
         super(option);
     }
 
+    @Override
+    public boolean check(CharStream charStream) throws JavetSanitizerException {
+        super.check(charStream);
+        return checkRootParser(new JavaScriptExpressionSequenceParser(charStream));
+    }
+
     @Override
     public boolean check(String codeString) throws JavetSanitizerException {
         super.check(codeString);
-        rootParser = new JavaScriptExpressionSequenceParser(codeString)
-                .parse()
-                .walk(option.getListener());
-        return true;
+        return checkRootParser(new JavaScriptExpressionSequenceParser(codeString));
     }
 }
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.checkers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementParser;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptTableDrivenLexer;
+import com.caoccao.javet.sanitizer.utils.StringUtils;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer incremental checker keeps the top-level statements of the last code string
+ * that passed the check, and re-checks only the statements whose source ranges are changed by a new version.
+ * <p>
+ * The changed range is widened to the statements it touches plus one unchanged statement on each side.
+ * That window is parsed and walked alone, and the unchanged statements are reused only if the window
+ * ends at the same statement boundaries as before, because an edit may merge a statement with its neighbour,
+ * e.g. by removing a semicolon. The statement list or module rules are then validated over all the statements.
+ * Whenever the window cannot prove the verdict, e.g. the window is rejected, the whole code string is checked
+ * by the checker so that the verdict and the error are always the same as the ones of a full check.
+ * The max code length is enforced on the whole code string. The token count, the node count and the nesting depth
+ * are budgets of the whole code string that a window cannot tell, so every check is a full check
+ * if any of them is set.
+ * <p>
+ * It is not thread-safe.
+ *
+ * @since 0.3.0
+ */
+public class JavetSanitizerIncrementalChecker implements IJavetSanitizerChecker {
+    /**
+     * The Checker.
+     *
+     * @since 0.3.0
+     */
+    protected final JavetSanitizerStatementListChecker checker;
+    /**
+     * The Statement parsers of the passed code string.
+     *
+     * @since 0.3.0
+     */
+    protected final List<JavaScriptStatementParser> statementParsers;
+    /**
+     * The Window checker.
+     *
+     * @since 0.3.0
+     */
+    protected final JavetSanitizerStatementListChecker windowChecker;
+    /**
+     * The Code string of the last check.
+     *
+     * @since 0.3.0
+     */
+    protected String codeString;
+    /**
+     * The Passed code string.
+     *
+     * @since 0.3.0
+     */
+    protected String passedCodeString;
+    /**
+     * The Rechecked statement count of the last check.
+     *
+     * @since 0.3.0
+     */
+    protected int recheckedStatementCount;
+    /**
+     * The Statement positions of the passed code string.
+     *
+     * @since 0.3.0
+     */
+    protected int[] statementPositions;
+
+    /**
+     * Instantiates a new Javet sanitizer incremental checker.
+     *
+     * @param checker the statement list checker or the module checker, not in the verdict only mode
+     * @since 0.3.0
+     */
+    public JavetSanitizerIncrementalChecker(JavetSanitizerStatementListChecker checker) {
+        this.checker = Objects.requireNonNull(checker);
+        if (checker.getOption().isVerdictOnlyEnabled()) {
+            // The statement parsers of the passed code string are reused by the next check.
+            throw new IllegalArgumentException("Option " + checker.getOption().getName() + " must not be verdict only.");
+        }
+        statementParsers = new ArrayList<>();
+        windowChecker = new JavetSanitizerStatementListChecker(checker.getOption());
+        reset();
+    }
+
+    private static int[] toStatementPositions(
+            List<JavaScriptStatementParser> statementParsers, String codeString, int offset) {
+        final int length = codeString.length();
+        final boolean bmp = codeString.codePointCount(0, length) == length;
+        final int size = statementParsers.size();
+        int[] statementPositions = new int[size];
+        for (int i = 0; i < size; ++i) {
+            int position = statementParsers.get(i).getContext().getStart().getStartIndex();
+            statementPositions[i] = offset + (bmp ? position : codeString.offsetByCodePoints(0, position));
+        }
+        return statementPositions;
+    }
+
+    /**
+     * Check the new version of the code string.
+     * The changed range is the difference to the code string that passed the check last time.
+     *
+     * @param codeString the code string
+     * @return true : passed
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    @Override
+    public boolean check(String codeString) throws JavetSanitizerException {
+        this.codeString = Objects.requireNonNull(codeString);
+        if (passedCodeString == null || isFullCheckRequired(codeString)) {
+            return checkFully(codeString);
+        }
+        final int oldLength = passedCodeString.length();
+        final int newLength = codeString.length();
+        final int minLength = Math.min(oldLength, newLength);
+        int prefixLength = 0;
+        while (prefixLength < minLength && passedCodeString.charAt(prefixLength) == codeString.charAt(prefixLength)) {
+            ++prefixLength;
+        }
+        if (prefixLength == oldLength && oldLength == newLength) {
+            recheckedStatementCount = 0;
+            return true;
+        }
+        int suffixLength = 0;
+        while (suffixLength < minLength - prefixLength
+                && passedCodeString.charAt(oldLength - 1 - suffixLength)
+                == codeString.charAt(newLength - 1 - suffixLength)) {
+            ++suffixLength;
+        }
+        if (checkWindow(codeString, prefixLength, oldLength - suffixLength)) {
+            return true;
+        }
+        return checkFully(codeString);
+    }
+
+    /**
+     * Check the text edit which replaces the range of the code string of the last check.
+     *
+     * @param startPosition the start position
+     * @param endPosition   the end position
+     * @param replacement   the replacement
+     * @return true : passed
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public boolean check(int startPosition, int endPosition, String replacement) throws JavetSanitizerException {
+        String previousCodeString = codeString == null ? "" : codeString;
+        return check(previousCodeString.substring(0, startPosition)
+                + Objects.requireNonNull(replacement)
+                + previousCodeString.substring(endPosition));
+    }
+
+    /**
+     * Check the code string fully by the checker.
+     *
+     * @param codeString the code string
+     * @return true : passed
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected boolean checkFully(String codeString) throws JavetSanitizerException {
+        checker.check(codeString);
+        passedCodeString = codeString;
+        statementParsers.clear();
+        statementParsers.addAll(checker.statementParsers);
+        statementPositions = toStatementPositions(statementParsers, codeString, 0);
+        recheckedStatementCount = statementParsers.size();
+        return true;
+    }
+
+    /**
+     * Check the window of the statements touched by the changed range.
+     *
+     * @param codeString      the code string
+     * @param changedPosition the start position of the changed range
+     * @param oldEndPosition  the end position of the changed range in the passed code string
+     * @return true : passed, false : the verdict is unknown
+     * @since 0.3.0
+     */
+    protected boolean checkWindow(String codeString, int changedPosition, int oldEndPosition) {
+        final int size = statementParsers.size();
+        final int delta = codeString.length() - passedCodeString.length();
+        final int firstChangedIndex = getStatementIndex(changedPosition);
+        final int lastChangedIndex = getStatementIndex(Math.max(changedPosition, oldEndPosition - 1));
+        final int firstIndex = Math.max(firstChangedIndex - 1, 0);
+        final int lastIndex = Math.min(lastChangedIndex + 1, size - 1);
+        final int windowStartPosition = firstIndex == 0 ? 0 : statementPositions[firstIndex];
+        final int windowEndPosition = delta + (lastIndex + 1 < size
+                ? statementPositions[lastIndex + 1]
+                : passedCodeString.length());
+        final String windowCodeString = codeString.substring(windowStartPosition, windowEndPosition);
+        List<JavaScriptStatementParser> windowStatementParsers;
+        int[] windowStatementPositions;
+        try {
+            windowChecker.check(windowCodeString);
+            windowStatementParsers = new ArrayList<>(windowChecker.statementParsers);
+            windowStatementPositions = toStatementPositions(
+                    windowStatementParsers, windowCodeString, windowStartPosition);
+        } catch (JavetSanitizerException e) {
+            return false;
+        }
+        final int windowSize = windowStatementParsers.size();
+        // The unchanged statements around the window must start where they started.
+        if (firstIndex < firstChangedIndex
+                && (windowSize < 2 || windowStatementPositions[1] != statementPositions[firstIndex + 1])) {
+            return false;
+        }
+        if (lastIndex > lastChangedIndex
+                && windowStatementPositions[windowSize - 1] != statementPositions[lastIndex] + delta) {
+            return false;
+        }
+        // The root rule does not consume the end of the input, so the tokens after the last statement are checked.
+        Token stopToken = windowStatementParsers.get(windowSize - 1).getContext().getStop();
+        final int stopPosition = windowCodeString.offsetByCodePoints(0, stopToken.getStopIndex() + 1);
+        if (!isHidden(windowCodeString.substring(stopPosition))) {
+            return false;
+        }
+        List<JavaScriptStatementParser> newStatementParsers = new ArrayList<>();
+        newStatementParsers.addAll(statementParsers.subList(0, firstIndex));
+        newStatementParsers.addAll(windowStatementParsers);
+        newStatementParsers.addAll(statementParsers.subList(lastIndex + 1, size));
+        try {
+            checker.reset();
+            checker.statementParsers.addAll(newStatementParsers);
+            checker.validateStatements();
+        } catch (JavetSanitizerException e) {
+            return false;
+        }
+        int[] newStatementPositions = new int[newStatementParsers.size()];
+        System.arraycopy(statementPositions, 0, newStatementPositions, 0, firstIndex);
+        System.arraycopy(windowStatementPositions, 0, newStatementPositions, firstIndex, windowSize);
+        for (int i = lastIndex + 1; i < size; ++i) {
+            newStatementPositions[i - lastIndex - 1 + firstIndex + windowSize] = statementPositions[i] + delta;
+        }
+        passedCodeString = codeString;
+        statementParsers.clear();
+        statementParsers.addAll(newStatementParsers);
+        statementPositions = newStatementPositions;
+        recheckedStatementCount = windowSize;
+        return true;
+    }
+
+    /**
+     * Gets checker.
+     *
+     * @return the checker
+     * @since 0.3.0
+     */
+    public JavetSanitizerStatementListChecker getChecker() {
+        return checker;
+    }
+
+    /**
+     * Gets code string of the last check.
+     *
+     * @return the code string
+     * @since 0.3.0
+     */
+    public String getCodeString() {
+        return codeString;
+    }
+
+    @Override
+    public JavetSanitizerOption getOption() {
+        return checker.getOption();
+    }
+
+    /**
+     * Gets passed code string.
+     *
+     * @return the passed code string
+     * @since 0.3.0
+     */
+    public String getPassedCodeString() {
+        return passedCodeString;
+    }
+
+    /**
+     * Gets the count of the statements parsed and walked by the last check.
+     *
+     * @return the rechecked statement count
+     * @since 0.3.0
+     */
+    public int getRecheckedStatementCount() {
+        return recheckedStatementCount;
+    }
+
+    private int getStatementIndex(int position) {
+        int low = 1;
+        int high = statementPositions.length - 1;
+        int index = 0;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (statementPositions[middle] <= position) {
+                index = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets statement parsers of the passed code string.
+     * The statement parsers of the unchanged statements are reused across the checks.
+     *
+     * @return the statement parsers
+     * @since 0.3.0
+     */
+    public List<JavaScriptStatementParser> getStatementParsers() {
+        return Collections.unmodifiableList(statementParsers);
+    }
+
+    private boolean isFullCheckRequired(String codeString) {
+        final JavetSanitizerOption option = getOption();
+        if (option.getMaxTokenCount() > 0 || option.getMaxNodeCount() > 0 || option.getMaxNestingDepth() > 0) {
+            return true;
+        }
+        // The full check reports the code length that is too large.
+        final int maxCodeLength = option.getMaxCodeLength();
+        return maxCodeLength > 0
+                && codeString.length() > maxCodeLength
+                && codeString.codePointCount(0, codeString.length()) > maxCodeLength;
+    }
+
+    private boolean isHidden(String codeString) {
+        if (StringUtils.isBlank(codeString)) {
+            return true;
+        }
+        final TokenSource tokenSource;
+        if (getOption().getLexerType() == JavetSanitizerLexerType.TableDriven) {
+            tokenSource = new JavaScriptTableDrivenLexer(CharStreams.fromString(codeString));
+        } else {
+            JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+            javaScriptLexer.removeErrorListeners();
+            tokenSource = javaScriptLexer;
+        }
+        Token token = tokenSource.nextToken();
+        while (token.getType() != Token.EOF) {
+            if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                return false;
+            }
+            token = tokenSource.nextToken();
+        }
+        return true;
+    }
+
+    /**
+     * Reset the session so that the next check is a full check.
+     *
+     * @since 0.3.0
+     */
+    public void reset() {
+        codeString = null;
+        passedCodeString = null;
+        recheckedStatementCount = 0;
+        statementParsers.clear();
+        statementPositions = null;
+    }
+}
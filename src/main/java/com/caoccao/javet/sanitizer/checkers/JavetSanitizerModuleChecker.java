@@ -19,13 +19,20 @@ package com.caoccao.javet.sanitizer.checkers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.listeners.JavetSanitizerListener;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptFunctionDeclarationParser;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementParser;
+import org.antlr.v4.runtime.ParserRuleContext;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * The type Javet sanitizer module checker.
@@ -39,6 +46,24 @@ public class JavetSanitizerModuleChecker extends JavetSanitizerStatementListChec
      * @since 0.1.0
      */
     protected Map<String, JavaScriptFunctionDeclarationParser> functionParserMap;
+    /**
+     * The Function identifier set in source order. It is kept in the verdict only mode.
+     *
+     * @since 0.3.0
+     */
+    protected Set<String> functionIdentifierSet;
+    /**
+     * The Fork join pool. The top-level statements are checked in parallel if it is set.
+     *
+     * @since 0.3.0
+     */
+    protected ForkJoinPool forkJoinPool;
+    /**
+     * The Function declaration parsers built by the statement tasks, aligned with the statement parsers.
+     *
+     * @since 0.3.0
+     */
+    protected JavaScriptFunctionDeclarationParser[] functionDeclarationParsers;
 
     /**
      * Instantiates a new Javet sanitizer module checker.
@@ -56,35 +81,109 @@ public class JavetSanitizerModuleChecker extends JavetSanitizerStatementListChec
      * @since 0.1.0
      */
     public JavetSanitizerModuleChecker(JavetSanitizerOption option) {
+        this(option, null);
+    }
+
+    /**
+     * Instantiates a new Javet sanitizer module checker which checks the top-level statements in parallel.
+     * <p>
+     * The module is parsed once. Then each top-level statement is walked by its own listener
+     * and its function declaration is parsed in a fork/join task.
+     * The results are merged in source order, so the first violation in source order is reported
+     * and the function parser map is the same as the one built sequentially.
+     * A custom listener must not rely on the state across the top-level statements,
+     * because each statement is walked by a new listener created by the option.
+     *
+     * @param option       the option
+     * @param forkJoinPool the fork join pool, null for the sequential check
+     * @since 0.3.0
+     */
+    public JavetSanitizerModuleChecker(JavetSanitizerOption option, ForkJoinPool forkJoinPool) {
         super(option);
+        this.forkJoinPool = forkJoinPool;
     }
 
     @Override
-    public boolean check(String codeString) throws JavetSanitizerException {
-        super.check(codeString);
-        final Set<String> reservedFunctionIdentifierSet = option.getReservedFunctionIdentifierSet();
-        Map<String, JavaScriptFunctionDeclarationParser> functionParserMap = getFunctionParserMap();
-        functionParserMap.clear();
-        boolean importStatementAllowed = option.isKeywordImportEnabled();
-        for (JavaScriptStatementParser statementParser : statementParsers) {
-            statementParser.validateChildCountEquals(1);
-            if (importStatementAllowed
-                    && statementParser.isChildClass(0, JavaScriptParser.ImportStatementContext.class)) {
-                continue;
+    protected boolean checkRootParser(JavaScriptStatementListParser rootParser) throws JavetSanitizerException {
+        if (forkJoinPool == null) {
+            return super.checkRootParser(rootParser);
+        }
+        try {
+            return checkRootParserInParallel(rootParser);
+        } finally {
+            if (option.isVerdictOnlyEnabled()) {
+                rootParser.release();
+                release();
             }
-            importStatementAllowed = false;
-            statementParser.validateChildClass(JavaScriptParser.FunctionDeclarationContext.class);
-            JavaScriptFunctionDeclarationParser javaScriptFunctionDeclarationParser =
-                    statementParser.getJavaScriptFunctionDeclarationParser(0).parse();
-            String functionIdentifier = javaScriptFunctionDeclarationParser.getIdentifier();
-            functionParserMap.put(functionIdentifier, javaScriptFunctionDeclarationParser);
         }
-        validateFunctions();
+    }
+
+    private boolean checkRootParserInParallel(JavaScriptStatementListParser rootParser)
+            throws JavetSanitizerException {
+        rootParser.setOption(option).parse();
+        final List<JavaScriptStatementParser> rootStatementParsers = rootParser.getJavaScriptStatementParsers();
+        final int size = rootStatementParsers.size();
+        final JavetSanitizerException[] exceptions = new JavetSanitizerException[size];
+        final JavaScriptFunctionDeclarationParser[] parsers = new JavaScriptFunctionDeclarationParser[size];
+        final boolean walkEnabled = !option.isStreamingEnabled();
+        JavetSanitizerListener listener = walkEnabled ? option.createListener() : null;
+        ParserRuleContext context = rootParser.getContext();
+        if (walkEnabled) {
+            try {
+                listener.enterEveryRule(context);
+                context.enterRule(listener);
+            } catch (Throwable t) {
+                throw rootParser.toJavetSanitizerExceptionException(t, listener);
+            }
+        }
+        forkJoinPool.invoke(new StatementTask(rootStatementParsers, exceptions, parsers, 0, size, walkEnabled));
+        for (JavetSanitizerException exception : exceptions) {
+            if (exception != null) {
+                throw exception;
+            }
+        }
+        if (walkEnabled) {
+            try {
+                context.exitRule(listener);
+                listener.exitEveryRule(context);
+            } catch (Throwable t) {
+                throw rootParser.toJavetSanitizerExceptionException(t, listener);
+            }
+        }
+        this.rootParser = rootParser;
+        statementParsers.addAll(rootStatementParsers);
+        functionDeclarationParsers = parsers;
+        validateRootParser();
         return true;
     }
 
+    /**
+     * Gets fork join pool.
+     *
+     * @return the fork join pool, null for the sequential check
+     * @since 0.3.0
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Gets function identifier set in source order.
+     * Unlike the function parser map, it is also available in the verdict only mode.
+     *
+     * @return the function identifier set
+     * @since 0.3.0
+     */
+    public Set<String> getFunctionIdentifierSet() {
+        if (functionIdentifierSet == null) {
+            functionIdentifierSet = new LinkedHashSet<>();
+        }
+        return functionIdentifierSet;
+    }
+
     /**
      * Gets function parser map.
+     * It is empty after the check in the verdict only mode.
      *
      * @return the function parser map
      * @since 0.1.0
@@ -96,9 +195,18 @@ public class JavetSanitizerModuleChecker extends JavetSanitizerStatementListChec
         return functionParserMap;
     }
 
+    @Override
+    protected void release() {
+        super.release();
+        functionDeclarationParsers = null;
+        getFunctionParserMap().clear();
+    }
+
     @Override
     protected void reset() {
         super.reset();
+        functionDeclarationParsers = null;
+        getFunctionIdentifierSet().clear();
         getFunctionParserMap().clear();
     }
 
@@ -110,10 +218,90 @@ public class JavetSanitizerModuleChecker extends JavetSanitizerStatementListChec
      */
     protected void validateFunctions() throws JavetSanitizerException {
         Map<String, JavaScriptFunctionDeclarationParser> functionParserMap = getFunctionParserMap();
-        for (String functionIdentifier : option.getReservedFunctionIdentifierSet()) {
+        // An unsealed option would be compiled per check, so its set is read directly.
+        Set<String> reservedFunctionIdentifierSet = option.isSealed()
+                ? option.getCompiledOption().getReservedFunctionIdentifierSet()
+                : option.getReservedFunctionIdentifierSet();
+        for (String functionIdentifier : reservedFunctionIdentifierSet) {
             if (!functionParserMap.containsKey(functionIdentifier)) {
                 throw JavetSanitizerException.functionNotFound(functionIdentifier);
             }
         }
     }
+
+    @Override
+    protected void validateStatements() throws JavetSanitizerException {
+        Set<String> functionIdentifierSet = getFunctionIdentifierSet();
+        Map<String, JavaScriptFunctionDeclarationParser> functionParserMap = getFunctionParserMap();
+        functionIdentifierSet.clear();
+        functionParserMap.clear();
+        boolean importStatementAllowed = option.isKeywordImportEnabled();
+        final int size = statementParsers.size();
+        for (int index = 0; index < size; ++index) {
+            JavaScriptStatementParser statementParser = statementParsers.get(index);
+            statementParser.validateChildCountEquals(1);
+            if (importStatementAllowed
+                    && statementParser.isChildClass(0, JavaScriptParser.ImportStatementContext.class)) {
+                continue;
+            }
+            importStatementAllowed = false;
+            statementParser.validateChildClass(JavaScriptParser.FunctionDeclarationContext.class);
+            JavaScriptFunctionDeclarationParser javaScriptFunctionDeclarationParser =
+                    functionDeclarationParsers != null && functionDeclarationParsers[index] != null
+                            ? functionDeclarationParsers[index]
+                            : statementParser.getJavaScriptFunctionDeclarationParser(0).parse();
+            String functionIdentifier = javaScriptFunctionDeclarationParser.getIdentifier();
+            functionIdentifierSet.add(functionIdentifier);
+            functionParserMap.put(functionIdentifier, javaScriptFunctionDeclarationParser);
+        }
+        validateFunctions();
+    }
+
+    private final class StatementTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int endIndex;
+        private final JavetSanitizerException[] exceptions;
+        private final JavaScriptFunctionDeclarationParser[] parsers;
+        private final int startIndex;
+        private final List<JavaScriptStatementParser> statementParsers;
+        private final boolean walkEnabled;
+
+        private StatementTask(
+                List<JavaScriptStatementParser> statementParsers,
+                JavetSanitizerException[] exceptions,
+                JavaScriptFunctionDeclarationParser[] parsers,
+                int startIndex,
+                int endIndex,
+                boolean walkEnabled) {
+            this.endIndex = endIndex;
+            this.exceptions = exceptions;
+            this.parsers = parsers;
+            this.startIndex = startIndex;
+            this.statementParsers = statementParsers;
+            this.walkEnabled = walkEnabled;
+        }
+
+        @Override
+        protected void compute() {
+            if (endIndex - startIndex > 1) {
+                final int middleIndex = (startIndex + endIndex) >>> 1;
+                invokeAll(
+                        new StatementTask(statementParsers, exceptions, parsers, startIndex, middleIndex, walkEnabled),
+                        new StatementTask(statementParsers, exceptions, parsers, middleIndex, endIndex, walkEnabled));
+            } else if (endIndex > startIndex) {
+                JavaScriptStatementParser statementParser = statementParsers.get(startIndex);
+                try {
+                    if (walkEnabled) {
+                        statementParser.walk(option.createListener());
+                    }
+                    if (statementParser.getContext().getChildCount() == 1
+                            && statementParser.isChildClass(0, JavaScriptParser.FunctionDeclarationContext.class)) {
+                        parsers[startIndex] = statementParser.getJavaScriptFunctionDeclarationParser(0).parse();
+                    }
+                } catch (JavetSanitizerException e) {
+                    exceptions[startIndex] = e;
+                }
+            }
+        }
+    }
 }
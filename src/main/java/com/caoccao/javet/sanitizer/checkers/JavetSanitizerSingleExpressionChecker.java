@@ -20,6 +20,7 @@ package com.caoccao.javet.sanitizer.checkers;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptSingleExpressionParser;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type Javet sanitizer single expression checker.
@@ -47,12 +48,15 @@ public class JavetSanitizerSingleExpressionChecker
         super(option);
     }
 
+    @Override
+    public boolean check(CharStream charStream) throws JavetSanitizerException {
+        super.check(charStream);
+        return checkRootParser(new JavaScriptSingleExpressionParser(charStream));
+    }
+
     @Override
     public boolean check(String codeString) throws JavetSanitizerException {
         super.check(codeString);
-        rootParser = new JavaScriptSingleExpressionParser(codeString)
-                .parse()
-                .walk(option.getListener());
-        return true;
+        return checkRootParser(new JavaScriptSingleExpressionParser(codeString));
     }
 }
@@ -21,6 +21,7 @@ import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
 import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementParser;
+import org.antlr.v4.runtime.CharStream;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,14 +59,22 @@ public class JavetSanitizerStatementListChecker
         super(option);
     }
 
+    @Override
+    public boolean check(CharStream charStream) throws JavetSanitizerException {
+        super.check(charStream);
+        return checkRootParser(new JavaScriptStatementListParser(charStream));
+    }
+
     @Override
     public boolean check(String codeString) throws JavetSanitizerException {
         super.check(codeString);
-        rootParser = new JavaScriptStatementListParser(codeString)
-                .parse()
-                .walk(option.getListener());
-        statementParsers.addAll(rootParser.getJavaScriptStatementParsers());
-        return true;
+        return checkRootParser(new JavaScriptStatementListParser(codeString));
+    }
+
+    @Override
+    protected void release() {
+        super.release();
+        statementParsers.clear();
     }
 
     @Override
@@ -77,4 +86,24 @@ public class JavetSanitizerStatementListChecker
             statementParsers.clear();
         }
     }
+
+    @Override
+    protected void validate() throws JavetSanitizerException {
+        // The statement parsers are collected in advance if the statements are walked in parallel.
+        if (statementParsers.isEmpty()) {
+            statementParsers.addAll(rootParser.getJavaScriptStatementParsers());
+        }
+        validateStatements();
+    }
+
+    /**
+     * Validate the statement parsers after the security check.
+     * The statement parsers may be assembled from several parses, e.g. by the incremental checker,
+     * so the validation only relies on the statement parsers instead of the root parser.
+     *
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected void validateStatements() throws JavetSanitizerException {
+    }
 }
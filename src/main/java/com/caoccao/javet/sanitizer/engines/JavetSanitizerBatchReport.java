@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.engines;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer batch report holds the verdicts of a batch in input order
+ * and the aggregate throughput and latency.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerBatchReport {
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+    private final long totalLength;
+    private final List<JavetSanitizerBatchVerdict> verdicts;
+
+    /**
+     * Instantiates a new Javet sanitizer batch report.
+     *
+     * @param verdicts     the verdicts in input order
+     * @param elapsedNanos the elapsed nanos of the whole batch
+     * @since 0.3.0
+     */
+    public JavetSanitizerBatchReport(List<JavetSanitizerBatchVerdict> verdicts, long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        this.verdicts = Collections.unmodifiableList(Objects.requireNonNull(verdicts));
+        final int size = verdicts.size();
+        sortedLatencies = new long[size];
+        long totalLength = 0;
+        for (int i = 0; i < size; i++) {
+            JavetSanitizerBatchVerdict verdict = verdicts.get(i);
+            sortedLatencies[i] = verdict.getElapsedNanos();
+            totalLength += verdict.getLength();
+        }
+        Arrays.sort(sortedLatencies);
+        this.totalLength = totalLength;
+    }
+
+    /**
+     * Gets average latency nanos.
+     *
+     * @return the average latency nanos
+     * @since 0.3.0
+     */
+    public long getAverageLatencyNanos() {
+        return sortedLatencies.length == 0 ? 0L : getTotalLatencyNanos() / sortedLatencies.length;
+    }
+
+    /**
+     * Gets elapsed nanos of the whole batch.
+     *
+     * @return the elapsed nanos
+     * @since 0.3.0
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets failed count.
+     *
+     * @return the failed count
+     * @since 0.3.0
+     */
+    public int getFailedCount() {
+        return verdicts.size() - getPassedCount();
+    }
+
+    /**
+     * Gets latency nanos at the percentile, e.g. 50 for the median and 99 for the 99th percentile.
+     *
+     * @param percentile the percentile in [0, 100]
+     * @return the latency nanos
+     * @since 0.3.0
+     */
+    public long getLatencyNanos(double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("Percentile " + percentile + " must be in [0, 100].");
+        }
+        if (sortedLatencies.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100D * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)];
+    }
+
+    /**
+     * Gets max latency nanos.
+     *
+     * @return the max latency nanos
+     * @since 0.3.0
+     */
+    public long getMaxLatencyNanos() {
+        return sortedLatencies.length == 0 ? 0L : sortedLatencies[sortedLatencies.length - 1];
+    }
+
+    /**
+     * Gets passed count.
+     *
+     * @return the passed count
+     * @since 0.3.0
+     */
+    public int getPassedCount() {
+        int passedCount = 0;
+        for (JavetSanitizerBatchVerdict verdict : verdicts) {
+            if (verdict.isPassed()) {
+                ++passedCount;
+            }
+        }
+        return passedCount;
+    }
+
+    /**
+     * Gets throughput in characters per second.
+     *
+     * @return the characters per second
+     * @since 0.3.0
+     */
+    public double getThroughputInCharsPerSecond() {
+        return elapsedNanos <= 0L ? 0D : totalLength * 1_000_000_000D / elapsedNanos;
+    }
+
+    /**
+     * Gets throughput in checks per second.
+     *
+     * @return the checks per second
+     * @since 0.3.0
+     */
+    public double getThroughputInChecksPerSecond() {
+        return elapsedNanos <= 0L ? 0D : verdicts.size() * 1_000_000_000D / elapsedNanos;
+    }
+
+    /**
+     * Gets total latency nanos, the sum of the elapsed nanos of all the checks.
+     *
+     * @return the total latency nanos
+     * @since 0.3.0
+     */
+    public long getTotalLatencyNanos() {
+        long totalLatencyNanos = 0L;
+        for (long latency : sortedLatencies) {
+            totalLatencyNanos += latency;
+        }
+        return totalLatencyNanos;
+    }
+
+    /**
+     * Gets total length of all the code strings.
+     *
+     * @return the total length
+     * @since 0.3.0
+     */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    /**
+     * Gets verdicts in input order.
+     *
+     * @return the verdicts
+     * @since 0.3.0
+     */
+    public List<JavetSanitizerBatchVerdict> getVerdicts() {
+        return verdicts;
+    }
+
+    @Override
+    public String toString() {
+        return "Checks: " + verdicts.size()
+                + ", passed: " + getPassedCount()
+                + ", failed: " + getFailedCount()
+                + ", elapsed: " + elapsedNanos / 1_000_000L + " ms"
+                + ", throughput: " + String.format("%.1f", getThroughputInChecksPerSecond()) + " checks/s"
+                + ", latency avg/p50/p99/max: " + getAverageLatencyNanos() / 1_000L
+                + "/" + getLatencyNanos(50) / 1_000L
+                + "/" + getLatencyNanos(99) / 1_000L
+                + "/" + getMaxLatencyNanos() / 1_000L + " us";
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.engines;
+
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+
+/**
+ * The type Javet sanitizer batch verdict is the verdict of one code string in a batch.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerBatchVerdict {
+    private final long elapsedNanos;
+    private final JavetSanitizerException exception;
+    private final int index;
+    private final int length;
+    private final boolean passed;
+
+    /**
+     * Instantiates a new Javet sanitizer batch verdict.
+     *
+     * @param index        the index in the batch
+     * @param length       the length of the code string
+     * @param passed       the passed
+     * @param exception    the exception
+     * @param elapsedNanos the elapsed nanos
+     * @since 0.3.0
+     */
+    public JavetSanitizerBatchVerdict(
+            int index,
+            int length,
+            boolean passed,
+            JavetSanitizerException exception,
+            long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        this.exception = exception;
+        this.index = index;
+        this.length = length;
+        this.passed = passed;
+    }
+
+    /**
+     * Gets elapsed nanos of the check.
+     *
+     * @return the elapsed nanos
+     * @since 0.3.0
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets exception.
+     *
+     * @return the exception, null if the check is passed
+     * @since 0.3.0
+     */
+    public JavetSanitizerException getException() {
+        return exception;
+    }
+
+    /**
+     * Gets index in the batch.
+     *
+     * @return the index
+     * @since 0.3.0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets length of the code string.
+     *
+     * @return the length
+     * @since 0.3.0
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Is passed.
+     *
+     * @return true : passed, false : not passed
+     * @since 0.3.0
+     */
+    public boolean isPassed() {
+        return passed;
+    }
+}
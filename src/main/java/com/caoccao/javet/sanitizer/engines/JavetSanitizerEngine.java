@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.engines;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The type Javet sanitizer engine is a thread-safe entry of the checkers.
+ * <p>
+ * The checkers keep the parse results of the last check and a listener keeps the error state of its walk,
+ * so neither can be shared by concurrent checks. The engine holds only the sealed option,
+ * and creates a checker and a listener per check. The lexer and the parser are reused per thread.
+ * One engine can be shared by all the threads.
+ *
+ * @since 0.3.0
+ */
+public class JavetSanitizerEngine {
+    /**
+     * The Option.
+     *
+     * @since 0.3.0
+     */
+    protected final JavetSanitizerOption option;
+
+    /**
+     * Instantiates a new Javet sanitizer engine.
+     *
+     * @since 0.3.0
+     */
+    public JavetSanitizerEngine() {
+        this(JavetSanitizerOption.Default);
+    }
+
+    /**
+     * Instantiates a new Javet sanitizer engine.
+     *
+     * @param option the sealed option
+     * @since 0.3.0
+     */
+    public JavetSanitizerEngine(JavetSanitizerOption option) {
+        if (!Objects.requireNonNull(option).isSealed()) {
+            throw new IllegalArgumentException("Option " + option.getName() + " must be sealed.");
+        }
+        this.option = option;
+    }
+
+    /**
+     * Check the code string by the checker type.
+     *
+     * @param checkerType the checker type
+     * @param codeString  the code string
+     * @return true : checked, false : not checked
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public boolean check(JavetSanitizerCheckerType checkerType, String codeString) throws JavetSanitizerException {
+        return checkerType.createChecker(option).check(codeString);
+    }
+
+    /**
+     * Check the file by the checker type. The file is memory-mapped instead of being read into a string.
+     *
+     * @param checkerType the checker type
+     * @param path        the path
+     * @return true : checked, false : not checked
+     * @throws IOException             the io exception
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public boolean check(JavetSanitizerCheckerType checkerType, Path path)
+            throws IOException, JavetSanitizerException {
+        return checkerType.createChecker(option).check(path);
+    }
+
+    /**
+     * Check all the code strings by the checker type in the common fork/join pool.
+     *
+     * @param checkerType the checker type
+     * @param codeStrings the code strings
+     * @return the batch report
+     * @since 0.3.0
+     */
+    public JavetSanitizerBatchReport checkAll(
+            JavetSanitizerCheckerType checkerType,
+            Collection<String> codeStrings) {
+        return checkAll(checkerType, codeStrings, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Check all the code strings by the checker type in the given executor.
+     * <p>
+     * The largest code strings are scheduled first so that a long tail does not
+     * start last and keep the batch waiting. The verdicts are returned in input order.
+     *
+     * @param checkerType the checker type
+     * @param codeStrings the code strings
+     * @param executor    the executor
+     * @return the batch report
+     * @since 0.3.0
+     */
+    public JavetSanitizerBatchReport checkAll(
+            JavetSanitizerCheckerType checkerType,
+            Collection<String> codeStrings,
+            Executor executor) {
+        Objects.requireNonNull(checkerType);
+        Objects.requireNonNull(executor);
+        final String[] codeStringArray = codeStrings.toArray(new String[0]);
+        final int size = codeStringArray.length;
+        final JavetSanitizerBatchVerdict[] verdicts = new JavetSanitizerBatchVerdict[size];
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, Comparator.comparingInt((Integer i) -> getLength(codeStringArray[i])).reversed());
+        final long startTime = System.nanoTime();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[size];
+        for (int i = 0; i < size; i++) {
+            final int index = indexes[i];
+            futures[i] = CompletableFuture.runAsync(
+                    () -> verdicts[index] = checkOne(checkerType, index, codeStringArray[index]),
+                    executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        return new JavetSanitizerBatchReport(Arrays.asList(verdicts), System.nanoTime() - startTime);
+    }
+
+    private JavetSanitizerBatchVerdict checkOne(
+            JavetSanitizerCheckerType checkerType,
+            int index,
+            String codeString) {
+        final long startTime = System.nanoTime();
+        boolean passed = false;
+        JavetSanitizerException exception = null;
+        try {
+            passed = check(checkerType, codeString);
+        } catch (JavetSanitizerException e) {
+            exception = e;
+        }
+        return new JavetSanitizerBatchVerdict(
+                index, getLength(codeString), passed, exception, System.nanoTime() - startTime);
+    }
+
+    private static int getLength(String codeString) {
+        return codeString == null ? 0 : codeString.length();
+    }
+
+    /**
+     * Gets option.
+     *
+     * @return the option
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption getOption() {
+        return option;
+    }
+}
@@ -16,7 +16,7 @@
 
 package com.caoccao.javet.sanitizer.exceptions;
 
-import com.caoccao.javet.sanitizer.utils.SimpleFreeMarkerFormat;
+import com.caoccao.javet.sanitizer.utils.SimpleFreeMarkerTemplate;
 
 import java.util.Map;
 
@@ -40,14 +40,21 @@ public enum JavetSanitizerError {
     SyntaxCountTooLarger(222, "Syntax count ${actualCount} is greater than the maximal syntax count ${maxCount}."),
 
     FunctionNotFound(300, "Function ${name} is not found."),
+
+    CodeLengthTooLarge(400, "Code length ${actualLength} is greater than the maximal code length ${maxLength}."),
+    TokenCountTooLarge(401, "Token count ${actualCount} is greater than the maximal token count ${maxCount}."),
+    NestingDepthTooLarge(402, "Nesting depth ${actualDepth} is greater than the maximal nesting depth ${maxDepth}."),
+    NodeCountTooLarge(403, "Node count ${actualCount} is greater than the maximal node count ${maxCount}."),
     ;
 
     private final int code;
     private final String format;
+    private final SimpleFreeMarkerTemplate template;
 
     JavetSanitizerError(int code, String format) {
         this.code = code;
         this.format = format;
+        template = SimpleFreeMarkerTemplate.compile(format);
     }
 
     /**
@@ -72,12 +79,23 @@ public enum JavetSanitizerError {
 
     /**
      * Gets message.
+     * The format is pre-parsed when the enum is initialized.
      *
      * @param parameters the parameters
      * @return the message
      * @since 0.1.0
      */
     public String getMessage(Map<String, Object> parameters) {
-        return SimpleFreeMarkerFormat.format(format, parameters);
+        return template.format(parameters);
+    }
+
+    /**
+     * Gets template.
+     *
+     * @return the template
+     * @since 0.3.0
+     */
+    public SimpleFreeMarkerTemplate getTemplate() {
+        return template;
     }
 }
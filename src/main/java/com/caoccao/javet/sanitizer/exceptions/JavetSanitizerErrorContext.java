@@ -29,6 +29,7 @@ public class JavetSanitizerErrorContext {
     private int endLineNumber;
     private int endPosition;
     private String sourceCode;
+    private String sourceLine;
     private int startColumn;
     private int startLineNumber;
     private int startPosition;
@@ -88,6 +89,9 @@ public class JavetSanitizerErrorContext {
      * @since 0.1.0
      */
     public String getSourceLine() {
+        if (sourceLine != null) {
+            return sourceLine;
+        }
         return StringUtils.isEmpty(sourceCode)
                 ? StringUtils.EMPTY
                 : sourceCode.substring(getStartPosition(), getEndPosition());
@@ -171,6 +175,20 @@ public class JavetSanitizerErrorContext {
         return this;
     }
 
+    /**
+     * Sets source line.
+     * It is set instead of the source code when the source code is not materialized as a string,
+     * e.g. the code is checked from a memory-mapped file.
+     *
+     * @param sourceLine the source line
+     * @return the source line
+     * @since 0.3.0
+     */
+    public JavetSanitizerErrorContext setSourceLine(String sourceLine) {
+        this.sourceLine = sourceLine;
+        return this;
+    }
+
     /**
      * Sets start column.
      *
@@ -207,6 +225,24 @@ public class JavetSanitizerErrorContext {
         return this;
     }
 
+    /**
+     * To clone javet sanitizer error context.
+     *
+     * @return the new javet sanitizer error context
+     * @since 0.3.0
+     */
+    public JavetSanitizerErrorContext toClone() {
+        return new JavetSanitizerErrorContext()
+                .setEndColumn(endColumn)
+                .setEndLineNumber(endLineNumber)
+                .setEndPosition(endPosition)
+                .setSourceCode(sourceCode)
+                .setSourceLine(sourceLine)
+                .setStartColumn(startColumn)
+                .setStartLineNumber(startLineNumber)
+                .setStartPosition(startPosition);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
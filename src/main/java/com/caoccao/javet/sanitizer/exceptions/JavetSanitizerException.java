@@ -18,6 +18,7 @@ package com.caoccao.javet.sanitizer.exceptions;
 
 import com.caoccao.javet.sanitizer.utils.SimpleMap;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -29,24 +30,35 @@ import java.util.Objects;
 public final class JavetSanitizerException extends Exception {
     private final JavetSanitizerError error;
     private final Map<String, Object> parameters;
+    private final boolean stackTraceEnabled;
     private JavetSanitizerErrorContext context;
+    private String message;
 
     private JavetSanitizerException(JavetSanitizerError error) {
         this(error, SimpleMap.of());
     }
 
     private JavetSanitizerException(JavetSanitizerError error, Map<String, Object> parameters) {
-        super(Objects.requireNonNull(error).getMessage(Objects.requireNonNull(parameters)));
-        context = null;
-        this.error = error;
-        this.parameters = parameters;
+        this(error, parameters, null);
     }
 
     private JavetSanitizerException(JavetSanitizerError error, Map<String, Object> parameters, Throwable cause) {
-        super(Objects.requireNonNull(error).getMessage(Objects.requireNonNull(parameters)), cause);
+        this(error, parameters, cause, true);
+    }
+
+    private JavetSanitizerException(
+            JavetSanitizerError error,
+            Map<String, Object> parameters,
+            Throwable cause,
+            boolean stackTraceEnabled) {
+        // The stack trace of a rejection points into the parse tree walk only, so it can be skipped.
+        // The message is formatted on first access, because most callers only inspect the error code.
+        super(null, cause, true, stackTraceEnabled);
         context = null;
-        this.error = error;
-        this.parameters = parameters;
+        this.error = Objects.requireNonNull(error);
+        message = null;
+        this.parameters = Objects.requireNonNull(parameters);
+        this.stackTraceEnabled = stackTraceEnabled;
     }
 
     /**
@@ -63,6 +75,20 @@ public final class JavetSanitizerException extends Exception {
                 SimpleMap.of("actualCount", actualCount, "expectedCount", expectedCount));
     }
 
+    /**
+     * Code length too large javet sanitizer exception.
+     *
+     * @param maxLength    the max length
+     * @param actualLength the actual length
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException codeLengthTooLarge(int maxLength, int actualLength) {
+        return new JavetSanitizerException(
+                JavetSanitizerError.CodeLengthTooLarge,
+                SimpleMap.of("actualLength", actualLength, "maxLength", maxLength));
+    }
+
     /**
      * Empty code string javet sanitizer exception.
      *
@@ -94,9 +120,23 @@ public final class JavetSanitizerException extends Exception {
      * @since 0.1.0
      */
     public static JavetSanitizerException identifierNotAllowed(String identifier) {
+        return identifierNotAllowed(identifier, true);
+    }
+
+    /**
+     * Identifier not allowed javet sanitizer exception.
+     *
+     * @param identifier        the identifier
+     * @param stackTraceEnabled the stack trace enabled
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException identifierNotAllowed(String identifier, boolean stackTraceEnabled) {
         return new JavetSanitizerException(
                 JavetSanitizerError.IdentifierNotAllowed,
-                SimpleMap.of("identifier", identifier));
+                SimpleMap.of("identifier", identifier),
+                null,
+                stackTraceEnabled);
     }
 
     /**
@@ -107,9 +147,23 @@ public final class JavetSanitizerException extends Exception {
      * @since 0.1.0
      */
     public static JavetSanitizerException keywordNotAllowed(String keyword) {
+        return keywordNotAllowed(keyword, true);
+    }
+
+    /**
+     * Keyword not allowed javet sanitizer exception.
+     *
+     * @param keyword           the keyword
+     * @param stackTraceEnabled the stack trace enabled
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException keywordNotAllowed(String keyword, boolean stackTraceEnabled) {
         return new JavetSanitizerException(
                 JavetSanitizerError.KeywordNotAllowed,
-                SimpleMap.of("keyword", keyword));
+                SimpleMap.of("keyword", keyword),
+                null,
+                stackTraceEnabled);
     }
 
     /**
@@ -127,6 +181,34 @@ public final class JavetSanitizerException extends Exception {
                 cause);
     }
 
+    /**
+     * Nesting depth too large javet sanitizer exception.
+     *
+     * @param maxDepth    the max depth
+     * @param actualDepth the actual depth
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException nestingDepthTooLarge(int maxDepth, int actualDepth) {
+        return new JavetSanitizerException(
+                JavetSanitizerError.NestingDepthTooLarge,
+                SimpleMap.of("actualDepth", actualDepth, "maxDepth", maxDepth));
+    }
+
+    /**
+     * Node count too large javet sanitizer exception.
+     *
+     * @param maxCount    the max count
+     * @param actualCount the actual count
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException nodeCountTooLarge(int maxCount, int actualCount) {
+        return new JavetSanitizerException(
+                JavetSanitizerError.NodeCountTooLarge,
+                SimpleMap.of("actualCount", actualCount, "maxCount", maxCount));
+    }
+
     /**
      * Syntax count mismatch javet sanitizer exception.
      *
@@ -169,6 +251,20 @@ public final class JavetSanitizerException extends Exception {
                 SimpleMap.of("actualCount", actualCount, "minCount", minCount));
     }
 
+    /**
+     * Token count too large javet sanitizer exception.
+     *
+     * @param maxCount    the max count
+     * @param actualCount the actual count
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public static JavetSanitizerException tokenCountTooLarge(int maxCount, int actualCount) {
+        return new JavetSanitizerException(
+                JavetSanitizerError.TokenCountTooLarge,
+                SimpleMap.of("actualCount", actualCount, "maxCount", maxCount));
+    }
+
     /**
      * Token mismatch javet sanitizer exception.
      *
@@ -217,6 +313,21 @@ public final class JavetSanitizerException extends Exception {
         return error;
     }
 
+    /**
+     * Gets message.
+     * The message is formatted from the pre-parsed template of the error on first access.
+     *
+     * @return the message
+     * @since 0.3.0
+     */
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = error.getMessage(parameters);
+        }
+        return message;
+    }
+
     /**
      * Gets parameters.
      *
@@ -227,6 +338,16 @@ public final class JavetSanitizerException extends Exception {
         return parameters;
     }
 
+    /**
+     * Is stack trace enabled.
+     *
+     * @return the boolean
+     * @since 0.3.0
+     */
+    public boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
     /**
      * Sets context.
      *
@@ -238,4 +359,21 @@ public final class JavetSanitizerException extends Exception {
         this.context = context;
         return this;
     }
+
+    /**
+     * To clone javet sanitizer exception.
+     * The error, the parameters, the context, the cause and whether the stack trace is enabled are copied,
+     * but not the stack trace.
+     *
+     * @return the new javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavetSanitizerException toClone() {
+        JavetSanitizerException javetSanitizerException =
+                new JavetSanitizerException(error, new HashMap<>(parameters), getCause(), stackTraceEnabled);
+        if (context != null) {
+            javetSanitizerException.setContext(context.toClone());
+        }
+        return javetSanitizerException;
+    }
 }
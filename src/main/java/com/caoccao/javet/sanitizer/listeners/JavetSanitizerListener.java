@@ -19,6 +19,7 @@ package com.caoccao.javet.sanitizer.listeners;
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParserListener;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.matchers.IJavetSanitizerMatcher;
 import com.caoccao.javet.sanitizer.matchers.JavetSanitizerBuiltInObjectMatcher;
 import com.caoccao.javet.sanitizer.matchers.JavetSanitizerIdentifierMatcher;
 import com.caoccao.javet.sanitizer.matchers.JavetSanitizerKeywordMatcher;
@@ -34,12 +35,19 @@ import org.antlr.v4.runtime.tree.TerminalNode;
  * @since 0.1.0
  */
 public class JavetSanitizerListener implements JavaScriptParserListener {
+    /**
+     * The abort signal unwinds the parse tree walk after an error is raised.
+     * It is preallocated without a stack trace because the error itself is kept by the listener.
+     */
+    private static final RuntimeException ABORT_SIGNAL = new AbortSignal();
     protected ParserRuleContext errorContext;
     protected JavetSanitizerException exception;
+    protected IJavetSanitizerMatcher keywordMatcher;
     protected JavetSanitizerOption option;
 
     public JavetSanitizerListener(JavetSanitizerOption option) {
         this.option = option;
+        keywordMatcher = null;
     }
 
     @Override
@@ -1497,7 +1505,7 @@ public class JavetSanitizerListener implements JavaScriptParserListener {
     protected void raiseError(JavetSanitizerException exception, ParserRuleContext errorContext) {
         this.errorContext = errorContext;
         this.exception = exception;
-        throw new RuntimeException("Sanity check error.");
+        throw ABORT_SIGNAL;
     }
 
     public void resetError() {
@@ -1508,21 +1516,30 @@ public class JavetSanitizerListener implements JavaScriptParserListener {
     protected void validateBuiltInObject(ParserRuleContext context) {
         ParseTree parseTree = JavetSanitizerBuiltInObjectMatcher.getInstance().matches(option, context);
         if (parseTree != null) {
-            raiseError(JavetSanitizerException.identifierNotAllowed(parseTree.getText()), context);
+            raiseError(
+                    JavetSanitizerException.identifierNotAllowed(parseTree.getText(), option.isStackTraceEnabled()),
+                    context);
         }
     }
 
     protected void validateIdentifier(ParserRuleContext context) {
         ParseTree parseTree = JavetSanitizerIdentifierMatcher.getInstance().matches(option, context);
         if (parseTree != null) {
-            raiseError(JavetSanitizerException.identifierNotAllowed(parseTree.getText()), context);
+            raiseError(
+                    JavetSanitizerException.identifierNotAllowed(parseTree.getText(), option.isStackTraceEnabled()),
+                    context);
         }
     }
 
     protected void validateKeyword(ParserRuleContext context) {
-        ParseTree parseTree = JavetSanitizerKeywordMatcher.getInstance().matches(option, context);
+        if (keywordMatcher == null) {
+            keywordMatcher = JavetSanitizerKeywordMatcher.getInstance().getMatcher(option);
+        }
+        ParseTree parseTree = keywordMatcher.matches(option, context);
         if (parseTree != null) {
-            raiseError(JavetSanitizerException.keywordNotAllowed(parseTree.getText()), context);
+            raiseError(
+                    JavetSanitizerException.keywordNotAllowed(parseTree.getText(), option.isStackTraceEnabled()),
+                    context);
         }
     }
 
@@ -1535,4 +1552,12 @@ public class JavetSanitizerListener implements JavaScriptParserListener {
     public void visitTerminal(TerminalNode node) {
 
     }
+
+    private static final class AbortSignal extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private AbortSignal() {
+            super("Sanity check error.", null, false, false);
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.listeners;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer parse listener attaches a Javet sanitizer listener to the parser
+ * so that the rules are checked while they are parsed.
+ * The parser enters a rule before its children are parsed, so a rule is passed to the listener
+ * when it exits, i.e. when its children are complete.
+ * The left operand of a left-recursive rule also exits once before the rule is entered again with it
+ * as the first child, so every complete rule is checked exactly once.
+ * If the verdict only mode is enabled, the statements nested in other statements are released
+ * after they are checked so that the parse tree only keeps the outline of the root context.
+ *
+ * @since 0.3.0
+ */
+public class JavetSanitizerParseListener implements ParseTreeListener {
+    /**
+     * The Listener.
+     *
+     * @since 0.3.0
+     */
+    protected final JavetSanitizerListener listener;
+
+    /**
+     * Instantiates a new Javet sanitizer parse listener.
+     *
+     * @param listener the listener
+     * @since 0.3.0
+     */
+    public JavetSanitizerParseListener(JavetSanitizerListener listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Check the rule context by the listener.
+     *
+     * @param ctx the rule context
+     * @since 0.3.0
+     */
+    protected void check(ParserRuleContext ctx) {
+        listener.enterEveryRule(ctx);
+        ctx.enterRule(listener);
+        ctx.exitRule(listener);
+        listener.exitEveryRule(ctx);
+        if (ctx instanceof JavaScriptParser.StatementContext
+                && ctx.parent != null && ctx.parent.getParent() != null
+                && listener.getOption().isVerdictOnlyEnabled()) {
+            ctx.children = null;
+        }
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (isActive(ctx)) {
+            check(ctx);
+        }
+    }
+
+    /**
+     * Gets listener.
+     *
+     * @return the listener
+     * @since 0.3.0
+     */
+    public JavetSanitizerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Is active.
+     * The rules exited by a syntax error or after a violation are incomplete, so they are not checked.
+     *
+     * @param ctx the rule context
+     * @return true : active, false : inactive
+     * @since 0.3.0
+     */
+    protected boolean isActive(ParserRuleContext ctx) {
+        return ctx.exception == null && listener.getException() == null;
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        listener.visitErrorNode(node);
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        listener.visitTerminal(node);
+    }
+}
@@ -17,6 +17,7 @@
 package com.caoccao.javet.sanitizer.matchers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerIdentifierTable;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -24,13 +25,57 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 
 /**
  * The type Javet sanitizer built in object matcher.
+ * <p>
+ * The matcher dispatches a context by its rule index and class to the child that may carry the identifier.
  *
  * @since 0.1.0
  */
 public final class JavetSanitizerBuiltInObjectMatcher implements IJavetSanitizerMatcher {
     private static final JavetSanitizerBuiltInObjectMatcher INSTANCE = new JavetSanitizerBuiltInObjectMatcher();
+    private final JavetSanitizerMatcherTable table;
 
     private JavetSanitizerBuiltInObjectMatcher() {
+        table = new JavetSanitizerMatcherTable()
+                .add(JavaScriptParser.ArrayElementContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.ArrayElementContext) context).singleExpression()))
+                .add(JavaScriptParser.ArrayLiteralExpressionContext.class, (option, context) -> {
+                    JavaScriptParser.ArrayLiteralContext arrayLiteralContext =
+                            ((JavaScriptParser.ArrayLiteralExpressionContext) context).arrayLiteral();
+                    JavaScriptParser.ElementListContext elementListContext = arrayLiteralContext.elementList();
+                    for (JavaScriptParser.ArrayElementContext arrayElementContext : elementListContext.arrayElement()) {
+                        ParseTree parseTree = matches(option, arrayElementContext);
+                        if (parseTree != null) {
+                            return parseTree;
+                        }
+                    }
+                    return null;
+                })
+                .add(JavaScriptParser.AssignableContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.AssignableContext) context).identifier()))
+                .add(JavaScriptParser.AssignmentExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.AssignmentExpressionContext) context).singleExpression(0)))
+                .add(JavaScriptParser.AssignmentOperatorExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.AssignmentOperatorExpressionContext) context).singleExpression(0)))
+                .add(JavaScriptParser.CatchProductionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.CatchProductionContext) context).assignable()))
+                .add(JavaScriptParser.ClassDeclarationContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.ClassDeclarationContext) context).identifier()))
+                .add(JavaScriptParser.ClassExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.ClassExpressionContext) context).identifier()))
+                .add(JavaScriptParser.FormalParameterArgContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.FormalParameterArgContext) context).assignable()))
+                .add(JavaScriptParser.FunctionDeclarationContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.FunctionDeclarationContext) context).identifier()))
+                .add(JavaScriptParser.IdentifierContext.class, (option, context) ->
+                        matchesIdentifier(option, (JavaScriptParser.IdentifierContext) context))
+                .add(JavaScriptParser.IdentifierExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.IdentifierExpressionContext) context).identifier()))
+                .add(JavaScriptParser.MemberDotExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.MemberDotExpressionContext) context).singleExpression()))
+                .add(JavaScriptParser.MemberIndexExpressionContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.MemberIndexExpressionContext) context).singleExpression()))
+                .add(JavaScriptParser.VariableDeclarationContext.class, (option, context) ->
+                        matches(option, ((JavaScriptParser.VariableDeclarationContext) context).assignable()));
     }
 
     /**
@@ -45,100 +90,27 @@ public final class JavetSanitizerBuiltInObjectMatcher implements IJavetSanitizer
 
     @Override
     public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
-        if (context instanceof JavaScriptParser.ArrayElementContext) {
-            JavaScriptParser.ArrayElementContext arrayElementContext = (JavaScriptParser.ArrayElementContext) context;
-            return matches(option, arrayElementContext.singleExpression());
-        }
-        if (context instanceof JavaScriptParser.ArrayLiteralExpressionContext) {
-            JavaScriptParser.ArrayLiteralExpressionContext arrayLiteralExpressionContext =
-                    (JavaScriptParser.ArrayLiteralExpressionContext) context;
-            JavaScriptParser.ArrayLiteralContext arrayLiteralContext = arrayLiteralExpressionContext.arrayLiteral();
-            JavaScriptParser.ElementListContext elementListContext = arrayLiteralContext.elementList();
-            for (JavaScriptParser.ArrayElementContext arrayElementContext : elementListContext.arrayElement()) {
-                ParseTree parseTree = matches(option, arrayElementContext);
-                if (parseTree != null) {
-                    return parseTree;
-                }
-            }
-        }
-        if (context instanceof JavaScriptParser.AssignableContext) {
-            JavaScriptParser.AssignableContext assignableContext = (JavaScriptParser.AssignableContext) context;
-            return matches(option, assignableContext.identifier());
-        }
-        if (context instanceof JavaScriptParser.AssignmentExpressionContext) {
-            JavaScriptParser.AssignmentExpressionContext assignmentExpressionContext =
-                    (JavaScriptParser.AssignmentExpressionContext) context;
-            return matches(option, assignmentExpressionContext.singleExpression(0));
-        }
-        if (context instanceof JavaScriptParser.AssignmentOperatorExpressionContext) {
-            JavaScriptParser.AssignmentOperatorExpressionContext assignmentOperatorExpressionContext =
-                    (JavaScriptParser.AssignmentOperatorExpressionContext) context;
-            return matches(option, assignmentOperatorExpressionContext.singleExpression(0));
-        }
-        if (context instanceof JavaScriptParser.CatchProductionContext) {
-            JavaScriptParser.CatchProductionContext catchProductionContext =
-                    (JavaScriptParser.CatchProductionContext) context;
-            return matches(option, catchProductionContext.assignable());
-        }
-        if (context instanceof JavaScriptParser.ClassDeclarationContext) {
-            JavaScriptParser.ClassDeclarationContext classDeclarationContext =
-                    (JavaScriptParser.ClassDeclarationContext) context;
-            return matches(option, classDeclarationContext.identifier());
-        }
-        if (context instanceof JavaScriptParser.ClassExpressionContext) {
-            JavaScriptParser.ClassExpressionContext classExpressionContext =
-                    (JavaScriptParser.ClassExpressionContext) context;
-            return matches(option, classExpressionContext.identifier());
-        }
-        if (context instanceof JavaScriptParser.FormalParameterArgContext) {
-            JavaScriptParser.FormalParameterArgContext formalParameterArgContext =
-                    (JavaScriptParser.FormalParameterArgContext) context;
-            return matches(option, formalParameterArgContext.assignable());
-        }
-        if (context instanceof JavaScriptParser.FunctionDeclarationContext) {
-            JavaScriptParser.FunctionDeclarationContext functionDeclarationContext =
-                    (JavaScriptParser.FunctionDeclarationContext) context;
-            return matches(option, functionDeclarationContext.identifier());
-        }
-        if (context instanceof JavaScriptParser.IdentifierContext) {
-            JavaScriptParser.IdentifierContext identifierContext = (JavaScriptParser.IdentifierContext) context;
-            TerminalNode terminalNode = identifierContext.Identifier();
-            if (terminalNode != null) {
-                String identifier = terminalNode.getText();
-                if (option.getReservedIdentifierMatcher().apply(identifier)) {
-                    if (identifierContext.getParent() instanceof JavaScriptParser.FunctionDeclarationContext) {
-                        if (!option.getReservedFunctionIdentifierSet().contains(identifier)) {
-                            return terminalNode;
-                        }
-                    } else if (!option.getReservedMutableIdentifierSet().contains(identifier)) {
+        return context == null ? null : table.matches(option, context);
+    }
+
+    private ParseTree matchesIdentifier(
+            JavetSanitizerOption option,
+            JavaScriptParser.IdentifierContext identifierContext) {
+        TerminalNode terminalNode = identifierContext.Identifier();
+        if (terminalNode != null) {
+            final int flags = JavetSanitizerIdentifierMatcher.getIdentifierFlags(option, terminalNode.getSymbol());
+            if ((flags & JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME) != 0) {
+                if (identifierContext.getParent() instanceof JavaScriptParser.FunctionDeclarationContext) {
+                    if ((flags & JavetSanitizerIdentifierTable.FLAG_RESERVED_FUNCTION) == 0) {
                         return terminalNode;
                     }
-                } else if (option.getBuiltInObjectSet().contains(identifier)) {
+                } else if ((flags & JavetSanitizerIdentifierTable.FLAG_RESERVED_MUTABLE) == 0) {
                     return terminalNode;
                 }
+            } else if ((flags & JavetSanitizerIdentifierTable.FLAG_BUILT_IN_OBJECT) != 0) {
+                return terminalNode;
             }
         }
-        if (context instanceof JavaScriptParser.IdentifierExpressionContext) {
-            JavaScriptParser.IdentifierExpressionContext identifierExpressionContext =
-                    (JavaScriptParser.IdentifierExpressionContext) context;
-            return matches(option, identifierExpressionContext.identifier());
-        }
-        if (context instanceof JavaScriptParser.MemberDotExpressionContext) {
-            JavaScriptParser.MemberDotExpressionContext memberDotExpressionContext =
-                    (JavaScriptParser.MemberDotExpressionContext) context;
-            return matches(option, memberDotExpressionContext.singleExpression());
-        }
-        if (context instanceof JavaScriptParser.MemberIndexExpressionContext) {
-            JavaScriptParser.MemberIndexExpressionContext memberIndexExpressionContext =
-                    (JavaScriptParser.MemberIndexExpressionContext) context;
-            return matches(option, memberIndexExpressionContext.singleExpression());
-        }
-        if (context instanceof JavaScriptParser.VariableDeclarationContext) {
-            JavaScriptParser.VariableDeclarationContext variableDeclarationContext =
-                    (JavaScriptParser.VariableDeclarationContext) context;
-            JavaScriptParser.AssignableContext assignableContext = variableDeclarationContext.assignable();
-            return matches(option, assignableContext);
-        }
         return null;
     }
 }
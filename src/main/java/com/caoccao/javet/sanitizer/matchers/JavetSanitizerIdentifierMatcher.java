@@ -17,14 +17,20 @@
 package com.caoccao.javet.sanitizer.matchers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerIdentifierTable;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
-import com.caoccao.javet.sanitizer.utils.StringUtils;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import com.caoccao.javet.sanitizer.parsers.IJavaScriptSymbolToken;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 /**
  * The type Javet sanitizer identifier matcher.
+ * <p>
+ * An identifier token interned by the symbol table of the compiled option of the sealed option
+ * is classified by its symbol, otherwise by its text.
  *
  * @since 0.1.0
  */
@@ -35,6 +41,21 @@ public final class JavetSanitizerIdentifierMatcher implements IJavetSanitizerMat
     private JavetSanitizerIdentifierMatcher() {
     }
 
+    static int getIdentifierFlags(JavetSanitizerOption option, Token token) {
+        if (token instanceof IJavaScriptSymbolToken && option.isSealed()) {
+            final IJavaScriptSymbolToken symbolToken = (IJavaScriptSymbolToken) token;
+            final int symbol = symbolToken.getSymbol();
+            if (symbol != JavetSanitizerSymbolTable.INVALID_SYMBOL) {
+                final JavetSanitizerSymbolTable symbolTable = symbolToken.getSymbolTable();
+                // The symbols of another compiled option mean other identifiers.
+                if (symbolTable.getCompiledOption() == option.getCompiledOption()) {
+                    return symbolTable.getFlags(symbol);
+                }
+            }
+        }
+        return option.getIdentifierFlags(token.getText());
+    }
+
     /**
      * Gets instance.
      *
@@ -45,11 +66,18 @@ public final class JavetSanitizerIdentifierMatcher implements IJavetSanitizerMat
         return INSTANCE;
     }
 
+    private static boolean isDisallowed(int flags) {
+        if ((flags & JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME) != 0) {
+            return (flags & JavetSanitizerIdentifierTable.FLAG_RESERVED) == 0;
+        }
+        return (flags & JavetSanitizerIdentifierTable.FLAG_DISALLOWED) != 0;
+    }
+
     @Override
     public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
-        if (context instanceof JavaScriptParser.IdentifierContext) {
+        if (context != null && context.getRuleIndex() == JavaScriptParser.RULE_identifier) {
             TerminalNode terminalNode = ((JavaScriptParser.IdentifierContext) context).Identifier();
-            if (terminalNode != null && matches(option, terminalNode.getText())) {
+            if (terminalNode != null && matches(option, terminalNode.getSymbol())) {
                 return terminalNode;
             }
         }
@@ -57,12 +85,10 @@ public final class JavetSanitizerIdentifierMatcher implements IJavetSanitizerMat
     }
 
     boolean matches(JavetSanitizerOption option, String identifier) {
-        if (StringUtils.isEmpty(identifier)) {
-            return false;
-        }
-        if (option.getReservedIdentifierMatcher().apply(identifier)) {
-            return !option.getReservedIdentifierSet().contains(identifier);
-        }
-        return option.getDisallowedIdentifierSet().contains(identifier);
+        return isDisallowed(option.getIdentifierFlags(identifier));
+    }
+
+    boolean matches(JavetSanitizerOption option, Token token) {
+        return isDisallowed(getIdentifierFlags(option, token));
     }
 }
@@ -17,19 +17,96 @@
 package com.caoccao.javet.sanitizer.matchers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerCompiledOption;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * The type Javet sanitizer keyword matcher.
+ * <p>
+ * The matcher dispatches a context by its rule index and class to the keyword it may carry.
+ * There is one dispatch table per combination of the disabled keywords, built on first use.
+ * A context maps to the first disabled keyword it is registered with,
+ * in the order of async, await, debugger, export, import, var, with and yield.
  *
  * @since 0.1.0
  */
 public final class JavetSanitizerKeywordMatcher implements IJavetSanitizerMatcher {
     private static final JavetSanitizerKeywordMatcher INSTANCE = new JavetSanitizerKeywordMatcher();
+    private static final int KEYWORD_ASYNC = 0;
+    private static final int KEYWORD_AWAIT = 1;
+    private static final int KEYWORD_COUNT = 8;
+    private static final int KEYWORD_DEBUGGER = 2;
+    private static final int KEYWORD_EXPORT = 3;
+    private static final int KEYWORD_IMPORT = 4;
+    private static final int[] KEYWORD_TOKEN_TYPES = new int[]{
+            JavaScriptParser.Async,
+            JavaScriptParser.Await,
+            JavaScriptParser.Debugger,
+            JavaScriptParser.Export,
+            JavaScriptParser.Import,
+            JavaScriptParser.Var,
+            JavaScriptParser.With,
+            JavaScriptParser.Yield};
+    private static final int KEYWORD_VAR = 5;
+    private static final int KEYWORD_WITH = 6;
+    private static final int KEYWORD_YIELD = 7;
+    private final AtomicReferenceArray<JavetSanitizerMatcherTable> tables;
 
     private JavetSanitizerKeywordMatcher() {
+        tables = new AtomicReferenceArray<>(1 << KEYWORD_COUNT);
+    }
+
+    private static void addKeyword(JavetSanitizerMatcherTable table, int keyword) {
+        switch (keyword) {
+            case KEYWORD_ASYNC:
+                table.addToken(JavaScriptParser.AnonymousFunctionDeclContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.ArrowFunctionContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.FunctionDeclarationContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.FunctionPropertyContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.IdentifierContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Async)
+                        .addToken(JavaScriptParser.MethodDefinitionContext.class, JavaScriptParser.Async);
+                break;
+            case KEYWORD_AWAIT:
+                table.addToken(JavaScriptParser.AwaitExpressionContext.class, JavaScriptParser.Await)
+                        .addToken(JavaScriptParser.ForOfStatementContext.class, JavaScriptParser.Await)
+                        .addToken(JavaScriptParser.ImportedBindingContext.class, JavaScriptParser.Await)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Await);
+                break;
+            case KEYWORD_DEBUGGER:
+                table.addToken(JavaScriptParser.DebuggerStatementContext.class, JavaScriptParser.Debugger)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Debugger);
+                break;
+            case KEYWORD_EXPORT:
+                table.addToken(JavaScriptParser.ExportDeclarationContext.class, JavaScriptParser.Export)
+                        .addToken(JavaScriptParser.ExportDefaultDeclarationContext.class, JavaScriptParser.Export)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Export);
+                break;
+            case KEYWORD_IMPORT:
+                table.addToken(JavaScriptParser.ImportExpressionContext.class, JavaScriptParser.Import)
+                        .addToken(JavaScriptParser.ImportStatementContext.class, JavaScriptParser.Import)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Import);
+                break;
+            case KEYWORD_VAR:
+                table.addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Var)
+                        .addToken(JavaScriptParser.VarModifierContext.class, JavaScriptParser.Var);
+                break;
+            case KEYWORD_WITH:
+                table.addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.With)
+                        .addToken(JavaScriptParser.WithStatementContext.class, JavaScriptParser.With);
+                break;
+            case KEYWORD_YIELD:
+                table.addToken(JavaScriptParser.ImportedBindingContext.class, JavaScriptParser.Yield)
+                        .addToken(JavaScriptParser.KeywordContext.class, JavaScriptParser.Yield)
+                        .addToken(JavaScriptParser.YieldStatementContext.class, JavaScriptParser.Yield);
+                break;
+            default:
+                break;
+        }
     }
 
     /**
@@ -42,102 +119,69 @@ public final class JavetSanitizerKeywordMatcher implements IJavetSanitizerMatche
         return INSTANCE;
     }
 
-    @Override
-    public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
-        if (!option.isKeywordAsyncEnabled()) {
-            if (context instanceof JavaScriptParser.AnonymousFunctionDeclContext) {
-                return ((JavaScriptParser.AnonymousFunctionDeclContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.ArrowFunctionContext) {
-                return ((JavaScriptParser.ArrowFunctionContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.FunctionDeclarationContext) {
-                return ((JavaScriptParser.FunctionDeclarationContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.FunctionPropertyContext) {
-                return ((JavaScriptParser.FunctionPropertyContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.IdentifierContext) {
-                return ((JavaScriptParser.IdentifierContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Async();
-            }
-            if (context instanceof JavaScriptParser.MethodDefinitionContext) {
-                return ((JavaScriptParser.MethodDefinitionContext) context).Async();
-            }
-        }
-        if (!option.isKeywordAwaitEnabled()) {
-            if (context instanceof JavaScriptParser.AwaitExpressionContext) {
-                return ((JavaScriptParser.AwaitExpressionContext) context).Await();
-            }
-            if (context instanceof JavaScriptParser.ForOfStatementContext) {
-                return ((JavaScriptParser.ForOfStatementContext) context).Await();
-            }
-            if (context instanceof JavaScriptParser.ImportedBindingContext) {
-                return ((JavaScriptParser.ImportedBindingContext) context).Await();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Await();
-            }
-        }
-        if (!option.isKeywordDebuggerEnabled()) {
-            if (context instanceof JavaScriptParser.DebuggerStatementContext) {
-                return ((JavaScriptParser.DebuggerStatementContext) context).Debugger();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Debugger();
-            }
-        }
-        if (!option.isKeywordExportEnabled()) {
-            if (context instanceof JavaScriptParser.ExportDeclarationContext) {
-                return ((JavaScriptParser.ExportDeclarationContext) context).Export();
-            }
-            if (context instanceof JavaScriptParser.ExportDefaultDeclarationContext) {
-                return ((JavaScriptParser.ExportDefaultDeclarationContext) context).Export();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Export();
-            }
-        }
-        if (!option.isKeywordImportEnabled()) {
-            if (context instanceof JavaScriptParser.ImportExpressionContext) {
-                return ((JavaScriptParser.ImportExpressionContext) context).Import();
-            }
-            if (context instanceof JavaScriptParser.ImportStatementContext) {
-                return ((JavaScriptParser.ImportStatementContext) context).Import();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Import();
+    private static int getDisabledKeywords(JavetSanitizerCompiledOption compiledOption) {
+        int disabledKeywords = 0;
+        for (int keyword = 0; keyword < KEYWORD_COUNT; keyword++) {
+            if (compiledOption.isKeywordDisallowed(KEYWORD_TOKEN_TYPES[keyword])) {
+                disabledKeywords |= 1 << keyword;
             }
         }
-        if (!option.isKeywordVarEnabled()) {
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Var();
-            }
-            if (context instanceof JavaScriptParser.VarModifierContext) {
-                return ((JavaScriptParser.VarModifierContext) context).Var();
-            }
-        }
-        if (!option.isKeywordWithEnabled()) {
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).With();
-            }
-            if (context instanceof JavaScriptParser.WithStatementContext) {
-                return ((JavaScriptParser.WithStatementContext) context).With();
+        return disabledKeywords;
+    }
+
+    private static int getDisabledKeywords(JavetSanitizerOption option) {
+        int disabledKeywords = 0;
+        for (int keyword = 0; keyword < KEYWORD_COUNT; keyword++) {
+            if (option.isKeywordDisallowed(KEYWORD_TOKEN_TYPES[keyword])) {
+                disabledKeywords |= 1 << keyword;
             }
         }
-        if (!option.isKeywordYieldEnabled()) {
-            if (context instanceof JavaScriptParser.ImportedBindingContext) {
-                return ((JavaScriptParser.ImportedBindingContext) context).Yield();
-            }
-            if (context instanceof JavaScriptParser.KeywordContext) {
-                return ((JavaScriptParser.KeywordContext) context).Yield();
-            }
-            if (context instanceof JavaScriptParser.YieldStatementContext) {
-                return ((JavaScriptParser.YieldStatementContext) context).Yield();
+        return disabledKeywords;
+    }
+
+    /**
+     * Gets the matcher resolved for the disabled keywords of the option.
+     * Callers matching many contexts against the same option, e.g. a listener,
+     * resolve it once instead of per context.
+     *
+     * @param option the option
+     * @return the matcher
+     * @since 0.3.0
+     */
+    public IJavetSanitizerMatcher getMatcher(JavetSanitizerOption option) {
+        return getMatcher(getDisabledKeywords(option));
+    }
+
+    /**
+     * Gets the matcher resolved for the disallowed keyword token types of the compiled option.
+     *
+     * @param compiledOption the compiled option
+     * @return the matcher
+     * @since 0.3.0
+     */
+    public IJavetSanitizerMatcher getMatcher(JavetSanitizerCompiledOption compiledOption) {
+        return getMatcher(getDisabledKeywords(compiledOption));
+    }
+
+    private IJavetSanitizerMatcher getMatcher(int disabledKeywords) {
+        JavetSanitizerMatcherTable table = tables.get(disabledKeywords);
+        if (table == null) {
+            table = new JavetSanitizerMatcherTable();
+            for (int keyword = 0; keyword < KEYWORD_COUNT; keyword++) {
+                if ((disabledKeywords & (1 << keyword)) != 0) {
+                    addKeyword(table, keyword);
+                }
+            }
+            // Concurrent builders produce equal tables, so the first one wins and the others are dropped.
+            if (!tables.compareAndSet(disabledKeywords, null, table)) {
+                table = tables.get(disabledKeywords);
             }
         }
-        return null;
+        return table;
+    }
+
+    @Override
+    public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
+        return getMatcher(option).matches(option, context);
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.matchers;
+
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The type Javet sanitizer matcher table dispatches a context to its matcher
+ * by the rule index first and then by the context class which tells the labeled alternatives apart.
+ * The lookup takes constant time instead of walking an instanceof chain.
+ *
+ * @since 0.3.0
+ */
+final class JavetSanitizerMatcherTable implements IJavetSanitizerMatcher {
+    private static final Class<?>[] EMPTY_CLASSES = new Class<?>[0];
+    private static final IJavetSanitizerMatcher[] EMPTY_MATCHERS = new IJavetSanitizerMatcher[0];
+    private static final int[] EMPTY_TOKEN_TYPES = new int[0];
+    private Class<?>[][] contextClasses;
+    private IJavetSanitizerMatcher[][] matchers;
+    private int[][] tokenTypes;
+
+    /**
+     * Instantiates a new Javet sanitizer matcher table.
+     *
+     * @since 0.3.0
+     */
+    JavetSanitizerMatcherTable() {
+        contextClasses = new Class<?>[0][];
+        matchers = new IJavetSanitizerMatcher[0][];
+        tokenTypes = new int[0][];
+    }
+
+    /**
+     * Gets the first child token of the token type, same as {@link ParserRuleContext#getToken(int, int)} with 0.
+     * The children are tested against the terminal node class instead of the terminal node interface,
+     * because an interface type check on many different context classes keeps
+     * invalidating the secondary super type cache of the JVM and turns into a slow linear scan.
+     *
+     * @param context   the context
+     * @param tokenType the token type
+     * @return the terminal node
+     * @since 0.3.0
+     */
+    static ParseTree getToken(ParserRuleContext context, int tokenType) {
+        final List<ParseTree> children = context.children;
+        if (children != null) {
+            final int size = children.size();
+            for (int i = 0; i < size; i++) {
+                final ParseTree child = children.get(i);
+                if (child instanceof TerminalNodeImpl
+                        && ((TerminalNodeImpl) child).getSymbol().getType() == tokenType) {
+                    return child;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets rule index of the context class.
+     * The labeled alternative contexts share the rule index of the rule context they extend.
+     *
+     * @param contextClass the context class
+     * @return the rule index
+     * @since 0.3.0
+     */
+    static int getRuleIndex(Class<? extends ParserRuleContext> contextClass) {
+        Class<?> ruleContextClass = contextClass;
+        while (ruleContextClass.getSuperclass() != ParserRuleContext.class) {
+            ruleContextClass = ruleContextClass.getSuperclass();
+        }
+        try {
+            return ((ParserRuleContext) ruleContextClass
+                    .getConstructor(ParserRuleContext.class, int.class)
+                    .newInstance(null, -1))
+                    .getRuleIndex();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Rule index of " + contextClass.getName() + " is not found.", e);
+        }
+    }
+
+    /**
+     * Add the matcher of the context class if the context class is not added yet.
+     *
+     * @param contextClass the context class
+     * @param matcher      the matcher
+     * @return the self
+     * @since 0.3.0
+     */
+    JavetSanitizerMatcherTable add(Class<? extends ParserRuleContext> contextClass, IJavetSanitizerMatcher matcher) {
+        return add(contextClass, Objects.requireNonNull(matcher), 0);
+    }
+
+    private JavetSanitizerMatcherTable add(
+            Class<? extends ParserRuleContext> contextClass,
+            IJavetSanitizerMatcher matcher,
+            int tokenType) {
+        final int ruleIndex = getRuleIndex(Objects.requireNonNull(contextClass));
+        if (ruleIndex >= contextClasses.length) {
+            final int oldLength = contextClasses.length;
+            contextClasses = Arrays.copyOf(contextClasses, ruleIndex + 1);
+            matchers = Arrays.copyOf(matchers, ruleIndex + 1);
+            tokenTypes = Arrays.copyOf(tokenTypes, ruleIndex + 1);
+            Arrays.fill(contextClasses, oldLength, ruleIndex + 1, EMPTY_CLASSES);
+            Arrays.fill(matchers, oldLength, ruleIndex + 1, EMPTY_MATCHERS);
+            Arrays.fill(tokenTypes, oldLength, ruleIndex + 1, EMPTY_TOKEN_TYPES);
+        }
+        Class<?>[] classes = contextClasses[ruleIndex];
+        for (Class<?> clazz : classes) {
+            if (clazz == contextClass) {
+                return this;
+            }
+        }
+        final int length = classes.length;
+        contextClasses[ruleIndex] = Arrays.copyOf(classes, length + 1);
+        contextClasses[ruleIndex][length] = contextClass;
+        matchers[ruleIndex] = Arrays.copyOf(matchers[ruleIndex], length + 1);
+        matchers[ruleIndex][length] = matcher;
+        tokenTypes[ruleIndex] = Arrays.copyOf(tokenTypes[ruleIndex], length + 1);
+        tokenTypes[ruleIndex][length] = tokenType;
+        return this;
+    }
+
+    /**
+     * Add the token type of the context class if the context class is not added yet.
+     * The context matches its first child token of the token type.
+     *
+     * @param contextClass the context class
+     * @param tokenType    the token type
+     * @return the self
+     * @since 0.3.0
+     */
+    JavetSanitizerMatcherTable addToken(Class<? extends ParserRuleContext> contextClass, int tokenType) {
+        return add(contextClass, null, tokenType);
+    }
+
+    @Override
+    public ParseTree matches(JavetSanitizerOption option, ParserRuleContext context) {
+        final int ruleIndex = context.getRuleIndex();
+        if (ruleIndex >= 0 && ruleIndex < contextClasses.length) {
+            final Class<?>[] classes = contextClasses[ruleIndex];
+            final Class<?> contextClass = context.getClass();
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == contextClass) {
+                    IJavetSanitizerMatcher matcher = matchers[ruleIndex][i];
+                    return matcher == null
+                            ? getToken(context, tokenTypes[ruleIndex][i])
+                            : matcher.matches(option, context);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.matchers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerCompiledOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.antlr.v4.runtime.Token;
+
+import java.util.List;
+
+/**
+ * The type Javet sanitizer token matcher finds the tokens that can only ever be a violation
+ * of {@link com.caoccao.javet.sanitizer.listeners.JavetSanitizerSecurityCheckListener} under the option,
+ * so that the input can be rejected before it is parsed.
+ * <p>
+ * Such a token is one of the following.
+ * <ul>
+ *     <li>An identifier token rejected by {@link JavetSanitizerIdentifierMatcher},
+ *     because every identifier token becomes an identifier context except the imported binding after as.</li>
+ *     <li>The token of the first disabled keyword in the order of async, await, debugger, export, import,
+ *     var and with, because a keyword used as a property name is only rejected for that keyword.
+ *     The yield token is never matched because yield is also a valid identifier.</li>
+ * </ul>
+ * Any other disabled keyword before such a token may be the violation the full check reports first,
+ * so the match stops there and the input falls through to the full check.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerTokenMatcher {
+    private static final JavetSanitizerTokenMatcher INSTANCE = new JavetSanitizerTokenMatcher();
+    private static final int[] KEYWORD_TOKEN_TYPES = new int[]{
+            JavaScriptLexer.Async,
+            JavaScriptLexer.Await,
+            JavaScriptLexer.Debugger,
+            JavaScriptLexer.Export,
+            JavaScriptLexer.Import,
+            JavaScriptLexer.Var,
+            JavaScriptLexer.With};
+
+    private JavetSanitizerTokenMatcher() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     * @since 0.3.0
+     */
+    public static JavetSanitizerTokenMatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the type of the keyword token that is always rejected under the option.
+     *
+     * @param option the option
+     * @return the keyword token type, {@link Token#INVALID_TYPE} if there is none
+     * @since 0.3.0
+     */
+    public int getKeywordTokenType(JavetSanitizerOption option) {
+        for (int tokenType : KEYWORD_TOKEN_TYPES) {
+            if (option.isKeywordDisallowed(tokenType)) {
+                return tokenType;
+            }
+        }
+        return Token.INVALID_TYPE;
+    }
+
+    /**
+     * Gets the type of the keyword token that is always rejected under the compiled option.
+     *
+     * @param compiledOption the compiled option
+     * @return the keyword token type, {@link Token#INVALID_TYPE} if there is none
+     * @since 0.3.0
+     */
+    public int getKeywordTokenType(JavetSanitizerCompiledOption compiledOption) {
+        for (int tokenType : KEYWORD_TOKEN_TYPES) {
+            if (compiledOption.isKeywordDisallowed(tokenType)) {
+                return tokenType;
+            }
+        }
+        return Token.INVALID_TYPE;
+    }
+
+    /**
+     * Matches the first token that can only ever be a violation in source order.
+     *
+     * @param option the option
+     * @param tokens the tokens
+     * @return the token, null if there is none or another disabled keyword comes first
+     * @since 0.3.0
+     */
+    public Token matches(JavetSanitizerOption option, List<? extends Token> tokens) {
+        final JavetSanitizerIdentifierMatcher identifierMatcher = JavetSanitizerIdentifierMatcher.getInstance();
+        final int keywordTokenType = getKeywordTokenType(option);
+        int previousTokenType = Token.INVALID_TYPE;
+        for (Token token : tokens) {
+            if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                continue;
+            }
+            final int tokenType = token.getType();
+            if (tokenType == JavaScriptLexer.Identifier) {
+                if (previousTokenType != JavaScriptLexer.As && identifierMatcher.matches(option, token)) {
+                    return token;
+                }
+            } else if (tokenType == keywordTokenType) {
+                return token;
+            } else if (option.isKeywordDisallowed(tokenType)) {
+                return null;
+            }
+            previousTokenType = tokenType;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+/**
+ * The interface Javet sanitizer observer receives the timing of every phase of a check.
+ * It is called on the checking thread at the end of each phase, so the implementation must be thread-safe
+ * and cheap. No timing is taken at all if the option has no observer.
+ *
+ * @since 0.3.0
+ */
+public interface IJavetSanitizerObserver {
+    /**
+     * On phase.
+     *
+     * @param phase        the phase
+     * @param elapsedNanos the elapsed time in nanoseconds
+     * @param inputSize    the input size in code points
+     * @param tokenCount   the token count
+     * @param nodeCount    the parse tree node count, 0 if the tree is not built yet
+     * @since 0.3.0
+     */
+    void onPhase(JavetSanitizerPhase phase, long elapsedNanos, int inputSize, int tokenCount, int nodeCount);
+}
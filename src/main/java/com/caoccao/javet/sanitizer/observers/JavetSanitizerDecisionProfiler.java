@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import org.antlr.v4.runtime.atn.DecisionInfo;
+import org.antlr.v4.runtime.atn.ParseInfo;
+
+import java.util.*;
+
+/**
+ * The type Javet sanitizer decision profiler aggregates the prediction statistics of every decision
+ * of the JavaScript parser across all the checks of the option it is set to.
+ * The decisions are ranked by the time in prediction and mapped back to the rules of the grammar,
+ * so that the hot spots of the grammar can be found on a corpus.
+ * It is thread-safe.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerDecisionProfiler {
+    private static final Comparator<JavetSanitizerDecisionStats> COMPARATOR =
+            Comparator.comparingLong(JavetSanitizerDecisionStats::getTimeInPredictionNanos).reversed()
+                    .thenComparing(Comparator.comparingLong(JavetSanitizerDecisionStats::getInvocations).reversed())
+                    .thenComparingInt(JavetSanitizerDecisionStats::getRuleIndex)
+                    .thenComparingInt(JavetSanitizerDecisionStats::getDecision);
+    private final JavetSanitizerDecisionStats[] decisionStatsArray;
+    private long parseCount;
+
+    /**
+     * Instantiates a new Javet sanitizer decision profiler.
+     *
+     * @since 0.3.0
+     */
+    public JavetSanitizerDecisionProfiler() {
+        final int decisionCount = JavaScriptParser._ATN.getNumberOfDecisions();
+        decisionStatsArray = new JavetSanitizerDecisionStats[decisionCount];
+        for (int decision = 0; decision < decisionCount; decision++) {
+            final int ruleIndex = JavaScriptParser._ATN.getDecisionState(decision).ruleIndex;
+            decisionStatsArray[decision] = new JavetSanitizerDecisionStats(
+                    decision, ruleIndex, JavaScriptParser.ruleNames[ruleIndex]);
+        }
+        parseCount = 0L;
+    }
+
+    /**
+     * Add the parse info of a parse made by the ANTLR profiling simulator.
+     *
+     * @param parseInfo the parse info, ignored if null
+     * @since 0.3.0
+     */
+    public void add(ParseInfo parseInfo) {
+        if (parseInfo != null) {
+            DecisionInfo[] decisionInfos = parseInfo.getDecisionInfo();
+            synchronized (decisionStatsArray) {
+                for (DecisionInfo decisionInfo : decisionInfos) {
+                    if (decisionInfo.invocations > 0L) {
+                        decisionStatsArray[decisionInfo.decision].add(decisionInfo);
+                    }
+                }
+                ++parseCount;
+            }
+        }
+    }
+
+    private static void appendReport(
+            StringBuilder sb,
+            String title,
+            List<JavetSanitizerDecisionStats> decisionStatsList,
+            int limit,
+            long totalTimeInPredictionNanos) {
+        sb.append(String.format(
+                "%n%s%n%4s %8s %-32s %11s %10s %6s %10s %9s %8s %9s %8s %10s %12s%n",
+                title, "Rank", "Decision", "Rule", "Invocations", "Time (ms)", "Time%",
+                "LL Falls", "SLL Avg", "SLL Max", "LL Avg", "LL Max", "Ambiguity", "ATN Trans"));
+        final int size = Math.min(Math.max(limit, 0), decisionStatsList.size());
+        for (int i = 0; i < size; i++) {
+            JavetSanitizerDecisionStats decisionStats = decisionStatsList.get(i);
+            sb.append(String.format(
+                    "%4d %8s %-32s %11d %10.3f %6.2f %10d %9.2f %8d %9.2f %8d %10d %12d%n",
+                    i + 1,
+                    decisionStats.getDecision() < 0 ? "" : String.valueOf(decisionStats.getDecision()),
+                    decisionStats.getRuleName(),
+                    decisionStats.getInvocations(),
+                    decisionStats.getTimeInPredictionNanos() / 1_000_000D,
+                    totalTimeInPredictionNanos == 0L
+                            ? 0D : decisionStats.getTimeInPredictionNanos() * 100D / totalTimeInPredictionNanos,
+                    decisionStats.getLlFallbackCount(),
+                    decisionStats.getAverageSllLook(),
+                    decisionStats.getSllMaxLook(),
+                    decisionStats.getAverageLlLook(),
+                    decisionStats.getLlMaxLook(),
+                    decisionStats.getAmbiguityCount(),
+                    decisionStats.getSllAtnTransitionCount() + decisionStats.getLlAtnTransitionCount()));
+        }
+    }
+
+    /**
+     * Gets the stats of the invoked decisions ranked by the time in prediction.
+     *
+     * @return the decision stats
+     * @since 0.3.0
+     */
+    public List<JavetSanitizerDecisionStats> getDecisionStats() {
+        List<JavetSanitizerDecisionStats> decisionStatsList = new ArrayList<>();
+        synchronized (decisionStatsArray) {
+            for (JavetSanitizerDecisionStats decisionStats : decisionStatsArray) {
+                if (decisionStats.getInvocations() > 0L) {
+                    decisionStatsList.add(new JavetSanitizerDecisionStats(decisionStats.getDecision(), decisionStats));
+                }
+            }
+        }
+        decisionStatsList.sort(COMPARATOR);
+        return decisionStatsList;
+    }
+
+    /**
+     * Gets parse count.
+     *
+     * @return the parse count
+     * @since 0.3.0
+     */
+    public long getParseCount() {
+        synchronized (decisionStatsArray) {
+            return parseCount;
+        }
+    }
+
+    /**
+     * Gets the report of the top decisions and the top rules ranked by the time in prediction.
+     *
+     * @param limit the max number of rows per section
+     * @return the report
+     * @since 0.3.0
+     */
+    public String getReport(int limit) {
+        List<JavetSanitizerDecisionStats> decisionStatsList = getDecisionStats();
+        List<JavetSanitizerDecisionStats> ruleStatsList = getRuleStats();
+        long totalTimeInPredictionNanos = 0L;
+        for (JavetSanitizerDecisionStats decisionStats : decisionStatsList) {
+            totalTimeInPredictionNanos += decisionStats.getTimeInPredictionNanos();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(
+                "Parses: %d, Decisions: %d of %d, Time in Prediction: %.3f ms%n",
+                getParseCount(), decisionStatsList.size(), decisionStatsArray.length,
+                totalTimeInPredictionNanos / 1_000_000D));
+        appendReport(sb, "Top Decisions", decisionStatsList, limit, totalTimeInPredictionNanos);
+        appendReport(sb, "Top Rules", ruleStatsList, limit, totalTimeInPredictionNanos);
+        return sb.toString();
+    }
+
+    /**
+     * Gets the stats of the rules with invoked decisions ranked by the time in prediction.
+     * The decision of the rule stats is -1.
+     *
+     * @return the rule stats
+     * @since 0.3.0
+     */
+    public List<JavetSanitizerDecisionStats> getRuleStats() {
+        Map<Integer, JavetSanitizerDecisionStats> ruleStatsMap = new HashMap<>();
+        for (JavetSanitizerDecisionStats decisionStats : getDecisionStats()) {
+            JavetSanitizerDecisionStats ruleStats = ruleStatsMap.get(decisionStats.getRuleIndex());
+            if (ruleStats == null) {
+                ruleStatsMap.put(decisionStats.getRuleIndex(), new JavetSanitizerDecisionStats(-1, decisionStats));
+            } else {
+                ruleStats.add(decisionStats);
+            }
+        }
+        List<JavetSanitizerDecisionStats> ruleStatsList = new ArrayList<>(ruleStatsMap.values());
+        ruleStatsList.sort(COMPARATOR);
+        return ruleStatsList;
+    }
+
+    /**
+     * Reset all the stats.
+     *
+     * @since 0.3.0
+     */
+    public void reset() {
+        synchronized (decisionStatsArray) {
+            for (JavetSanitizerDecisionStats decisionStats : decisionStatsArray) {
+                decisionStats.reset();
+            }
+            parseCount = 0L;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getReport(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+import org.antlr.v4.runtime.atn.DecisionInfo;
+
+/**
+ * The type Javet sanitizer decision stats holds the prediction statistics of a parser decision,
+ * or of all the decisions of a rule, aggregated by {@link JavetSanitizerDecisionProfiler}.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerDecisionStats {
+    private final int decision;
+    private final int ruleIndex;
+    private final String ruleName;
+    private long ambiguityCount;
+    private long contextSensitivityCount;
+    private long errorCount;
+    private long invocations;
+    private long llAtnTransitionCount;
+    private long llFallbackCount;
+    private long llMaxLook;
+    private long llTotalLook;
+    private long predicateEvaluationCount;
+    private long sllAtnTransitionCount;
+    private long sllMaxLook;
+    private long sllTotalLook;
+    private long timeInPredictionNanos;
+
+    JavetSanitizerDecisionStats(int decision, int ruleIndex, String ruleName) {
+        this.decision = decision;
+        this.ruleIndex = ruleIndex;
+        this.ruleName = ruleName;
+        reset();
+    }
+
+    JavetSanitizerDecisionStats(int decision, JavetSanitizerDecisionStats stats) {
+        this(decision, stats.ruleIndex, stats.ruleName);
+        add(stats);
+    }
+
+    void add(DecisionInfo decisionInfo) {
+        ambiguityCount += decisionInfo.ambiguities.size();
+        contextSensitivityCount += decisionInfo.contextSensitivities.size();
+        errorCount += decisionInfo.errors.size();
+        invocations += decisionInfo.invocations;
+        llAtnTransitionCount += decisionInfo.LL_ATNTransitions;
+        llFallbackCount += decisionInfo.LL_Fallback;
+        llMaxLook = Math.max(llMaxLook, decisionInfo.LL_MaxLook);
+        llTotalLook += decisionInfo.LL_TotalLook;
+        predicateEvaluationCount += decisionInfo.predicateEvals.size();
+        sllAtnTransitionCount += decisionInfo.SLL_ATNTransitions;
+        sllMaxLook = Math.max(sllMaxLook, decisionInfo.SLL_MaxLook);
+        sllTotalLook += decisionInfo.SLL_TotalLook;
+        timeInPredictionNanos += decisionInfo.timeInPrediction;
+    }
+
+    void add(JavetSanitizerDecisionStats stats) {
+        ambiguityCount += stats.ambiguityCount;
+        contextSensitivityCount += stats.contextSensitivityCount;
+        errorCount += stats.errorCount;
+        invocations += stats.invocations;
+        llAtnTransitionCount += stats.llAtnTransitionCount;
+        llFallbackCount += stats.llFallbackCount;
+        llMaxLook = Math.max(llMaxLook, stats.llMaxLook);
+        llTotalLook += stats.llTotalLook;
+        predicateEvaluationCount += stats.predicateEvaluationCount;
+        sllAtnTransitionCount += stats.sllAtnTransitionCount;
+        sllMaxLook = Math.max(sllMaxLook, stats.sllMaxLook);
+        sllTotalLook += stats.sllTotalLook;
+        timeInPredictionNanos += stats.timeInPredictionNanos;
+    }
+
+    /**
+     * Gets ambiguity count.
+     * An ambiguity is reported when full LL prediction finds more than one viable alternative.
+     *
+     * @return the ambiguity count
+     * @since 0.3.0
+     */
+    public long getAmbiguityCount() {
+        return ambiguityCount;
+    }
+
+    /**
+     * Gets average lookahead depth of the full LL predictions.
+     *
+     * @return the average LL lookahead depth
+     * @since 0.3.0
+     */
+    public double getAverageLlLook() {
+        return llFallbackCount == 0L ? 0D : (double) llTotalLook / llFallbackCount;
+    }
+
+    /**
+     * Gets average lookahead depth of the SLL predictions.
+     *
+     * @return the average SLL lookahead depth
+     * @since 0.3.0
+     */
+    public double getAverageSllLook() {
+        return invocations == 0L ? 0D : (double) sllTotalLook / invocations;
+    }
+
+    /**
+     * Gets context sensitivity count.
+     * A context sensitivity is reported when full LL prediction resolves an SLL conflict to a single alternative.
+     *
+     * @return the context sensitivity count
+     * @since 0.3.0
+     */
+    public long getContextSensitivityCount() {
+        return contextSensitivityCount;
+    }
+
+    /**
+     * Gets decision number in the ATN of the parser, -1 for the stats of a rule.
+     *
+     * @return the decision
+     * @since 0.3.0
+     */
+    public int getDecision() {
+        return decision;
+    }
+
+    /**
+     * Gets syntax error count.
+     *
+     * @return the error count
+     * @since 0.3.0
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Gets invocations.
+     *
+     * @return the invocations
+     * @since 0.3.0
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Gets LL ATN transition count.
+     * It is the number of transitions computed from the ATN during the full LL predictions.
+     *
+     * @return the LL ATN transition count
+     * @since 0.3.0
+     */
+    public long getLlAtnTransitionCount() {
+        return llAtnTransitionCount;
+    }
+
+    /**
+     * Gets LL fallback count.
+     * It is the number of predictions that fell back from SLL to full LL.
+     *
+     * @return the LL fallback count
+     * @since 0.3.0
+     */
+    public long getLlFallbackCount() {
+        return llFallbackCount;
+    }
+
+    /**
+     * Gets max lookahead depth of the full LL predictions.
+     *
+     * @return the max LL lookahead depth
+     * @since 0.3.0
+     */
+    public long getLlMaxLook() {
+        return llMaxLook;
+    }
+
+    /**
+     * Gets predicate evaluation count.
+     *
+     * @return the predicate evaluation count
+     * @since 0.3.0
+     */
+    public long getPredicateEvaluationCount() {
+        return predicateEvaluationCount;
+    }
+
+    /**
+     * Gets rule index.
+     *
+     * @return the rule index
+     * @since 0.3.0
+     */
+    public int getRuleIndex() {
+        return ruleIndex;
+    }
+
+    /**
+     * Gets rule name.
+     *
+     * @return the rule name
+     * @since 0.3.0
+     */
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    /**
+     * Gets SLL ATN transition count.
+     * It is the number of transitions computed from the ATN because the DFA had no edge yet.
+     *
+     * @return the SLL ATN transition count
+     * @since 0.3.0
+     */
+    public long getSllAtnTransitionCount() {
+        return sllAtnTransitionCount;
+    }
+
+    /**
+     * Gets max lookahead depth of the SLL predictions.
+     *
+     * @return the max SLL lookahead depth
+     * @since 0.3.0
+     */
+    public long getSllMaxLook() {
+        return sllMaxLook;
+    }
+
+    /**
+     * Gets time in prediction in nanoseconds.
+     *
+     * @return the time in prediction nanos
+     * @since 0.3.0
+     */
+    public long getTimeInPredictionNanos() {
+        return timeInPredictionNanos;
+    }
+
+    void reset() {
+        ambiguityCount = 0L;
+        contextSensitivityCount = 0L;
+        errorCount = 0L;
+        invocations = 0L;
+        llAtnTransitionCount = 0L;
+        llFallbackCount = 0L;
+        llMaxLook = 0L;
+        llTotalLook = 0L;
+        predicateEvaluationCount = 0L;
+        sllAtnTransitionCount = 0L;
+        sllMaxLook = 0L;
+        sllTotalLook = 0L;
+        timeInPredictionNanos = 0L;
+    }
+}
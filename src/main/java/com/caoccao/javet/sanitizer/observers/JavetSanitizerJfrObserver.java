@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type Javet sanitizer JFR observer emits a JFR event per phase.
+ * The event type is defined at runtime by <code>jdk.jfr.EventFactory</code> so that the library still
+ * builds and runs on JDK 8 without JFR. It is available on JDK 8u262+ and JDK 11+.
+ * The event is only populated and committed while a recording enables it.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerJfrObserver implements IJavetSanitizerObserver {
+    /**
+     * The constant EVENT_NAME.
+     *
+     * @since 0.3.0
+     */
+    public static final String EVENT_NAME = "com.caoccao.javet.sanitizer.Phase";
+    private static final JavetSanitizerJfrObserver INSTANCE = new JavetSanitizerJfrObserver();
+    private static final int INDEX_ELAPSED = 1;
+    private static final int INDEX_INPUT_SIZE = 2;
+    private static final int INDEX_NODE_COUNT = 4;
+    private static final int INDEX_PHASE = 0;
+    private static final int INDEX_TOKEN_COUNT = 3;
+    private final MethodHandle commitMethodHandle;
+    private final MethodHandle isEnabledMethodHandle;
+    private final MethodHandle newEventMethodHandle;
+    private final MethodHandle setMethodHandle;
+
+    private JavetSanitizerJfrObserver() {
+        MethodHandle commitMethodHandle = null;
+        MethodHandle isEnabledMethodHandle = null;
+        MethodHandle newEventMethodHandle = null;
+        MethodHandle setMethodHandle = null;
+        try {
+            Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+            Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+            Constructor<?> annotationElementConstructor =
+                    annotationElementClass.getConstructor(Class.class, Object.class);
+            Constructor<?> valueDescriptorConstructor =
+                    valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+            Object labelElapsed = annotationElementConstructor.newInstance(getAnnotationClass("Label"), "Elapsed");
+            Object timespan = annotationElementConstructor.newInstance(getAnnotationClass("Timespan"), "NANOSECONDS");
+            // The fields are in the order of the indexes.
+            List<Object> fields = Arrays.asList(
+                    valueDescriptorConstructor.newInstance(String.class, "phase", Collections.singletonList(
+                            annotationElementConstructor.newInstance(getAnnotationClass("Label"), "Phase"))),
+                    valueDescriptorConstructor.newInstance(long.class, "elapsed", Arrays.asList(labelElapsed, timespan)),
+                    valueDescriptorConstructor.newInstance(int.class, "inputSize", Collections.singletonList(
+                            annotationElementConstructor.newInstance(getAnnotationClass("Label"), "Input Size"))),
+                    valueDescriptorConstructor.newInstance(int.class, "tokenCount", Collections.singletonList(
+                            annotationElementConstructor.newInstance(getAnnotationClass("Label"), "Token Count"))),
+                    valueDescriptorConstructor.newInstance(int.class, "nodeCount", Collections.singletonList(
+                            annotationElementConstructor.newInstance(getAnnotationClass("Label"), "Node Count"))));
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotationElementConstructor.newInstance(getAnnotationClass("Name"), EVENT_NAME));
+            annotations.add(annotationElementConstructor.newInstance(
+                    getAnnotationClass("Label"), "Javet Sanitizer Phase"));
+            annotations.add(annotationElementConstructor.newInstance(
+                    getAnnotationClass("Category"), new String[]{"Javet Sanitizer"}));
+            annotations.add(annotationElementConstructor.newInstance(
+                    getAnnotationClass("Description"), "The timing of one phase of a check"));
+            annotations.add(annotationElementConstructor.newInstance(getAnnotationClass("StackTrace"), false));
+            Object eventFactory = eventFactoryClass.getMethod("create", List.class, List.class)
+                    .invoke(null, annotations, fields);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            commitMethodHandle = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            isEnabledMethodHandle = lookup.findVirtual(eventClass, "isEnabled", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            newEventMethodHandle = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass))
+                    .bindTo(eventFactory)
+                    .asType(MethodType.methodType(Object.class));
+            setMethodHandle = lookup.findVirtual(eventClass, "set",
+                            MethodType.methodType(void.class, int.class, Object.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+        } catch (Throwable ignored) {
+            // JFR is not available in this runtime.
+            commitMethodHandle = null;
+            isEnabledMethodHandle = null;
+            newEventMethodHandle = null;
+            setMethodHandle = null;
+        }
+        this.commitMethodHandle = commitMethodHandle;
+        this.isEnabledMethodHandle = isEnabledMethodHandle;
+        this.newEventMethodHandle = newEventMethodHandle;
+        this.setMethodHandle = setMethodHandle;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> getAnnotationClass(String name) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName("jdk.jfr." + name);
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     * @since 0.3.0
+     */
+    public static JavetSanitizerJfrObserver getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Is available.
+     *
+     * @return true : JFR is available in this runtime, false : the phases are silently dropped
+     * @since 0.3.0
+     */
+    public boolean isAvailable() {
+        return newEventMethodHandle != null;
+    }
+
+    @Override
+    public void onPhase(JavetSanitizerPhase phase, long elapsedNanos, int inputSize, int tokenCount, int nodeCount) {
+        if (newEventMethodHandle != null) {
+            try {
+                Object event = (Object) newEventMethodHandle.invokeExact();
+                if ((boolean) isEnabledMethodHandle.invokeExact(event)) {
+                    setMethodHandle.invokeExact(event, INDEX_PHASE, (Object) phase.name());
+                    setMethodHandle.invokeExact(event, INDEX_ELAPSED, (Object) elapsedNanos);
+                    setMethodHandle.invokeExact(event, INDEX_INPUT_SIZE, (Object) inputSize);
+                    setMethodHandle.invokeExact(event, INDEX_TOKEN_COUNT, (Object) tokenCount);
+                    setMethodHandle.invokeExact(event, INDEX_NODE_COUNT, (Object) nodeCount);
+                    commitMethodHandle.invokeExact(event);
+                }
+            } catch (Throwable ignored) {
+                // The observation never fails the check.
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+/**
+ * The enum Javet sanitizer phase.
+ *
+ * @since 0.3.0
+ */
+public enum JavetSanitizerPhase {
+    /**
+     * Build the exception and its error context from a failed parse or walk.
+     *
+     * @since 0.3.0
+     */
+    ErrorContext,
+    /**
+     * Lex the input into tokens, including the prescan if it is enabled.
+     *
+     * @since 0.3.0
+     */
+    Lex,
+    /**
+     * Parse the tokens into the parse tree, including the rules checked during the parse if streaming is enabled.
+     *
+     * @since 0.3.0
+     */
+    Parse,
+    /**
+     * Validate the checked parse tree, e.g. the function declarations of a module.
+     *
+     * @since 0.3.0
+     */
+    Validate,
+    /**
+     * Walk the parse tree with the listener.
+     *
+     * @since 0.3.0
+     */
+    Walk,
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The type Javet sanitizer compiled option is the immutable form of an option that the hot path consumes.
+ * It holds the disallowed keyword token types as a bitset, the identifier table, the built-in objects,
+ * the reserved function identifiers, the global identifier and the fingerprint computed once at compile time.
+ * The identifier table also provides the shared symbols of the known identifiers to {@link JavetSanitizerSymbolTable}.
+ * <p>
+ * A sealed option is compiled once by {@link JavetSanitizerOption#seal()}.
+ * All the fields are final and never mutated after construction,
+ * so the compiled option can be shared across threads without synchronization.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerCompiledOption {
+    private static final int[] KEYWORD_TOKEN_TYPES = new int[]{
+            JavaScriptLexer.Async,
+            JavaScriptLexer.Await,
+            JavaScriptLexer.Debugger,
+            JavaScriptLexer.Export,
+            JavaScriptLexer.Import,
+            JavaScriptLexer.Var,
+            JavaScriptLexer.With,
+            JavaScriptLexer.Yield};
+    private final Set<String> builtInObjectSet;
+    private final BitSet disallowedKeywordTokenTypes;
+    private final String fingerprint;
+    private final String globalIdentifier;
+    private final JavetSanitizerIdentifierTable identifierTable;
+    private final Set<String> reservedFunctionIdentifierSet;
+    private final boolean stackTraceEnabled;
+
+    private JavetSanitizerCompiledOption(JavetSanitizerOption option) {
+        builtInObjectSet = Collections.unmodifiableSet(new LinkedHashSet<>(option.getBuiltInObjectSet()));
+        disallowedKeywordTokenTypes = new BitSet(JavaScriptLexer.VOCABULARY.getMaxTokenType() + 1);
+        // The option is not sealed yet, so the keyword flags are read from the option.
+        for (int tokenType : KEYWORD_TOKEN_TYPES) {
+            if (option.isKeywordDisallowed(tokenType)) {
+                disallowedKeywordTokenTypes.set(tokenType);
+            }
+        }
+        fingerprint = option.getFingerprint();
+        globalIdentifier = option.getGlobalIdentifier();
+        identifierTable = JavetSanitizerIdentifierTable.compile(option);
+        reservedFunctionIdentifierSet = Collections.unmodifiableSet(
+                new LinkedHashSet<>(option.getReservedFunctionIdentifierSet()));
+        stackTraceEnabled = option.isStackTraceEnabled();
+    }
+
+    static JavetSanitizerCompiledOption compile(JavetSanitizerOption option) {
+        return new JavetSanitizerCompiledOption(option);
+    }
+
+    /**
+     * Create a new symbol table for one input.
+     * The known identifiers share the symbols of the identifier table of the compiled option.
+     *
+     * @return the symbol table
+     * @since 0.3.0
+     */
+    public JavetSanitizerSymbolTable createSymbolTable() {
+        return new JavetSanitizerSymbolTable(this);
+    }
+
+    /**
+     * Gets built-in object set.
+     *
+     * @return the built-in object set
+     * @since 0.3.0
+     */
+    public Set<String> getBuiltInObjectSet() {
+        return builtInObjectSet;
+    }
+
+    /**
+     * Gets fingerprint of the option at compile time.
+     *
+     * @return the fingerprint
+     * @since 0.3.0
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Gets global identifier.
+     *
+     * @return the global identifier
+     * @since 0.3.0
+     */
+    public String getGlobalIdentifier() {
+        return globalIdentifier;
+    }
+
+    /**
+     * Gets the classification flags of the identifier defined in {@link JavetSanitizerIdentifierTable}.
+     *
+     * @param identifier the identifier
+     * @return the flags
+     * @since 0.3.0
+     */
+    public int getIdentifierFlags(String identifier) {
+        return identifierTable.lookup(identifier);
+    }
+
+    /**
+     * Gets identifier table.
+     *
+     * @return the identifier table
+     * @since 0.3.0
+     */
+    public JavetSanitizerIdentifierTable getIdentifierTable() {
+        return identifierTable;
+    }
+
+    /**
+     * Gets reserved function identifier set.
+     *
+     * @return the reserved function identifier set
+     * @since 0.3.0
+     */
+    public Set<String> getReservedFunctionIdentifierSet() {
+        return reservedFunctionIdentifierSet;
+    }
+
+    /**
+     * Is the keyword of the token type disallowed.
+     *
+     * @param tokenType the token type
+     * @return true : disallowed, false : allowed
+     * @since 0.3.0
+     */
+    public boolean isKeywordDisallowed(int tokenType) {
+        return tokenType >= 0 && disallowedKeywordTokenTypes.get(tokenType);
+    }
+
+    /**
+     * Is stack trace enabled.
+     *
+     * @return true : enabled, false : disabled
+     * @since 0.3.0
+     */
+    public boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+}
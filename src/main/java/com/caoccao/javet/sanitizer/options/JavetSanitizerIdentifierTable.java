@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import com.caoccao.javet.sanitizer.utils.StringUtils;
+import org.antlr.v4.runtime.CharStream;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * The type Javet sanitizer identifier table is the compiled form of the identifier sets
+ * and the reserved identifier naming convention of a sealed option.
+ * One lookup returns the classification bitmask of an identifier.
+ * <p>
+ * The known identifiers are stored in an open addressing hash table whose seed is searched at compile time
+ * so that the known identifiers do not collide, which makes most lookups a single probe.
+ * The reserved identifier prefixes are indexed by the first char.
+ * The slot of a known identifier is also its symbol in {@link JavetSanitizerSymbolTable}.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerIdentifierTable {
+    /**
+     * The flag of built-in object.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_BUILT_IN_OBJECT = 1;
+    /**
+     * The flag of disallowed identifier.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_DISALLOWED = 1 << 1;
+    /**
+     * The flag of reserved identifier.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_RESERVED = 1 << 2;
+    /**
+     * The flag of reserved function identifier.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_RESERVED_FUNCTION = 1 << 3;
+    /**
+     * The flag of reserved mutable identifier.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_RESERVED_MUTABLE = 1 << 4;
+    /**
+     * The flag of identifier that matches the reserved identifier naming convention.
+     *
+     * @since 0.3.0
+     */
+    public static final int FLAG_RESERVED_NAME = 1 << 5;
+    private static final int ASCII_SIZE = 128;
+    private static final int MAX_SEED_COUNT = 64;
+    private static final int MIN_CAPACITY = 16;
+    private final boolean emptyPrefix;
+    private final boolean prefixed;
+    private final int[] flags;
+    private final int[] hashCodes;
+    private final String[] identifiers;
+    private final int mask;
+    private final String[] nonASCIIPrefixes;
+    private final String[][] prefixes;
+    private final Pattern reservedIdentifierPattern;
+    private final Function<String, Boolean> reservedIdentifierMatcher;
+    private final int seed;
+
+    private JavetSanitizerIdentifierTable(JavetSanitizerOption option) {
+        reservedIdentifierMatcher =
+                option.getReservedIdentifierMatcher() == JavetSanitizerOption.DEFAULT_RESERVED_IDENTIFIER_MATCHER
+                        ? null
+                        : option.getReservedIdentifierMatcher();
+        reservedIdentifierPattern = option.getReservedIdentifierPattern();
+        boolean emptyPrefix = false;
+        List<List<String>> prefixLists = new ArrayList<>(ASCII_SIZE);
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            prefixLists.add(new ArrayList<>());
+        }
+        List<String> nonASCIIPrefixList = new ArrayList<>();
+        for (String prefix : new TreeSet<>(option.getReservedIdentifierPrefixSet())) {
+            if (StringUtils.isEmpty(prefix)) {
+                emptyPrefix = true;
+            } else if (prefix.charAt(0) < ASCII_SIZE) {
+                prefixLists.get(prefix.charAt(0)).add(prefix);
+            } else {
+                nonASCIIPrefixList.add(prefix);
+            }
+        }
+        this.emptyPrefix = emptyPrefix;
+        prefixed = !option.getReservedIdentifierPrefixSet().isEmpty();
+        prefixes = new String[ASCII_SIZE][];
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            List<String> prefixList = prefixLists.get(i);
+            prefixes[i] = prefixList.isEmpty() ? null : prefixList.toArray(new String[0]);
+        }
+        nonASCIIPrefixes = nonASCIIPrefixList.isEmpty() ? null : nonASCIIPrefixList.toArray(new String[0]);
+        Set<String> identifierSet = new HashSet<>();
+        identifierSet.addAll(option.getBuiltInObjectSet());
+        identifierSet.addAll(option.getDisallowedIdentifierSet());
+        identifierSet.addAll(option.getReservedFunctionIdentifierSet());
+        identifierSet.addAll(option.getReservedIdentifierSet());
+        identifierSet.addAll(option.getReservedMutableIdentifierSet());
+        identifierSet.remove(null);
+        int capacity = MIN_CAPACITY;
+        while (capacity < identifierSet.size() * 4) {
+            capacity <<= 1;
+        }
+        mask = capacity - 1;
+        seed = findSeed(identifierSet, mask);
+        flags = new int[capacity];
+        hashCodes = new int[capacity];
+        identifiers = new String[capacity];
+        for (String identifier : identifierSet) {
+            int hashCode = identifier.hashCode();
+            int index = hash(hashCode, seed) & mask;
+            while (identifiers[index] != null) {
+                index = (index + 1) & mask;
+            }
+            flags[index] = classify(option, identifier);
+            hashCodes[index] = hashCode;
+            identifiers[index] = identifier;
+        }
+    }
+
+    /**
+     * Classify the identifier against the live sets of the option without the compiled table.
+     * This is the slow path for options that are not sealed.
+     *
+     * @param option     the option
+     * @param identifier the identifier
+     * @return the flags
+     * @since 0.3.0
+     */
+    static int classify(JavetSanitizerOption option, String identifier) {
+        int flags = 0;
+        if (option.getBuiltInObjectSet().contains(identifier)) {
+            flags |= FLAG_BUILT_IN_OBJECT;
+        }
+        if (option.getDisallowedIdentifierSet().contains(identifier)) {
+            flags |= FLAG_DISALLOWED;
+        }
+        if (option.getReservedIdentifierSet().contains(identifier)) {
+            flags |= FLAG_RESERVED;
+        }
+        if (option.getReservedFunctionIdentifierSet().contains(identifier)) {
+            flags |= FLAG_RESERVED_FUNCTION;
+        }
+        if (option.getReservedMutableIdentifierSet().contains(identifier)) {
+            flags |= FLAG_RESERVED_MUTABLE;
+        }
+        if (isReservedName(option, identifier)) {
+            flags |= FLAG_RESERVED_NAME;
+        }
+        return flags;
+    }
+
+    /**
+     * Compile the option to an identifier table.
+     *
+     * @param option the option
+     * @return the identifier table
+     * @since 0.3.0
+     */
+    static JavetSanitizerIdentifierTable compile(JavetSanitizerOption option) {
+        return new JavetSanitizerIdentifierTable(option);
+    }
+
+    private static int findSeed(Set<String> identifierSet, int mask) {
+        boolean[] occupied = new boolean[mask + 1];
+        for (int seed = 0; seed < MAX_SEED_COUNT; seed++) {
+            Arrays.fill(occupied, false);
+            boolean perfect = true;
+            for (String identifier : identifierSet) {
+                int index = hash(identifier.hashCode(), seed) & mask;
+                if (occupied[index]) {
+                    perfect = false;
+                    break;
+                }
+                occupied[index] = true;
+            }
+            if (perfect) {
+                return seed;
+            }
+        }
+        // Linear probing takes over the few collisions.
+        return 0;
+    }
+
+    int getCapacity() {
+        return mask + 1;
+    }
+
+    int getFlags(int index) {
+        return flags[index];
+    }
+
+    String getIdentifier(int index) {
+        return identifiers[index];
+    }
+
+    private static int hash(int hashCode, int seed) {
+        int h = (hashCode ^ seed) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean isReservedName(JavetSanitizerOption option, String identifier) {
+        if (option.getReservedIdentifierMatcher().apply(identifier)) {
+            return true;
+        }
+        for (String prefix : option.getReservedIdentifierPrefixSet()) {
+            if (identifier.startsWith(prefix)) {
+                return true;
+            }
+        }
+        Pattern pattern = option.getReservedIdentifierPattern();
+        return pattern != null && pattern.matcher(identifier).matches();
+    }
+
+    private boolean isReservedName(String identifier) {
+        if (prefixed) {
+            if (emptyPrefix) {
+                return true;
+            }
+            final char c = identifier.charAt(0);
+            final String[] candidatePrefixes = c < ASCII_SIZE ? prefixes[c] : nonASCIIPrefixes;
+            if (candidatePrefixes != null) {
+                for (String prefix : candidatePrefixes) {
+                    if (identifier.startsWith(prefix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        if (reservedIdentifierPattern != null && reservedIdentifierPattern.matcher(identifier).matches()) {
+            return true;
+        }
+        return reservedIdentifierMatcher != null && reservedIdentifierMatcher.apply(identifier);
+    }
+
+    /**
+     * Lookup the classification flags of the identifier.
+     * The flags of the known identifiers are computed at compile time.
+     * The naming convention is evaluated for the other identifiers.
+     *
+     * @param identifier the identifier
+     * @return the flags
+     * @since 0.3.0
+     */
+    public int lookup(String identifier) {
+        if (StringUtils.isEmpty(identifier)) {
+            return 0;
+        }
+        final int hashCode = identifier.hashCode();
+        int index = hash(hashCode, seed) & mask;
+        String knownIdentifier;
+        while ((knownIdentifier = identifiers[index]) != null) {
+            if (hashCodes[index] == hashCode && knownIdentifier.equals(identifier)) {
+                return flags[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return isReservedName(identifier) ? FLAG_RESERVED_NAME : 0;
+    }
+
+    int lookupSymbol(int hashCode, CharStream input, int startIndex, int stopIndex) {
+        int index = hash(hashCode, seed) & mask;
+        String knownIdentifier;
+        while ((knownIdentifier = identifiers[index]) != null) {
+            if (hashCodes[index] == hashCode
+                    && JavetSanitizerSymbolTable.equals(knownIdentifier, input, startIndex, stopIndex)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return JavetSanitizerSymbolTable.INVALID_SYMBOL;
+    }
+
+    int lookupSymbol(int hashCode, String identifier) {
+        int index = hash(hashCode, seed) & mask;
+        String knownIdentifier;
+        while ((knownIdentifier = identifiers[index]) != null) {
+            if (hashCodes[index] == hashCode && knownIdentifier.equals(identifier)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return JavetSanitizerSymbolTable.INVALID_SYMBOL;
+    }
+}
@@ -16,14 +16,19 @@
 
 package com.caoccao.javet.sanitizer.options;
 
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.listeners.JavetSanitizerListener;
 import com.caoccao.javet.sanitizer.listeners.JavetSanitizerSecurityCheckListener;
+import com.caoccao.javet.sanitizer.observers.IJavetSanitizerObserver;
+import com.caoccao.javet.sanitizer.observers.JavetSanitizerDecisionProfiler;
 import com.caoccao.javet.sanitizer.utils.SimpleList;
 import com.caoccao.javet.sanitizer.utils.SimpleSet;
+import com.caoccao.javet.sanitizer.utils.StringUtils;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * The type Javet sanitizer option.
@@ -38,6 +43,20 @@ public class JavetSanitizerOption {
      */
     public static final String DEFAULT_GLOBAL_IDENTIFIER = "globalThis";
 
+    /**
+     * Default reserved identifier matcher which matches nothing.
+     * The compiled identifier table skips it.
+     *
+     * @since 0.3.0
+     */
+    public static final Function<String, Boolean> DEFAULT_RESERVED_IDENTIFIER_MATCHER = identifier -> false;
+    /**
+     * Default reserved identifier prefix set.
+     *
+     * @since 0.3.0
+     */
+    public static final Set<String> DEFAULT_RESERVED_IDENTIFIER_PREFIX_SET =
+            Collections.unmodifiableSet(SimpleSet.of());
     /**
      * Default reserved function identifier set.
      *
@@ -220,6 +239,8 @@ public class JavetSanitizerOption {
 
     private Map<String, Object> argumentMap;
     private Set<String> builtInObjectSet;
+    private JavetSanitizerCompiledOption compiledOption;
+    private JavetSanitizerDecisionProfiler decisionProfiler;
     private Set<String> disallowedIdentifierSet;
     private String globalIdentifier;
     private boolean keywordAsyncEnabled;
@@ -230,16 +251,29 @@ public class JavetSanitizerOption {
     private boolean keywordVarEnabled;
     private boolean keywordWithEnabled;
     private boolean keywordYieldEnabled;
+    private JavetSanitizerLexerType lexerType;
     private JavetSanitizerListener listener;
     private Function<JavetSanitizerOption, JavetSanitizerListener> listenerFunction;
+    private int maxCodeLength;
+    private int maxNestingDepth;
+    private int maxNodeCount;
+    private int maxTokenCount;
     private String name;
+    private IJavetSanitizerObserver observer;
+    private JavetSanitizerParseMode parseMode;
+    private boolean prescanEnabled;
     private Set<String> reservedFunctionIdentifierSet;
     private Function<String, Boolean> reservedIdentifierMatcher;
+    private Pattern reservedIdentifierPattern;
+    private Set<String> reservedIdentifierPrefixSet;
     private Set<String> reservedIdentifierSet;
     private Set<String> reservedMutableIdentifierSet;
     private boolean sealed;
+    private boolean stackTraceEnabled;
+    private boolean streamingEnabled;
     private List<String> toBeDeletedIdentifierList;
     private List<String> toBeFrozenIdentifierList;
+    private boolean verdictOnlyEnabled;
 
     /**
      * Instantiates a new Javet sanitizer option.
@@ -249,6 +283,8 @@ public class JavetSanitizerOption {
     public JavetSanitizerOption(String name) {
         argumentMap = new HashMap<>();
         builtInObjectSet = new HashSet<>(DEFAULT_BUILT_IN_OBJECT_SET);
+        compiledOption = null;
+        decisionProfiler = null;
         disallowedIdentifierSet = new HashSet<>(DEFAULT_DISALLOWED_IDENTIFIER_SET);
         globalIdentifier = DEFAULT_GLOBAL_IDENTIFIER;
         keywordAsyncEnabled = false;
@@ -259,16 +295,57 @@ public class JavetSanitizerOption {
         keywordVarEnabled = false;
         keywordWithEnabled = false;
         keywordYieldEnabled = false;
+        lexerType = JavetSanitizerLexerType.Generated;
         listener = null;
         listenerFunction = JavetSanitizerSecurityCheckListener::new;
+        maxCodeLength = 0;
+        maxNestingDepth = 0;
+        maxNodeCount = 0;
+        maxTokenCount = 0;
         this.name = Objects.requireNonNull(name);
+        observer = null;
+        parseMode = JavetSanitizerParseMode.LL;
+        prescanEnabled = false;
         reservedFunctionIdentifierSet = new HashSet<>(DEFAULT_RESERVED_FUNCTION_IDENTIFIER_SET);
-        reservedIdentifierMatcher = identifier -> false;
+        reservedIdentifierMatcher = DEFAULT_RESERVED_IDENTIFIER_MATCHER;
+        reservedIdentifierPattern = null;
+        reservedIdentifierPrefixSet = new HashSet<>(DEFAULT_RESERVED_IDENTIFIER_PREFIX_SET);
         reservedIdentifierSet = new HashSet<>(DEFAULT_RESERVED_IDENTIFIER_SET);
         reservedMutableIdentifierSet = new HashSet<>(DEFAULT_RESERVED_MUTABLE_IDENTIFIER_SET);
         toBeDeletedIdentifierList = new ArrayList<>(DEFAULT_TO_BE_DELETED_OBJECT_LIST);
         toBeFrozenIdentifierList = new ArrayList<>(DEFAULT_TO_BE_FROZEN_OBJECT_LIST);
         sealed = false;
+        stackTraceEnabled = true;
+        streamingEnabled = false;
+        verdictOnlyEnabled = false;
+    }
+
+    private static void appendFingerprint(StringBuilder sb, Collection<String> values) {
+        sb.append(values.size()).append('\n');
+        for (String value : values) {
+            appendFingerprint(sb, value);
+        }
+    }
+
+    private static void appendFingerprint(StringBuilder sb, String value) {
+        // The length prefix keeps the boundaries of the values unambiguous.
+        sb.append(value == null ? -1 : value.length()).append(':').append(value).append('\n');
+    }
+
+    /**
+     * Create a new listener from the listener function.
+     * A listener holds the error state of one walk, so concurrent checks must not share a listener.
+     *
+     * @return the listener
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavetSanitizerListener createListener() throws JavetSanitizerException {
+        try {
+            return listenerFunction.apply(this);
+        } catch (Throwable t) {
+            throw JavetSanitizerException.listenerNotFound(listenerFunction.toString(), t);
+        }
     }
 
     /**
@@ -291,6 +368,29 @@ public class JavetSanitizerOption {
         return builtInObjectSet;
     }
 
+    /**
+     * Gets compiled option.
+     * A sealed option returns the compiled option created at {@link #seal()}.
+     * An unsealed option is compiled on every call, so the checks read an unsealed option directly
+     * and only consume the compiled option of a sealed one.
+     *
+     * @return the compiled option
+     * @since 0.3.0
+     */
+    public JavetSanitizerCompiledOption getCompiledOption() {
+        return compiledOption != null ? compiledOption : JavetSanitizerCompiledOption.compile(this);
+    }
+
+    /**
+     * Gets decision profiler.
+     *
+     * @return the decision profiler, null if the parser decisions are not profiled
+     * @since 0.3.0
+     */
+    public JavetSanitizerDecisionProfiler getDecisionProfiler() {
+        return decisionProfiler;
+    }
+
     /**
      * Gets disallowed identifier set.
      *
@@ -301,6 +401,64 @@ public class JavetSanitizerOption {
         return disallowedIdentifierSet;
     }
 
+    /**
+     * Gets fingerprint.
+     * The fingerprint is the SHA-256 hex digest of all the names, sets, lists, flags, arguments
+     * and the reserved identifier pattern with its flags, so equal options share the same fingerprint.
+     * The listener function, the observer, the decision profiler and the reserved identifier matcher
+     * are not part of the fingerprint because they cannot be compared by content.
+     * {@link com.caoccao.javet.sanitizer.caches.JavetSanitizerVerdictCache} compares the listener function
+     * and the reserved identifier matcher by identity instead.
+     * The fingerprint of a sealed option is computed only once when it is compiled.
+     *
+     * @return the fingerprint
+     * @since 0.3.0
+     */
+    public String getFingerprint() {
+        if (compiledOption != null) {
+            return compiledOption.getFingerprint();
+        }
+        StringBuilder sb = new StringBuilder();
+        Map<String, Object> sortedArgumentMap = new TreeMap<>(argumentMap);
+        appendFingerprint(sb, sortedArgumentMap.keySet());
+        for (Object value : sortedArgumentMap.values()) {
+            appendFingerprint(sb, String.valueOf(value));
+        }
+        appendFingerprint(sb, new TreeSet<>(builtInObjectSet));
+        appendFingerprint(sb, new TreeSet<>(disallowedIdentifierSet));
+        appendFingerprint(sb, globalIdentifier);
+        appendFingerprint(sb, String.valueOf(keywordAsyncEnabled));
+        appendFingerprint(sb, String.valueOf(keywordAwaitEnabled));
+        appendFingerprint(sb, String.valueOf(keywordDebuggerEnabled));
+        appendFingerprint(sb, String.valueOf(keywordExportEnabled));
+        appendFingerprint(sb, String.valueOf(keywordImportEnabled));
+        appendFingerprint(sb, String.valueOf(keywordVarEnabled));
+        appendFingerprint(sb, String.valueOf(keywordWithEnabled));
+        appendFingerprint(sb, String.valueOf(keywordYieldEnabled));
+        appendFingerprint(sb, lexerType.name());
+        appendFingerprint(sb, String.valueOf(maxCodeLength));
+        appendFingerprint(sb, String.valueOf(maxNestingDepth));
+        appendFingerprint(sb, String.valueOf(maxNodeCount));
+        appendFingerprint(sb, String.valueOf(maxTokenCount));
+        appendFingerprint(sb, name);
+        appendFingerprint(sb, parseMode.name());
+        appendFingerprint(sb, String.valueOf(prescanEnabled));
+        appendFingerprint(sb, new TreeSet<>(reservedFunctionIdentifierSet));
+        appendFingerprint(sb, reservedIdentifierPattern == null ? null : reservedIdentifierPattern.pattern());
+        appendFingerprint(sb, reservedIdentifierPattern == null
+                ? null
+                : String.valueOf(reservedIdentifierPattern.flags()));
+        appendFingerprint(sb, new TreeSet<>(reservedIdentifierPrefixSet));
+        appendFingerprint(sb, new TreeSet<>(reservedIdentifierSet));
+        appendFingerprint(sb, new TreeSet<>(reservedMutableIdentifierSet));
+        appendFingerprint(sb, String.valueOf(stackTraceEnabled));
+        appendFingerprint(sb, String.valueOf(streamingEnabled));
+        appendFingerprint(sb, toBeDeletedIdentifierList);
+        appendFingerprint(sb, toBeFrozenIdentifierList);
+        appendFingerprint(sb, String.valueOf(verdictOnlyEnabled));
+        return StringUtils.toSHA256(sb.toString());
+    }
+
     /**
      * Gets global identifier.
      *
@@ -312,22 +470,95 @@ public class JavetSanitizerOption {
     }
 
     /**
-     * Gets listener.
+     * Gets the classification flags of the identifier defined in {@link JavetSanitizerIdentifierTable}.
+     * A sealed option looks up the identifier table of the compiled option,
+     * otherwise the flags are computed from the sets and the naming convention on every call.
+     *
+     * @param identifier the identifier
+     * @return the flags
+     * @since 0.3.0
+     */
+    public int getIdentifierFlags(String identifier) {
+        if (compiledOption != null) {
+            return compiledOption.getIdentifierFlags(identifier);
+        }
+        return StringUtils.isEmpty(identifier) ? 0 : JavetSanitizerIdentifierTable.classify(this, identifier);
+    }
+
+    /**
+     * Gets lexer type.
+     *
+     * @return the lexer type
+     * @since 0.3.0
+     */
+    public JavetSanitizerLexerType getLexerType() {
+        return lexerType;
+    }
+
+    /**
+     * Gets listener which is created once and cached in the option.
+     * The cached listener is not thread-safe. Please use {@link #createListener()} for concurrent checks.
      *
      * @return the listener
      * @throws JavetSanitizerException the javet sanitizer exception
      */
     public JavetSanitizerListener getListener() throws JavetSanitizerException {
         if (listener == null) {
-            try {
-                listener = listenerFunction.apply(this);
-            } catch (Throwable t) {
-                throw JavetSanitizerException.listenerNotFound(listenerFunction.toString(), t);
-            }
+            listener = createListener();
         }
         return listener;
     }
 
+    /**
+     * Gets listener function.
+     *
+     * @return the listener function
+     * @since 0.3.0
+     */
+    public Function<JavetSanitizerOption, JavetSanitizerListener> getListenerFunction() {
+        return listenerFunction;
+    }
+
+    /**
+     * Gets max code length.
+     *
+     * @return the max code length in code points, 0 for unlimited
+     * @since 0.3.0
+     */
+    public int getMaxCodeLength() {
+        return maxCodeLength;
+    }
+
+    /**
+     * Gets max nesting depth.
+     *
+     * @return the max nesting depth, 0 for unlimited
+     * @since 0.3.0
+     */
+    public int getMaxNestingDepth() {
+        return maxNestingDepth;
+    }
+
+    /**
+     * Gets max node count.
+     *
+     * @return the max node count of the parse tree, 0 for unlimited
+     * @since 0.3.0
+     */
+    public int getMaxNodeCount() {
+        return maxNodeCount;
+    }
+
+    /**
+     * Gets max token count.
+     *
+     * @return the max token count, 0 for unlimited
+     * @since 0.3.0
+     */
+    public int getMaxTokenCount() {
+        return maxTokenCount;
+    }
+
     /**
      * Gets name.
      *
@@ -338,6 +569,26 @@ public class JavetSanitizerOption {
         return name;
     }
 
+    /**
+     * Gets observer.
+     *
+     * @return the observer, null if the phases are not observed
+     * @since 0.3.0
+     */
+    public IJavetSanitizerObserver getObserver() {
+        return observer;
+    }
+
+    /**
+     * Gets parse mode.
+     *
+     * @return the parse mode
+     * @since 0.3.0
+     */
+    public JavetSanitizerParseMode getParseMode() {
+        return parseMode;
+    }
+
     /**
      * Gets reserved function identifier set.
      *
@@ -358,6 +609,27 @@ public class JavetSanitizerOption {
         return reservedIdentifierMatcher;
     }
 
+    /**
+     * Gets reserved identifier pattern.
+     *
+     * @return the reserved identifier pattern
+     * @since 0.3.0
+     */
+    public Pattern getReservedIdentifierPattern() {
+        return reservedIdentifierPattern;
+    }
+
+    /**
+     * Gets reserved identifier prefix set.
+     * An identifier that starts with any of the prefixes matches the reserved identifier naming convention.
+     *
+     * @return the reserved identifier prefix set
+     * @since 0.3.0
+     */
+    public Set<String> getReservedIdentifierPrefixSet() {
+        return reservedIdentifierPrefixSet;
+    }
+
     /**
      * Gets reserved identifier set.
      *
@@ -428,6 +700,40 @@ public class JavetSanitizerOption {
         return keywordDebuggerEnabled;
     }
 
+    /**
+     * Is the keyword of the token type disallowed.
+     * A sealed option looks up the compiled option, otherwise the keyword flags are read on every call.
+     *
+     * @param tokenType the token type
+     * @return true : disallowed, false : allowed
+     * @since 0.3.0
+     */
+    public boolean isKeywordDisallowed(int tokenType) {
+        if (compiledOption != null) {
+            return compiledOption.isKeywordDisallowed(tokenType);
+        }
+        switch (tokenType) {
+            case JavaScriptLexer.Async:
+                return !keywordAsyncEnabled;
+            case JavaScriptLexer.Await:
+                return !keywordAwaitEnabled;
+            case JavaScriptLexer.Debugger:
+                return !keywordDebuggerEnabled;
+            case JavaScriptLexer.Export:
+                return !keywordExportEnabled;
+            case JavaScriptLexer.Import:
+                return !keywordImportEnabled;
+            case JavaScriptLexer.Var:
+                return !keywordVarEnabled;
+            case JavaScriptLexer.With:
+                return !keywordWithEnabled;
+            case JavaScriptLexer.Yield:
+                return !keywordYieldEnabled;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Is keyword export enabled.
      *
@@ -478,6 +784,16 @@ public class JavetSanitizerOption {
         return keywordYieldEnabled;
     }
 
+    /**
+     * Is prescan enabled.
+     *
+     * @return the boolean
+     * @since 0.3.0
+     */
+    public boolean isPrescanEnabled() {
+        return prescanEnabled;
+    }
+
     /**
      * Is sealed.
      *
@@ -488,8 +804,40 @@ public class JavetSanitizerOption {
         return sealed;
     }
 
+    /**
+     * Is stack trace enabled.
+     *
+     * @return the boolean
+     * @since 0.3.0
+     */
+    public boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Is streaming enabled.
+     *
+     * @return the boolean
+     * @since 0.3.0
+     */
+    public boolean isStreamingEnabled() {
+        return streamingEnabled;
+    }
+
+    /**
+     * Is verdict only enabled.
+     *
+     * @return the boolean
+     * @since 0.3.0
+     */
+    public boolean isVerdictOnlyEnabled() {
+        return verdictOnlyEnabled;
+    }
+
     /**
      * Seal javet sanitizer option. After it is sealed, it will be immutable.
+     * The option is compiled into an immutable {@link JavetSanitizerCompiledOption}
+     * that the listeners, the matchers and the checkers consume.
      *
      * @return the self
      * @since 0.1.0
@@ -499,14 +847,33 @@ public class JavetSanitizerOption {
         builtInObjectSet = Collections.unmodifiableSet(builtInObjectSet);
         disallowedIdentifierSet = Collections.unmodifiableSet(disallowedIdentifierSet);
         reservedFunctionIdentifierSet = Collections.unmodifiableSet(reservedFunctionIdentifierSet);
+        reservedIdentifierPrefixSet = Collections.unmodifiableSet(reservedIdentifierPrefixSet);
         reservedIdentifierSet = Collections.unmodifiableSet(reservedIdentifierSet);
         reservedMutableIdentifierSet = Collections.unmodifiableSet(reservedMutableIdentifierSet);
         toBeDeletedIdentifierList = Collections.unmodifiableList(toBeDeletedIdentifierList);
         toBeFrozenIdentifierList = Collections.unmodifiableList(toBeFrozenIdentifierList);
+        compiledOption = JavetSanitizerCompiledOption.compile(this);
         sealed = true;
         return this;
     }
 
+    /**
+     * Sets decision profiler.
+     * The parser predicts with the ANTLR profiling simulator and the statistics of every decision
+     * are added to the decision profiler after each parse. The profiling simulator is much slower,
+     * so the decision profiler is meant for analyzing a corpus, not for production.
+     *
+     * @param decisionProfiler the decision profiler, null to disable the profiling
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setDecisionProfiler(JavetSanitizerDecisionProfiler decisionProfiler) {
+        if (!sealed) {
+            this.decisionProfiler = decisionProfiler;
+        }
+        return this;
+    }
+
     /**
      * Sets global identifier.
      *
@@ -633,6 +1000,20 @@ public class JavetSanitizerOption {
         return this;
     }
 
+    /**
+     * Sets lexer type. The table-driven lexer produces the same tokens as the generated lexer in a fraction of time.
+     *
+     * @param lexerType the lexer type
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setLexerType(JavetSanitizerLexerType lexerType) {
+        if (!sealed) {
+            this.lexerType = Objects.requireNonNull(lexerType);
+        }
+        return this;
+    }
+
     /**
      * Sets listener function.
      *
@@ -648,6 +1029,69 @@ public class JavetSanitizerOption {
         return this;
     }
 
+    /**
+     * Sets max code length.
+     * The code is rejected before it is lexed if it has more code points than the max code length.
+     *
+     * @param maxCodeLength the max code length in code points, 0 for unlimited
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setMaxCodeLength(int maxCodeLength) {
+        if (!sealed) {
+            this.maxCodeLength = Math.max(0, maxCodeLength);
+        }
+        return this;
+    }
+
+    /**
+     * Sets max nesting depth.
+     * The parse is aborted as soon as the rules are nested deeper than the max nesting depth.
+     * A chain of left-recursive expressions, e.g. <code>a + b + c</code>, is nested as deep as it is long,
+     * because the parse tree and the walk are nested that way as well.
+     *
+     * @param maxNestingDepth the max nesting depth, 0 for unlimited
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setMaxNestingDepth(int maxNestingDepth) {
+        if (!sealed) {
+            this.maxNestingDepth = Math.max(0, maxNestingDepth);
+        }
+        return this;
+    }
+
+    /**
+     * Sets max node count.
+     * The parse is aborted as soon as the parse tree has more rule and token nodes than the max node count.
+     *
+     * @param maxNodeCount the max node count of the parse tree, 0 for unlimited
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setMaxNodeCount(int maxNodeCount) {
+        if (!sealed) {
+            this.maxNodeCount = Math.max(0, maxNodeCount);
+        }
+        return this;
+    }
+
+    /**
+     * Sets max token count.
+     * The lexer is stopped as soon as it produces more tokens than the max token count.
+     * The hidden tokens, e.g. the whitespaces and the comments, are counted as well.
+     *
+     * @param maxTokenCount the max token count, 0 for unlimited
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setMaxTokenCount(int maxTokenCount) {
+        if (!sealed) {
+            this.maxTokenCount = Math.max(0, maxTokenCount);
+        }
+        return this;
+    }
+
     /**
      * Sets name.
      *
@@ -662,6 +1106,56 @@ public class JavetSanitizerOption {
         return this;
     }
 
+    /**
+     * Sets observer.
+     * The observer is notified of the timing of the lex, parse, walk, validate and error context phases.
+     * It is shared by all the checks of this option, so it must be thread-safe.
+     *
+     * @param observer the observer, null to disable the observation
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setObserver(IJavetSanitizerObserver observer) {
+        if (!sealed) {
+            this.observer = observer;
+        }
+        return this;
+    }
+
+    /**
+     * Sets parse mode.
+     *
+     * @param parseMode the parse mode
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setParseMode(JavetSanitizerParseMode parseMode) {
+        if (!sealed) {
+            this.parseMode = Objects.requireNonNull(parseMode);
+        }
+        return this;
+    }
+
+    /**
+     * Sets prescan enabled.
+     * The prescan runs the lexer only and rejects the input on the first token that can only ever be
+     * a violation under this option before the parse tree is built, so the rejection path skips the parser.
+     * The rejected token is reported with the same error code as the full check,
+     * but the error context covers the token instead of the enclosing rule context.
+     * A syntax error before the rejected token is not reported.
+     * The prescan applies the rules of the security check listener, so it is disabled by default.
+     *
+     * @param prescanEnabled the prescan enabled
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setPrescanEnabled(boolean prescanEnabled) {
+        if (!sealed) {
+            this.prescanEnabled = prescanEnabled;
+        }
+        return this;
+    }
+
     /**
      * Sets reserved identifier matcher.
      *
@@ -676,6 +1170,78 @@ public class JavetSanitizerOption {
         return this;
     }
 
+    /**
+     * Sets reserved identifier pattern.
+     * An identifier that fully matches the pattern matches the reserved identifier naming convention.
+     *
+     * @param reservedIdentifierPattern the reserved identifier pattern
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setReservedIdentifierPattern(Pattern reservedIdentifierPattern) {
+        if (!sealed) {
+            this.reservedIdentifierPattern = reservedIdentifierPattern;
+        }
+        return this;
+    }
+
+    /**
+     * Sets stack trace enabled.
+     * The identifier and keyword violations found by the listener and the prescan are the rejection path,
+     * and their stack traces only point into the parse tree walk.
+     * Disabling the stack trace skips capturing it on that path.
+     *
+     * @param stackTraceEnabled the stack trace enabled
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setStackTraceEnabled(boolean stackTraceEnabled) {
+        if (!sealed) {
+            this.stackTraceEnabled = stackTraceEnabled;
+        }
+        return this;
+    }
+
+    /**
+     * Sets streaming enabled.
+     * The listener is attached to the parser and each rule is checked as soon as it is parsed,
+     * so the parse stops at the first violation and the parse tree is not walked again.
+     * The rules are checked in the order they are parsed, i.e. a rule after its children,
+     * so the first of several violations may differ from the one reported by the walk,
+     * and a violation before a syntax error is reported instead of the syntax error.
+     *
+     * @param streamingEnabled the streaming enabled
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setStreamingEnabled(boolean streamingEnabled) {
+        if (!sealed) {
+            this.streamingEnabled = streamingEnabled;
+        }
+        return this;
+    }
+
+    /**
+     * Sets verdict only enabled.
+     * The checker releases the parse trees, the token buffers and the source after each check,
+     * so that a long-lived checker only keeps the verdict and the small metadata of the last check,
+     * e.g. the function identifiers of the module checker.
+     * The parsers of the last check, e.g. the root parser and the function parser map, are not available,
+     * and the incremental checker cannot be built on such a checker.
+     * If streaming is enabled, the statements nested in other statements are also released during the parse
+     * as soon as they are checked.
+     *
+     * @param verdictOnlyEnabled the verdict only enabled
+     * @return the self
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption setVerdictOnlyEnabled(boolean verdictOnlyEnabled) {
+        if (!sealed) {
+            this.verdictOnlyEnabled = verdictOnlyEnabled;
+        }
+        return this;
+    }
+
     /**
      * To clone javet sanitizer option.
      *
@@ -688,6 +1254,7 @@ public class JavetSanitizerOption {
         option.argumentMap.putAll(argumentMap);
         option.builtInObjectSet.clear();
         option.builtInObjectSet.addAll(builtInObjectSet);
+        option.decisionProfiler = decisionProfiler;
         option.disallowedIdentifierSet.clear();
         option.disallowedIdentifierSet.addAll(disallowedIdentifierSet);
         option.globalIdentifier = globalIdentifier;
@@ -696,20 +1263,35 @@ public class JavetSanitizerOption {
         option.keywordDebuggerEnabled = keywordDebuggerEnabled;
         option.keywordExportEnabled = keywordExportEnabled;
         option.keywordImportEnabled = keywordImportEnabled;
+        option.keywordVarEnabled = keywordVarEnabled;
         option.keywordWithEnabled = keywordWithEnabled;
         option.keywordYieldEnabled = keywordYieldEnabled;
+        option.lexerType = lexerType;
         option.listenerFunction = listenerFunction;
+        option.maxCodeLength = maxCodeLength;
+        option.maxNestingDepth = maxNestingDepth;
+        option.maxNodeCount = maxNodeCount;
+        option.maxTokenCount = maxTokenCount;
+        option.observer = observer;
+        option.parseMode = parseMode;
+        option.prescanEnabled = prescanEnabled;
         option.reservedFunctionIdentifierSet.clear();
         option.reservedFunctionIdentifierSet.addAll(reservedFunctionIdentifierSet);
         option.reservedIdentifierMatcher = reservedIdentifierMatcher;
+        option.reservedIdentifierPattern = reservedIdentifierPattern;
+        option.reservedIdentifierPrefixSet.clear();
+        option.reservedIdentifierPrefixSet.addAll(reservedIdentifierPrefixSet);
         option.reservedIdentifierSet.clear();
         option.reservedIdentifierSet.addAll(reservedIdentifierSet);
         option.reservedMutableIdentifierSet.clear();
         option.reservedMutableIdentifierSet.addAll(reservedMutableIdentifierSet);
+        option.stackTraceEnabled = stackTraceEnabled;
+        option.streamingEnabled = streamingEnabled;
         option.toBeDeletedIdentifierList.clear();
         option.toBeDeletedIdentifierList.addAll(toBeDeletedIdentifierList);
         option.toBeFrozenIdentifierList.clear();
         option.toBeFrozenIdentifierList.addAll(toBeFrozenIdentifierList);
+        option.verdictOnlyEnabled = verdictOnlyEnabled;
         return option;
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.options;
+
+/**
+ * The enum Javet sanitizer parse mode.
+ *
+ * @since 0.3.0
+ */
+public enum JavetSanitizerParseMode {
+    /**
+     * Full LL prediction only.
+     *
+     * @since 0.3.0
+     */
+    LL,
+    /**
+     * SLL prediction first. The code is parsed again with full LL prediction
+     * only if the SLL prediction bails out.
+     *
+     * @since 0.3.0
+     */
+    TwoStage,
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.Arrays;
+
+/**
+ * The type Javet sanitizer symbol table interns the identifiers of one input into integer symbols.
+ * <p>
+ * The known identifiers of the compiled option keep the slots of {@link JavetSanitizerIdentifierTable} as symbols,
+ * so they are shared by all the symbol tables of the same compiled option.
+ * The other identifiers get new symbols after the known ones, and their flags are computed once per input.
+ * The identifier is hashed and compared on the char stream, so a string is only created
+ * the first time an unknown identifier is seen.
+ * <p>
+ * The symbol table is created per input by {@link JavetSanitizerCompiledOption#createSymbolTable()}
+ * and is not thread-safe while it is being filled.
+ *
+ * @since 0.3.0
+ */
+public final class JavetSanitizerSymbolTable {
+    /**
+     * The invalid symbol.
+     *
+     * @since 0.3.0
+     */
+    public static final int INVALID_SYMBOL = -1;
+    private static final int INITIAL_CAPACITY = 64;
+    private final JavetSanitizerCompiledOption compiledOption;
+    private final JavetSanitizerIdentifierTable identifierTable;
+    private final int knownSymbolCount;
+    private int[] buckets;
+    private int[] flags;
+    private int[] hashCodes;
+    private String[] identifiers;
+    private int size;
+
+    JavetSanitizerSymbolTable(JavetSanitizerCompiledOption compiledOption) {
+        this.compiledOption = compiledOption;
+        identifierTable = compiledOption.getIdentifierTable();
+        knownSymbolCount = identifierTable.getCapacity();
+        buckets = new int[INITIAL_CAPACITY];
+        flags = new int[INITIAL_CAPACITY >> 1];
+        hashCodes = new int[INITIAL_CAPACITY >> 1];
+        identifiers = new String[INITIAL_CAPACITY >> 1];
+        size = 0;
+    }
+
+    private int add(int hashCode, String identifier, int bucketIndex) {
+        if (size == identifiers.length) {
+            flags = Arrays.copyOf(flags, size << 1);
+            hashCodes = Arrays.copyOf(hashCodes, size << 1);
+            identifiers = Arrays.copyOf(identifiers, size << 1);
+        }
+        flags[size] = identifierTable.lookup(identifier);
+        hashCodes[size] = hashCode;
+        identifiers[size] = identifier;
+        buckets[bucketIndex] = ++size;
+        if (size << 1 > buckets.length) {
+            rehash();
+        }
+        return knownSymbolCount + size - 1;
+    }
+
+    private static int codePointAt(CharStream input, int index) {
+        final int offset = index - input.index();
+        return input.LA(offset >= 0 ? offset + 1 : offset);
+    }
+
+    static boolean equals(String identifier, CharStream input, int startIndex, int stopIndex) {
+        final int length = identifier.length();
+        int charIndex = 0;
+        for (int index = startIndex; index <= stopIndex; index++) {
+            final int codePoint = codePointAt(input, index);
+            if (Character.isBmpCodePoint(codePoint)) {
+                if (charIndex >= length || identifier.charAt(charIndex) != codePoint) {
+                    return false;
+                }
+                ++charIndex;
+            } else {
+                if (charIndex + 1 >= length || identifier.codePointAt(charIndex) != codePoint) {
+                    return false;
+                }
+                charIndex += 2;
+            }
+        }
+        return charIndex == length;
+    }
+
+
+    /**
+     * Gets compiled option.
+     *
+     * @return the compiled option
+     * @since 0.3.0
+     */
+    public JavetSanitizerCompiledOption getCompiledOption() {
+        return compiledOption;
+    }
+
+    /**
+     * Gets the classification flags of the symbol defined in {@link JavetSanitizerIdentifierTable}.
+     *
+     * @param symbol the symbol
+     * @return the flags
+     * @since 0.3.0
+     */
+    public int getFlags(int symbol) {
+        return symbol < knownSymbolCount ? identifierTable.getFlags(symbol) : flags[symbol - knownSymbolCount];
+    }
+
+    /**
+     * Gets the identifier of the symbol.
+     *
+     * @param symbol the symbol
+     * @return the identifier
+     * @since 0.3.0
+     */
+    public String getIdentifier(int symbol) {
+        return symbol < knownSymbolCount
+                ? identifierTable.getIdentifier(symbol)
+                : identifiers[symbol - knownSymbolCount];
+    }
+
+    /**
+     * Gets the count of the interned identifiers that are not known by the compiled option.
+     *
+     * @return the size
+     * @since 0.3.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    private static int hashCode(CharStream input, int startIndex, int stopIndex) {
+        // The same hash code as String.hashCode() of the text.
+        int hashCode = 0;
+        for (int index = startIndex; index <= stopIndex; index++) {
+            final int codePoint = codePointAt(input, index);
+            if (Character.isBmpCodePoint(codePoint)) {
+                hashCode = 31 * hashCode + codePoint;
+            } else {
+                hashCode = 31 * hashCode + Character.highSurrogate(codePoint);
+                hashCode = 31 * hashCode + Character.lowSurrogate(codePoint);
+            }
+        }
+        return hashCode;
+    }
+
+    /**
+     * Intern the identifier.
+     *
+     * @param identifier the identifier
+     * @return the symbol
+     * @since 0.3.0
+     */
+    public int intern(String identifier) {
+        if (identifier == null || identifier.isEmpty()) {
+            return INVALID_SYMBOL;
+        }
+        final int hashCode = identifier.hashCode();
+        final int knownSymbol = identifierTable.lookupSymbol(hashCode, identifier);
+        if (knownSymbol != INVALID_SYMBOL) {
+            return knownSymbol;
+        }
+        final int bucketMask = buckets.length - 1;
+        int bucketIndex = spread(hashCode) & bucketMask;
+        int bucket;
+        while ((bucket = buckets[bucketIndex]) != 0) {
+            if (hashCodes[bucket - 1] == hashCode && identifiers[bucket - 1].equals(identifier)) {
+                return knownSymbolCount + bucket - 1;
+            }
+            bucketIndex = (bucketIndex + 1) & bucketMask;
+        }
+        return add(hashCode, identifier, bucketIndex);
+    }
+
+    /**
+     * Intern the identifier between the start index and the stop index of the char stream.
+     * The identifier is read relative to the current index of the char stream,
+     * which must still be able to look back to the start index, e.g. right after the identifier is lexed.
+     *
+     * @param input      the input
+     * @param startIndex the start index
+     * @param stopIndex  the stop index
+     * @return the symbol
+     * @since 0.3.0
+     */
+    public int intern(CharStream input, int startIndex, int stopIndex) {
+        if (startIndex > stopIndex) {
+            return INVALID_SYMBOL;
+        }
+        final int hashCode = hashCode(input, startIndex, stopIndex);
+        final int knownSymbol = identifierTable.lookupSymbol(hashCode, input, startIndex, stopIndex);
+        if (knownSymbol != INVALID_SYMBOL) {
+            return knownSymbol;
+        }
+        final int bucketMask = buckets.length - 1;
+        int bucketIndex = spread(hashCode) & bucketMask;
+        int bucket;
+        while ((bucket = buckets[bucketIndex]) != 0) {
+            if (hashCodes[bucket - 1] == hashCode && equals(identifiers[bucket - 1], input, startIndex, stopIndex)) {
+                return knownSymbolCount + bucket - 1;
+            }
+            bucketIndex = (bucketIndex + 1) & bucketMask;
+        }
+        return add(hashCode, input.getText(Interval.of(startIndex, stopIndex)), bucketIndex);
+    }
+
+    private void rehash() {
+        buckets = new int[buckets.length << 1];
+        final int bucketMask = buckets.length - 1;
+        for (int i = 0; i < size; i++) {
+            int bucketIndex = spread(hashCodes[i]) & bucketMask;
+            while (buckets[bucketIndex] != 0) {
+                bucketIndex = (bucketIndex + 1) & bucketMask;
+            }
+            buckets[bucketIndex] = i + 1;
+        }
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+}
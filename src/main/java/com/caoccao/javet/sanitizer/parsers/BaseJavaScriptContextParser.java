@@ -21,12 +21,23 @@ import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerErrorContext;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
 import com.caoccao.javet.sanitizer.listeners.JavetSanitizerListener;
+import com.caoccao.javet.sanitizer.listeners.JavetSanitizerParseListener;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerTokenMatcher;
+import com.caoccao.javet.sanitizer.observers.IJavetSanitizerObserver;
+import com.caoccao.javet.sanitizer.observers.JavetSanitizerDecisionProfiler;
+import com.caoccao.javet.sanitizer.observers.JavetSanitizerPhase;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerParseMode;
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.misc.IntervalSet;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.*;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 
 /**
@@ -40,6 +51,12 @@ import java.util.Objects;
 public abstract class BaseJavaScriptContextParser<
         Parser extends BaseJavaScriptContextParser<Parser, Context>,
         Context extends ParserRuleContext> {
+    /**
+     * The Char stream. It is set only when the code is not given as a string.
+     *
+     * @since 0.3.0
+     */
+    protected CharStream charStream;
     /**
      * The Code string.
      *
@@ -53,7 +70,13 @@ public abstract class BaseJavaScriptContextParser<
      */
     protected Context context;
     /**
-     * The JavaScript lexer.
+     * The Input size in code points. It is measured only if the option has an observer.
+     *
+     * @since 0.3.0
+     */
+    protected int inputSize;
+    /**
+     * The JavaScript lexer. It is idle if the option selects the table-driven lexer.
      *
      * @since 0.1.0
      */
@@ -64,6 +87,24 @@ public abstract class BaseJavaScriptContextParser<
      * @since 0.1.0
      */
     protected JavaScriptParser javaScriptParser;
+    /**
+     * The Node count of the parse tree. It is measured only if the option has an observer.
+     *
+     * @since 0.3.0
+     */
+    protected int nodeCount;
+    /**
+     * The Option.
+     *
+     * @since 0.3.0
+     */
+    protected JavetSanitizerOption option;
+    /**
+     * The Token count. It is measured only if the option has an observer.
+     *
+     * @since 0.3.0
+     */
+    protected int tokenCount;
     /**
      * The Token stream.
      *
@@ -91,17 +132,54 @@ public abstract class BaseJavaScriptContextParser<
      * @since 0.1.0
      */
     public BaseJavaScriptContextParser(Context context, String codeString) throws JavetSanitizerException {
-        this.codeString = Objects.requireNonNull(codeString);
+        charStream = null;
+        // The code string of a child parser is null if the root parser is created from a char stream.
+        this.codeString = context == null ? Objects.requireNonNull(codeString) : codeString;
         this.context = context;
+        inputSize = 0;
         javaScriptLexer = null;
         javaScriptParser = null;
+        nodeCount = 0;
+        option = JavetSanitizerOption.Default;
+        tokenCount = 0;
         tokenStream = null;
     }
 
+    /**
+     * Instantiates a new Base JavaScript context parser from a char stream, e.g. a memory-mapped file.
+     * The code string is not materialized, so the error contexts carry the source line only.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public BaseJavaScriptContextParser(CharStream charStream) throws JavetSanitizerException {
+        this.charStream = Objects.requireNonNull(charStream);
+        codeString = null;
+        context = null;
+        inputSize = 0;
+        javaScriptLexer = null;
+        javaScriptParser = null;
+        nodeCount = 0;
+        option = JavetSanitizerOption.Default;
+        tokenCount = 0;
+        tokenStream = null;
+    }
+
+    /**
+     * Gets char stream.
+     *
+     * @return the char stream, null if the code is given as a string
+     * @since 0.3.0
+     */
+    public CharStream getCharStream() {
+        return charStream;
+    }
+
     /**
      * Gets code string.
      *
-     * @return the code string
+     * @return the code string, null if the code is given as a char stream
      * @since 0.1.0
      */
     public String getCodeString() {
@@ -118,6 +196,31 @@ public abstract class BaseJavaScriptContextParser<
         return context;
     }
 
+    private static int countNodes(ParseTree parseTree) {
+        int count = 0;
+        Deque<ParseTree> parseTrees = new ArrayDeque<>();
+        parseTrees.push(parseTree);
+        while (!parseTrees.isEmpty()) {
+            ParseTree currentParseTree = parseTrees.pop();
+            ++count;
+            final int childCount = currentParseTree.getChildCount();
+            for (int i = 0; i < childCount; ++i) {
+                parseTrees.push(currentParseTree.getChild(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets input size.
+     *
+     * @return the input size in code points, 0 if the option has no observer
+     * @since 0.3.0
+     */
+    public int getInputSize() {
+        return inputSize;
+    }
+
     /**
      * Gets JavaScript function declaration parser.
      *
@@ -130,7 +233,8 @@ public abstract class BaseJavaScriptContextParser<
             throws JavetSanitizerException {
         return new JavaScriptFunctionDeclarationParser(
                 context.getRuleContext(JavaScriptParser.FunctionDeclarationContext.class, index),
-                getCodeString());
+                getCodeString())
+                .setOption(option);
     }
 
     /**
@@ -144,7 +248,38 @@ public abstract class BaseJavaScriptContextParser<
     public JavaScriptStatementParser getJavaScriptStatementParser(int index) throws JavetSanitizerException {
         return new JavaScriptStatementParser(
                 context.getRuleContext(JavaScriptParser.StatementContext.class, index),
-                getCodeString());
+                getCodeString())
+                .setOption(option);
+    }
+
+    /**
+     * Gets node count.
+     *
+     * @return the node count of the parse tree, 0 if the option has no observer
+     * @since 0.3.0
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets option.
+     *
+     * @return the option
+     * @since 0.3.0
+     */
+    public JavetSanitizerOption getOption() {
+        return option;
+    }
+
+    /**
+     * Gets token count.
+     *
+     * @return the token count, 0 if the option has no observer
+     * @since 0.3.0
+     */
+    public int getTokenCount() {
+        return tokenCount;
     }
 
     /**
@@ -156,12 +291,119 @@ public abstract class BaseJavaScriptContextParser<
      */
     protected Parser initializeContext() throws JavetSanitizerException {
         if (context == null) {
-            javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
-            javaScriptLexer.setUseStrictDefault(true);
-            tokenStream = new CommonTokenStream(javaScriptLexer);
-            javaScriptParser = new JavaScriptParser(tokenStream);
-            javaScriptParser.setBuildParseTree(true);
-            javaScriptParser.setErrorHandler(new BailErrorStrategy());
+            final int maxCodeLength = option.getMaxCodeLength();
+            if (maxCodeLength > 0) {
+                int codeLength = charStream == null ? codeString.length() : charStream.size();
+                if (codeLength > maxCodeLength && charStream == null) {
+                    // A surrogate pair is one code point in the char stream.
+                    codeLength = codeString.codePointCount(0, codeLength);
+                }
+                if (codeLength > maxCodeLength) {
+                    throw JavetSanitizerException.codeLengthTooLarge(maxCodeLength, codeLength);
+                }
+            }
+            final IJavetSanitizerObserver observer = option.getObserver();
+            JavaScriptParserEngine javaScriptParserEngine = charStream == null
+                    ? JavaScriptParserEngine.acquire(codeString)
+                    : JavaScriptParserEngine.acquire(charStream);
+            final JavetSanitizerDecisionProfiler decisionProfiler = option.getDecisionProfiler();
+            try {
+                javaScriptParserEngine.setLexerType(option.getLexerType());
+                javaScriptParserEngine.setMaxTokenCount(option.getMaxTokenCount());
+                if (option.isSealed()) {
+                    // An unsealed option would be compiled per parse, so only a sealed option interns identifiers.
+                    javaScriptParserEngine.setCompiledOption(option.getCompiledOption());
+                }
+                if (decisionProfiler != null) {
+                    javaScriptParserEngine.setDecisionProfilingEnabled(true);
+                }
+                javaScriptLexer = javaScriptParserEngine.getJavaScriptLexer();
+                tokenStream = javaScriptParserEngine.getTokenStream();
+                javaScriptParser = javaScriptParserEngine.getJavaScriptParser();
+                long startTime = 0L;
+                NodeCounter nodeCounter = null;
+                if (observer != null) {
+                    startTime = System.nanoTime();
+                    // The tokens are lexed ahead of the parse so that the two phases are timed apart.
+                    javaScriptParserEngine.getTokenStream().fill();
+                }
+                if (option.isPrescanEnabled()) {
+                    prescan(javaScriptParserEngine.getTokenStream());
+                }
+                if (observer != null) {
+                    inputSize = tokenStream.getTokenSource().getInputStream().size();
+                    tokenCount = tokenStream.size();
+                    final long endTime = System.nanoTime();
+                    observer.onPhase(JavetSanitizerPhase.Lex, endTime - startTime, inputSize, tokenCount, 0);
+                    startTime = endTime;
+                    nodeCounter = new NodeCounter();
+                    javaScriptParser.addParseListener(nodeCounter);
+                }
+                JavaScriptBudgetListener budgetListener = null;
+                if (option.getMaxNestingDepth() > 0 || option.getMaxNodeCount() > 0) {
+                    budgetListener = new JavaScriptBudgetListener(option.getMaxNestingDepth(), option.getMaxNodeCount());
+                    javaScriptParser.addParseListener(budgetListener);
+                }
+                JavetSanitizerListener listener = null;
+                if (option.isStreamingEnabled()) {
+                    listener = option.createListener();
+                    javaScriptParser.addParseListener(new JavetSanitizerParseListener(listener));
+                }
+                RuntimeException parseException = null;
+                try {
+                    if (option.getParseMode() == JavetSanitizerParseMode.TwoStage) {
+                        javaScriptParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                        try {
+                            context = parseContext();
+                        } catch (RuntimeException e) {
+                            // SLL bails out on both syntax errors and the inputs it cannot predict.
+                            // The same tokens are parsed again with full LL prediction to tell them apart.
+                            // A violation found by the listener on the SLL path is confirmed the same way,
+                            // because the rules on a mispredicted path are not part of the final parse tree.
+                            if (!(e instanceof ParseCancellationException)
+                                    && (listener == null || listener.getException() == null)) {
+                                throw e;
+                            }
+                            if (listener != null) {
+                                listener.resetError();
+                            }
+                            if (budgetListener != null) {
+                                budgetListener.reset();
+                            }
+                            if (nodeCounter != null) {
+                                nodeCounter.count = 0;
+                            }
+                            javaScriptParser.reset();
+                            javaScriptParser.setState(ATNState.INVALID_STATE_NUMBER);
+                            javaScriptParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                            context = parseContext();
+                        }
+                    } else {
+                        context = parseContext();
+                    }
+                } catch (RuntimeException e) {
+                    parseException = e;
+                }
+                if (observer != null) {
+                    nodeCount = nodeCounter.count;
+                    observer.onPhase(
+                            JavetSanitizerPhase.Parse, System.nanoTime() - startTime, inputSize, tokenCount, nodeCount);
+                }
+                if (parseException != null) {
+                    if (listener == null) {
+                        throw parseException;
+                    }
+                    throw toObservedJavetSanitizerException(parseException, listener);
+                }
+            } finally {
+                if (decisionProfiler != null) {
+                    decisionProfiler.add(javaScriptParserEngine.getJavaScriptParser().getParseInfo());
+                }
+                javaScriptLexer = null;
+                tokenStream = null;
+                javaScriptParser = null;
+                javaScriptParserEngine.release();
+            }
         }
         return (Parser) this;
     }
@@ -189,12 +431,100 @@ public abstract class BaseJavaScriptContextParser<
     public Parser parse() throws JavetSanitizerException {
         try {
             initializeContext();
+        } catch (JavetSanitizerException e) {
+            throw e;
         } catch (Throwable t) {
-            throw toJavetSanitizerExceptionException(t);
+            throw toObservedJavetSanitizerException(t, null);
         }
         return (Parser) this;
     }
 
+    /**
+     * Parse context by the JavaScript parser.
+     *
+     * @return the context
+     * @since 0.3.0
+     */
+    protected abstract Context parseContext();
+
+    /**
+     * Prescan the tokens before they are parsed.
+     * The token stream is filled by the lexer and the parser consumes the same buffered tokens afterwards,
+     * so the input is lexed only once.
+     *
+     * @param commonTokenStream the common token stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    protected void prescan(CommonTokenStream commonTokenStream) throws JavetSanitizerException {
+        commonTokenStream.fill();
+        Token token = JavetSanitizerTokenMatcher.getInstance().matches(option, commonTokenStream.getTokens());
+        if (token != null) {
+            JavetSanitizerException javetSanitizerException = token.getType() == JavaScriptLexer.Identifier
+                    ? JavetSanitizerException.identifierNotAllowed(token.getText(), option.isStackTraceEnabled())
+                    : JavetSanitizerException.keywordNotAllowed(token.getText(), option.isStackTraceEnabled());
+            throw javetSanitizerException.setContext(toJavaScriptParserContext(token));
+        }
+    }
+
+    /**
+     * Release the parse tree and the source once the parser is no longer needed.
+     * The children, the tokens and the exception of every rule context in the parse tree are dropped,
+     * so that a rule context still referenced elsewhere keeps neither the rest of the parse tree
+     * nor the token buffer. The parser and the parsers created from it cannot be used afterwards.
+     *
+     * @since 0.3.0
+     */
+    public void release() {
+        if (context != null) {
+            Deque<ParserRuleContext> parserRuleContexts = new ArrayDeque<>();
+            parserRuleContexts.push(context);
+            while (!parserRuleContexts.isEmpty()) {
+                ParserRuleContext parserRuleContext = parserRuleContexts.pop();
+                if (parserRuleContext.children != null) {
+                    for (ParseTree child : parserRuleContext.children) {
+                        if (child instanceof ParserRuleContext) {
+                            parserRuleContexts.push((ParserRuleContext) child);
+                        }
+                    }
+                    parserRuleContext.children = null;
+                }
+                parserRuleContext.exception = null;
+                parserRuleContext.start = null;
+                parserRuleContext.stop = null;
+            }
+            context = null;
+        }
+        charStream = null;
+        codeString = null;
+    }
+
+    /**
+     * Sets option.
+     *
+     * @param option the option
+     * @return the self
+     * @since 0.3.0
+     */
+    public Parser setOption(JavetSanitizerOption option) {
+        this.option = Objects.requireNonNull(option);
+        return (Parser) this;
+    }
+
+    private JavetSanitizerException toObservedJavetSanitizerException(
+            Throwable t, JavetSanitizerListener listener) {
+        final IJavetSanitizerObserver observer = option.getObserver();
+        final long startTime = observer == null ? 0L : System.nanoTime();
+        JavetSanitizerException javetSanitizerException = listener == null
+                ? toJavetSanitizerExceptionException(t)
+                : toJavetSanitizerExceptionException(t, listener);
+        if (observer != null) {
+            observer.onPhase(JavetSanitizerPhase.ErrorContext, System.nanoTime() - startTime,
+                    inputSize, tokenCount, nodeCount);
+        }
+        return javetSanitizerException;
+    }
+
     /**
      * To JavaScript parser context javet sanitizer error context.
      *
@@ -213,7 +543,8 @@ public abstract class BaseJavaScriptContextParser<
                     .setEndColumn(token.getCharPositionInLine() + endPosition - startPosition)
                     .setStartPosition(startPosition)
                     .setEndPosition(endPosition)
-                    .setSourceCode(codeString);
+                    .setSourceCode(codeString)
+                    .setSourceLine(toSourceLine(token.getInputStream(), startPosition, endPosition));
         }
         return null;
     }
@@ -237,11 +568,31 @@ public abstract class BaseJavaScriptContextParser<
                     .setEndColumn(parserRuleContext.getStop().getCharPositionInLine() + endPosition - stopToken.getStartIndex())
                     .setStartPosition(parserRuleContext.getStart().getStartIndex())
                     .setEndPosition(endPosition)
-                    .setSourceCode(codeString);
+                    .setSourceCode(codeString)
+                    .setSourceLine(toSourceLine(
+                            stopToken.getInputStream(),
+                            parserRuleContext.getStart().getStartIndex(),
+                            endPosition));
         }
         return null;
     }
 
+    /**
+     * To source line from the char stream if the code string is not materialized.
+     *
+     * @param charStream    the char stream
+     * @param startPosition the start position
+     * @param endPosition   the end position
+     * @return the source line, null if the code string is available
+     * @since 0.3.0
+     */
+    protected String toSourceLine(CharStream charStream, int startPosition, int endPosition) {
+        if (codeString != null || charStream == null) {
+            return null;
+        }
+        return charStream.getText(Interval.of(startPosition, endPosition - 1));
+    }
+
     /**
      * To javet sanitizer exception exception javet sanitizer exception.
      *
@@ -250,6 +601,11 @@ public abstract class BaseJavaScriptContextParser<
      * @since 0.1.0
      */
     public JavetSanitizerException toJavetSanitizerExceptionException(Throwable t) {
+        if (t instanceof JavaScriptBudgetExceededException) {
+            JavaScriptBudgetExceededException budgetExceededException = (JavaScriptBudgetExceededException) t;
+            return budgetExceededException.getException()
+                    .setContext(toJavaScriptParserContext(budgetExceededException.getToken()));
+        }
         if (t instanceof ParseCancellationException) {
             Throwable innerException = t.getCause();
             if (innerException instanceof RecognitionException) {
@@ -265,6 +621,28 @@ public abstract class BaseJavaScriptContextParser<
         return JavetSanitizerException.unknownError(t.getMessage(), t);
     }
 
+    /**
+     * To javet sanitizer exception exception javet sanitizer exception.
+     * The error raised by the listener takes precedence over the throwable which unwinds the parse or the walk.
+     *
+     * @param t        the t
+     * @param listener the listener
+     * @return the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavetSanitizerException toJavetSanitizerExceptionException(
+            Throwable t, JavetSanitizerListener listener) {
+        JavetSanitizerException javetSanitizerException = listener.getException();
+        if (javetSanitizerException == null) {
+            return toJavetSanitizerExceptionException(t);
+        }
+        ParserRuleContext parserRuleContext = listener.getErrorContext();
+        if (parserRuleContext != null) {
+            javetSanitizerException.setContext(toJavaScriptParserContext(parserRuleContext));
+        }
+        return javetSanitizerException;
+    }
+
     /**
      * Validate child class parser.
      *
@@ -375,20 +753,61 @@ public abstract class BaseJavaScriptContextParser<
      * @since 0.1.0
      */
     public <Listener extends JavetSanitizerListener> Parser walk(Listener listener) throws JavetSanitizerException {
-        ParseTreeWalker parseTreeWalker = new ParseTreeWalker();
+        final IJavetSanitizerObserver observer = option.getObserver();
+        long startTime = 0L;
+        if (observer != null) {
+            if (nodeCount == 0) {
+                // The sub-tree of a child parser is measured before the walk is timed.
+                Token startToken = context.getStart();
+                Token stopToken = context.getStop();
+                if (startToken != null && stopToken != null) {
+                    inputSize = stopToken.getStopIndex() + 1 - startToken.getStartIndex();
+                    tokenCount = stopToken.getTokenIndex() + 1 - startToken.getTokenIndex();
+                }
+                nodeCount = countNodes(context);
+            }
+            startTime = System.nanoTime();
+        }
+        Throwable throwable = null;
         try {
-            parseTreeWalker.walk(listener, context);
+            ParseTreeWalker.DEFAULT.walk(listener, context);
         } catch (Throwable t) {
-            JavetSanitizerException javetSanitizerException = listener.getException();
-            if (javetSanitizerException == null) {
-                throw toJavetSanitizerExceptionException(t);
-            }
-            ParserRuleContext parserRuleContext = listener.getErrorContext();
-            if (parserRuleContext != null) {
-                javetSanitizerException.setContext(toJavaScriptParserContext(parserRuleContext));
-            }
-            throw javetSanitizerException;
+            throwable = t;
+        }
+        if (observer != null) {
+            observer.onPhase(
+                    JavetSanitizerPhase.Walk, System.nanoTime() - startTime, inputSize, tokenCount, nodeCount);
+        }
+        if (throwable != null) {
+            throw toObservedJavetSanitizerException(throwable, listener);
         }
         return (Parser) this;
     }
+
+    private static final class NodeCounter implements ParseTreeListener {
+        private int count;
+
+        NodeCounter() {
+            count = 0;
+        }
+
+        @Override
+        public void enterEveryRule(ParserRuleContext ctx) {
+            ++count;
+        }
+
+        @Override
+        public void exitEveryRule(ParserRuleContext ctx) {
+        }
+
+        @Override
+        public void visitErrorNode(ErrorNode node) {
+            ++count;
+        }
+
+        @Override
+        public void visitTerminal(TerminalNode node) {
+            ++count;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * The interface JavaScript symbol token is a token that carries the symbol of its identifier
+ * interned when the token is lexed.
+ *
+ * @since 0.3.0
+ */
+public interface IJavaScriptSymbolToken extends Token {
+    /**
+     * Gets symbol.
+     *
+     * @return the symbol, {@link JavetSanitizerSymbolTable#INVALID_SYMBOL} if the token is not an interned identifier
+     * @since 0.3.0
+     */
+    int getSymbol();
+
+    /**
+     * Gets symbol table.
+     *
+     * @return the symbol table, null if the identifiers are not interned
+     * @since 0.3.0
+     */
+    JavetSanitizerSymbolTable getSymbolTable();
+}
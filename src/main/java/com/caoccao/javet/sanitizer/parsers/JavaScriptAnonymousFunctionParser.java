@@ -19,6 +19,7 @@ package com.caoccao.javet.sanitizer.parsers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type JavaScript anonymous function parser.
@@ -39,6 +40,17 @@ public class JavaScriptAnonymousFunctionParser
         this(null, codeString);
     }
 
+    /**
+     * Instantiates a new JavaScript anonymous function parser from a char stream.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavaScriptAnonymousFunctionParser(CharStream charStream) throws JavetSanitizerException {
+        super(charStream);
+    }
+
     /**
      * Instantiates a new JavaScript anonymous function parser.
      *
@@ -54,11 +66,7 @@ public class JavaScriptAnonymousFunctionParser
     }
 
     @Override
-    protected JavaScriptAnonymousFunctionParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.anonymousFunction();
-        }
-        return this;
+    protected JavaScriptParser.AnonymousFunctionContext parseContext() {
+        return javaScriptParser.anonymousFunction();
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * The type JavaScript budget exceeded exception unwinds the lexer and the parser as soon as a budget
+ * of the option is exceeded. It carries the error and the offending token to the context parser
+ * which turns them into the javet sanitizer exception.
+ *
+ * @since 0.3.0
+ */
+final class JavaScriptBudgetExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    private final JavetSanitizerException exception;
+    private final Token token;
+
+    JavaScriptBudgetExceededException(JavetSanitizerException exception, Token token) {
+        super(exception.getMessage(), null, false, false);
+        this.exception = exception;
+        this.token = token;
+    }
+
+    JavetSanitizerException getException() {
+        return exception;
+    }
+
+    Token getToken() {
+        return token;
+    }
+}
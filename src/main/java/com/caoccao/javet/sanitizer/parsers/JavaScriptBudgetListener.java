@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.Arrays;
+
+/**
+ * The type JavaScript budget listener enforces the max nesting depth and the max node count
+ * while the parse tree is being built. The nesting depth is the depth of the rule contexts in the parse tree,
+ * which is also the recursion depth of the walk.
+ *
+ * @since 0.3.0
+ */
+final class JavaScriptBudgetListener implements ParseTreeListener {
+    private static final int INITIAL_CAPACITY = 64;
+    private final int maxNestingDepth;
+    private final int maxNodeCount;
+    private int[] heights;
+    private int lastHeight;
+    private int nodeCount;
+    private int stackSize;
+
+    JavaScriptBudgetListener(int maxNestingDepth, int maxNodeCount) {
+        this.maxNestingDepth = maxNestingDepth;
+        this.maxNodeCount = maxNodeCount;
+        heights = new int[INITIAL_CAPACITY];
+        reset();
+    }
+
+    private void countNode(Token token) {
+        if (++nodeCount > maxNodeCount && maxNodeCount > 0) {
+            throw new JavaScriptBudgetExceededException(
+                    JavetSanitizerException.nodeCountTooLarge(maxNodeCount, nodeCount), token);
+        }
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        countNode(ctx.getStart());
+        // A left-recursive rule exits the previous context and enters a new one which nests it as the first child,
+        // so the new context is as high as the previous one plus one at the same position of the stack.
+        final int height = ctx.getChildCount() > 0 ? lastHeight + 1 : 1;
+        if (stackSize == heights.length) {
+            heights = Arrays.copyOf(heights, stackSize * 2);
+        }
+        heights[stackSize++] = height;
+        // The parse tree is at least as deep as the stack above the context plus the height of the context.
+        final int nestingDepth = stackSize - 1 + height;
+        if (nestingDepth > maxNestingDepth && maxNestingDepth > 0) {
+            throw new JavaScriptBudgetExceededException(
+                    JavetSanitizerException.nestingDepthTooLarge(maxNestingDepth, nestingDepth), ctx.getStart());
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        lastHeight = heights[--stackSize];
+        if (stackSize > 0 && heights[stackSize - 1] <= lastHeight) {
+            heights[stackSize - 1] = lastHeight + 1;
+        }
+    }
+
+    /**
+     * Reset the counters before the tokens are parsed again.
+     *
+     * @since 0.3.0
+     */
+    void reset() {
+        lastHeight = 0;
+        nodeCount = 0;
+        stackSize = 0;
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        countNode(node.getSymbol());
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        countNode(node.getSymbol());
+    }
+}
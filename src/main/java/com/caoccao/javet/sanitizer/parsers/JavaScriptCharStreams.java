@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * The type JavaScript char streams creates char streams from files.
+ *
+ * @since 0.3.0
+ */
+public final class JavaScriptCharStreams {
+    private static final int DECODING_BUFFER_SIZE = 64 * 1024;
+
+    private JavaScriptCharStreams() {
+    }
+
+    /**
+     * Create a char stream from the file channel.
+     * <p>
+     * The file is mapped read-only. If the file is pure ASCII, which is the common case of the bundled
+     * or minified scripts, the lexer reads the mapped buffer directly.
+     * Otherwise, the file is decoded as UTF-8 from the mapped buffer into a code point char stream.
+     * The mapping is released when the char stream and the tokens created from it are garbage collected.
+     *
+     * @param fileChannel the file channel
+     * @param sourceName  the source name
+     * @return the char stream
+     * @throws IOException the io exception
+     * @since 0.3.0
+     */
+    public static CharStream fromFileChannel(FileChannel fileChannel, String sourceName) throws IOException {
+        final long size = Objects.requireNonNull(fileChannel).size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("File size " + size + " exceeds " + Integer.MAX_VALUE + ".");
+        }
+        MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (JavaScriptMappedCharStream.isASCII(mappedByteBuffer)) {
+            return new JavaScriptMappedCharStream(mappedByteBuffer, sourceName);
+        }
+        return CharStreams.fromChannel(
+                new ByteBufferChannel(mappedByteBuffer),
+                StandardCharsets.UTF_8,
+                DECODING_BUFFER_SIZE,
+                CodingErrorAction.REPLACE,
+                sourceName == null ? IntStream.UNKNOWN_SOURCE_NAME : sourceName,
+                size);
+    }
+
+    /**
+     * Create a char stream from the path.
+     *
+     * @param path the path
+     * @return the char stream
+     * @throws IOException the io exception
+     * @since 0.3.0
+     */
+    public static CharStream fromPath(Path path) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return fromFileChannel(fileChannel, path.toString());
+        }
+    }
+
+    private static final class ByteBufferChannel implements ReadableByteChannel {
+        private final ByteBuffer byteBuffer;
+        private boolean open;
+
+        private ByteBufferChannel(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+            open = true;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!byteBuffer.hasRemaining()) {
+                return -1;
+            }
+            final int length = Math.min(dst.remaining(), byteBuffer.remaining());
+            ByteBuffer chunk = byteBuffer.duplicate();
+            chunk.limit(chunk.position() + length);
+            dst.put(chunk);
+            byteBuffer.position(byteBuffer.position() + length);
+            return length;
+        }
+    }
+}
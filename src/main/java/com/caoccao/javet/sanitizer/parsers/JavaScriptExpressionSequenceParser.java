@@ -18,6 +18,7 @@ package com.caoccao.javet.sanitizer.parsers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type JavaScript expression sequence parser.
@@ -37,6 +38,17 @@ public class JavaScriptExpressionSequenceParser
         this(null, codeString);
     }
 
+    /**
+     * Instantiates a new JavaScript expression sequence parser from a char stream.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavaScriptExpressionSequenceParser(CharStream charStream) throws JavetSanitizerException {
+        super(charStream);
+    }
+
     /**
      * Instantiates a new JavaScript expression sequence parser.
      *
@@ -53,12 +65,8 @@ public class JavaScriptExpressionSequenceParser
     }
 
     @Override
-    protected JavaScriptExpressionSequenceParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.expressionSequence();
-        }
-        return this;
+    protected JavaScriptParser.ExpressionSequenceContext parseContext() {
+        return javaScriptParser.expressionSequence();
     }
 
     @Override
@@ -121,12 +121,8 @@ public class JavaScriptFunctionDeclarationParser
     }
 
     @Override
-    protected JavaScriptFunctionDeclarationParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.functionDeclaration();
-        }
-        return this;
+    protected JavaScriptParser.FunctionDeclarationContext parseContext() {
+        return javaScriptParser.functionDeclaration();
     }
 
     @Override
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The type JavaScript mapped char stream is a char stream over a read-only ASCII byte buffer,
+ * usually a memory-mapped file, so that the lexer reads the file without copying it to the heap.
+ * Each byte is a code point, so the indexes, lines and columns are the same as the ones of the string.
+ * Only the token texts are copied to the heap.
+ *
+ * @since 0.3.0
+ */
+public final class JavaScriptMappedCharStream implements CharStream {
+    private final ByteBuffer byteBuffer;
+    private final String sourceName;
+    private final int size;
+    private int position;
+
+    /**
+     * Instantiates a new JavaScript mapped char stream.
+     *
+     * @param byteBuffer the byte buffer of ASCII characters
+     * @param sourceName the source name
+     * @since 0.3.0
+     */
+    public JavaScriptMappedCharStream(ByteBuffer byteBuffer, String sourceName) {
+        this.byteBuffer = Objects.requireNonNull(byteBuffer).asReadOnlyBuffer().slice();
+        this.sourceName = sourceName == null || sourceName.isEmpty() ? IntStream.UNKNOWN_SOURCE_NAME : sourceName;
+        size = this.byteBuffer.remaining();
+        position = 0;
+    }
+
+    /**
+     * Is ASCII.
+     *
+     * @param byteBuffer the byte buffer
+     * @return true : all the bytes between the position and the limit are ASCII, false : otherwise
+     * @since 0.3.0
+     */
+    public static boolean isASCII(ByteBuffer byteBuffer) {
+        final int limit = byteBuffer.limit();
+        for (int i = byteBuffer.position(); i < limit; i++) {
+            if (byteBuffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int LA(int i) {
+        final int index;
+        if (i > 0) {
+            index = position + i - 1;
+        } else if (i < 0) {
+            index = position + i;
+        } else {
+            return 0;
+        }
+        if (index < 0 || index >= size) {
+            return IntStream.EOF;
+        }
+        return byteBuffer.get(index);
+    }
+
+    @Override
+    public void consume() {
+        if (position >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        ++position;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        final int startIndex = Math.min(interval.a, size);
+        final int length = Math.min(interval.b - interval.a + 1, size - startIndex);
+        if (length <= 0) {
+            return "";
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = byteBuffer.get(startIndex + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerCompiledOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import java.util.Objects;
+
+/**
+ * The type JavaScript parser engine holds reusable lexers, token stream and parser.
+ * Each thread owns one engine which is reset per parse instead of being constructed again.
+ * Parse trees built by the engine stay valid after the engine is reused,
+ * because each input gets its own token buffer and the tokens keep the char stream they were created from.
+ * The engine does not retain the buffered tokens or the parse tree after it is released.
+ *
+ * @since 0.3.0
+ */
+public final class JavaScriptParserEngine {
+    private static final ThreadLocal<JavaScriptParserEngine> THREAD_LOCAL_ENGINE =
+            ThreadLocal.withInitial(JavaScriptParserEngine::new);
+    private final CharStream emptyCharStream;
+    private final JavaScriptLexer javaScriptLexer;
+    private final JavaScriptParser javaScriptParser;
+    private final JavaScriptTableDrivenLexer tableDrivenLexer;
+    private final JavaScriptTokenStream tokenStream;
+    private boolean inUse;
+
+    private JavaScriptParserEngine() {
+        emptyCharStream = CharStreams.fromString("");
+        javaScriptLexer = new JavaScriptLexer(emptyCharStream);
+        tableDrivenLexer = new JavaScriptTableDrivenLexer(emptyCharStream);
+        tokenStream = new JavaScriptTokenStream(javaScriptLexer);
+        javaScriptParser = new JavaScriptParser(tokenStream);
+        javaScriptParser.setBuildParseTree(true);
+        javaScriptParser.setErrorHandler(new BailErrorStrategy());
+        inUse = false;
+    }
+
+    /**
+     * Acquire the engine of the current thread with the code string as input.
+     * A fresh engine is created if the engine of the current thread is in use,
+     * so that nested parses never share the same lexer and parser.
+     * The engine must be released after the parse.
+     *
+     * @param codeString the code string
+     * @return the engine
+     * @since 0.3.0
+     */
+    public static JavaScriptParserEngine acquire(String codeString) {
+        return acquire(CharStreams.fromString(Objects.requireNonNull(codeString)));
+    }
+
+    /**
+     * Acquire the engine of the current thread with the char stream as input.
+     *
+     * @param charStream the char stream
+     * @return the engine
+     * @see #acquire(String)
+     * @since 0.3.0
+     */
+    public static JavaScriptParserEngine acquire(CharStream charStream) {
+        Objects.requireNonNull(charStream);
+        JavaScriptParserEngine engine = THREAD_LOCAL_ENGINE.get();
+        if (engine.inUse) {
+            engine = new JavaScriptParserEngine();
+        }
+        engine.inUse = true;
+        return engine.reset(charStream);
+    }
+
+    /**
+     * Gets JavaScript lexer.
+     *
+     * @return the JavaScript lexer
+     * @since 0.3.0
+     */
+    public JavaScriptLexer getJavaScriptLexer() {
+        return javaScriptLexer;
+    }
+
+    /**
+     * Gets JavaScript parser.
+     *
+     * @return the JavaScript parser
+     * @since 0.3.0
+     */
+    public JavaScriptParser getJavaScriptParser() {
+        return javaScriptParser;
+    }
+
+    /**
+     * Gets table-driven lexer.
+     *
+     * @return the table-driven lexer
+     * @since 0.3.0
+     */
+    public JavaScriptTableDrivenLexer getTableDrivenLexer() {
+        return tableDrivenLexer;
+    }
+
+    /**
+     * Gets token stream.
+     *
+     * @return the token stream
+     * @since 0.3.0
+     */
+    public CommonTokenStream getTokenStream() {
+        return tokenStream;
+    }
+
+    /**
+     * Is in use.
+     *
+     * @return true : in use, false : not in use
+     * @since 0.3.0
+     */
+    public boolean isInUse() {
+        return inUse;
+    }
+
+    /**
+     * Release the engine so that it can be acquired again.
+     * The buffered tokens and the input are dropped so that the engine does not retain them.
+     *
+     * @since 0.3.0
+     */
+    public void release() {
+        reset(emptyCharStream);
+        inUse = false;
+    }
+
+    /**
+     * Sets compiled option of the acquired engine. It must be called before the first token is fetched.
+     * The identifier tokens are interned into a new symbol table of the compiled option per input,
+     * so that the identifier matchers look up the symbols instead of the text.
+     * The compiled option is reset when the engine is released.
+     *
+     * @param compiledOption the compiled option, null for no interning
+     * @since 0.3.0
+     */
+    public void setCompiledOption(JavetSanitizerCompiledOption compiledOption) {
+        tokenStream.setSymbolTable(compiledOption == null ? null : compiledOption.createSymbolTable());
+    }
+
+    /**
+     * Sets decision profiling enabled of the acquired engine.
+     * The parser predicts with the ANTLR profiling simulator which shares the DFA of the regular simulator,
+     * and the statistics of the parse are available from {@link JavaScriptParser#getParseInfo()}.
+     * The decision profiling is disabled when the engine is released.
+     *
+     * @param decisionProfilingEnabled the decision profiling enabled
+     * @since 0.3.0
+     */
+    public void setDecisionProfilingEnabled(boolean decisionProfilingEnabled) {
+        javaScriptParser.setProfile(decisionProfilingEnabled);
+    }
+
+    /**
+     * Sets lexer type of the acquired engine. It must be called before the first token is fetched.
+     * The generated lexer is selected again when the engine is released.
+     *
+     * @param lexerType the lexer type
+     * @since 0.3.0
+     */
+    public void setLexerType(JavetSanitizerLexerType lexerType) {
+        tokenStream.setTokenSource(lexerType == JavetSanitizerLexerType.TableDriven ? tableDrivenLexer : javaScriptLexer);
+    }
+
+    /**
+     * Sets max token count of the acquired engine.
+     * The lexer is stopped as soon as it produces more tokens than the max token count.
+     * The max token count is reset when the engine is released.
+     *
+     * @param maxTokenCount the max token count, 0 for unlimited
+     * @since 0.3.0
+     */
+    public void setMaxTokenCount(int maxTokenCount) {
+        tokenStream.setMaxTokenCount(maxTokenCount);
+    }
+
+    private JavaScriptParserEngine reset(CharStream charStream) {
+        // Lexer.setInputStream() calls JavaScriptLexerBase.reset() which clears the strict mode scopes,
+        // the template depth and the last token, but also turns the default strict mode off.
+        javaScriptLexer.setInputStream(charStream);
+        javaScriptLexer.setUseStrictDefault(true);
+        tableDrivenLexer.setInputStream(charStream);
+        tableDrivenLexer.setUseStrictDefault(true);
+        tokenStream.setSymbolTable(null);
+        tokenStream.setTokenSource(javaScriptLexer);
+        tokenStream.setMaxTokenCount(0);
+        javaScriptParser.setTokenStream(tokenStream);
+        javaScriptParser.removeParseListeners();
+        // Parser.reset() keeps the last ATN state which would become the invoking state of the next root context.
+        javaScriptParser.setState(ATNState.INVALID_STATE_NUMBER);
+        javaScriptParser.setProfile(false);
+        // The simulator keeps the outer context of the last prediction which would retain the last parse tree.
+        ParserATNSimulator parserATNSimulator = javaScriptParser.getInterpreter();
+        javaScriptParser.setInterpreter(new ParserATNSimulator(
+                javaScriptParser,
+                javaScriptParser.getATN(),
+                parserATNSimulator.decisionToDFA,
+                parserATNSimulator.getSharedContextCache()));
+        javaScriptParser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return this;
+    }
+}
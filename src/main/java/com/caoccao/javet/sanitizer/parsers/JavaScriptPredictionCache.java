@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The type JavaScript prediction cache.
+ * <p>
+ * The JavaScript parser predicts alternatives with a DFA that is shared by all parser instances
+ * in the JVM and is built lazily from the ATN, so the first checks after startup are much slower
+ * than the steady state. This class warms up the DFA from a corpus of representative scripts,
+ * and saves the warmed parser DFA as a snapshot which can be loaded at startup.
+ * <p>
+ * Only the SLL DFA is cached by ANTLR. Decisions that fall back to full LL prediction
+ * are computed per parse in any case.
+ *
+ * @since 0.3.0
+ */
+public final class JavaScriptPredictionCache {
+    private static final int CONTEXT_ARRAY = 2;
+    private static final int CONTEXT_EMPTY = 0;
+    private static final int CONTEXT_SINGLETON = 1;
+    private static final int EDGE_ERROR = -2;
+    private static final int EDGE_NONE = -1;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x4A534446;
+    private static final int SEMANTIC_AND = 3;
+    private static final int SEMANTIC_NONE = 0;
+    private static final int SEMANTIC_OR = 4;
+    private static final int SEMANTIC_PRECEDENCE = 2;
+    private static final int SEMANTIC_PREDICATE = 1;
+
+    private JavaScriptPredictionCache() {
+    }
+
+    /**
+     * Clear the parser DFA and the lexer DFA.
+     *
+     * @since 0.3.0
+     */
+    public static void clear() {
+        getParserATNSimulator().clearDFA();
+        new JavaScriptLexer(null).getInterpreter().clearDFA();
+    }
+
+    private static PredictionContext getEmptyContext() {
+        // PredictionContext.EMPTY was moved to EmptyPredictionContext.Instance in antlr v4.13.
+        return PredictionContext.fromRuleContext(JavaScriptParser._ATN, null);
+    }
+
+    private static SemanticContext getNoneSemanticContext(ATN atn) {
+        // SemanticContext.NONE was moved to SemanticContext.Empty.Instance in antlr v4.13.
+        return new ATNConfig(atn.states.get(0), 1, null).semanticContext;
+    }
+
+    private static ParserATNSimulator getParserATNSimulator() {
+        return new JavaScriptParser(null).getInterpreter();
+    }
+
+    /**
+     * Gets the number of states in the parser DFA.
+     *
+     * @return the state count
+     * @since 0.3.0
+     */
+    public static int getStateCount() {
+        int stateCount = 0;
+        for (DFA dfa : getParserATNSimulator().decisionToDFA) {
+            synchronized (dfa.states) {
+                stateCount += dfa.states.size();
+            }
+        }
+        return stateCount;
+    }
+
+    /**
+     * Load the parser DFA from a snapshot created by {@link #save(OutputStream)}.
+     * The current parser DFA is replaced.
+     * A snapshot created for a different grammar or antlr runtime is ignored.
+     *
+     * @param inputStream the input stream
+     * @return true : loaded, false : ignored
+     * @throws IOException the io exception
+     * @since 0.3.0
+     */
+    public static boolean load(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(Objects.requireNonNull(inputStream));
+        if (dataInputStream.readInt() != MAGIC) {
+            throw new IOException("The JavaScript prediction cache snapshot is invalid.");
+        }
+        if (dataInputStream.readInt() != FORMAT_VERSION
+                || !RuntimeMetaData.VERSION.equals(dataInputStream.readUTF())
+                || dataInputStream.readInt() != JavaScriptParser._serializedATN.length()
+                || dataInputStream.readInt() != JavaScriptParser._serializedATN.hashCode()) {
+            return false;
+        }
+        final long checksum = dataInputStream.readLong();
+        byte[] payload = new byte[dataInputStream.readInt()];
+        dataInputStream.readFully(payload);
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        if (crc32.getValue() != checksum) {
+            throw new IOException("The JavaScript prediction cache snapshot is corrupted.");
+        }
+        ParserATNSimulator parserATNSimulator = getParserATNSimulator();
+        DFA[] dfas;
+        try {
+            dfas = new SnapshotReader(parserATNSimulator, new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(new ByteArrayInputStream(payload))))).read();
+        } catch (RuntimeException e) {
+            throw new IOException("The JavaScript prediction cache snapshot is corrupted.", e);
+        }
+        System.arraycopy(dfas, 0, parserATNSimulator.decisionToDFA, 0, dfas.length);
+        return true;
+    }
+
+    /**
+     * Save the parser DFA as a snapshot.
+     * It is expected to be called after the warm-up while no other thread is parsing.
+     *
+     * @param outputStream the output stream
+     * @throws IOException the io exception
+     * @since 0.3.0
+     */
+    public static void save(OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            new SnapshotWriter(new DataOutputStream(gzipOutputStream)).write(getParserATNSimulator().decisionToDFA);
+        }
+        byte[] payload = byteArrayOutputStream.toByteArray();
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        DataOutputStream dataOutputStream = new DataOutputStream(Objects.requireNonNull(outputStream));
+        dataOutputStream.writeInt(MAGIC);
+        dataOutputStream.writeInt(FORMAT_VERSION);
+        dataOutputStream.writeUTF(RuntimeMetaData.VERSION);
+        dataOutputStream.writeInt(JavaScriptParser._serializedATN.length());
+        dataOutputStream.writeInt(JavaScriptParser._serializedATN.hashCode());
+        dataOutputStream.writeLong(crc32.getValue());
+        dataOutputStream.writeInt(payload.length);
+        dataOutputStream.write(payload);
+        dataOutputStream.flush();
+    }
+
+    /**
+     * Warm up the parser DFA and the lexer DFA by parsing the code strings
+     * with the root rules used by the checkers. Invalid code strings are ignored.
+     *
+     * @param codeStrings the code strings
+     * @return the number of parser DFA states added
+     * @since 0.3.0
+     */
+    public static int warmUp(Iterable<String> codeStrings) {
+        final int initialStateCount = getStateCount();
+        for (String codeString : Objects.requireNonNull(codeStrings)) {
+            if (codeString == null) {
+                continue;
+            }
+            try {
+                new JavaScriptStatementListParser(codeString).parse();
+            } catch (JavetSanitizerException ignored) {
+            }
+            try {
+                new JavaScriptExpressionSequenceParser(codeString).parse();
+            } catch (JavetSanitizerException ignored) {
+            }
+            try {
+                new JavaScriptAnonymousFunctionParser(codeString).parse();
+            } catch (JavetSanitizerException ignored) {
+            }
+        }
+        return getStateCount() - initialStateCount;
+    }
+
+    private static final class SnapshotReader {
+        private final ATN atn;
+        private final List<PredictionContext> contexts;
+        private final DataInputStream dataInputStream;
+        private final DFA[] dfas;
+        private final SemanticContext noneSemanticContext;
+        private final List<SemanticContext> semanticContexts;
+        private final PredictionContextCache sharedContextCache;
+
+        private SnapshotReader(ParserATNSimulator parserATNSimulator, DataInputStream dataInputStream) {
+            atn = parserATNSimulator.atn;
+            contexts = new ArrayList<>();
+            this.dataInputStream = dataInputStream;
+            dfas = new DFA[parserATNSimulator.decisionToDFA.length];
+            noneSemanticContext = getNoneSemanticContext(atn);
+            semanticContexts = new ArrayList<>();
+            sharedContextCache = parserATNSimulator.getSharedContextCache();
+        }
+
+        private DFA[] read() throws IOException {
+            readContexts();
+            readSemanticContexts();
+            final int decisionCount = dataInputStream.readInt();
+            if (decisionCount != dfas.length) {
+                throw new IOException("The decision count " + decisionCount + " is invalid.");
+            }
+            for (int decision = 0; decision < decisionCount; ++decision) {
+                dfas[decision] = readDFA(decision);
+            }
+            return dfas;
+        }
+
+        private int readAlt(DecisionState decisionState) throws IOException {
+            final int alt = dataInputStream.readInt();
+            if (alt < ATN.INVALID_ALT_NUMBER || alt > decisionState.getNumberOfTransitions()) {
+                throw new IOException("The alternative " + alt + " is invalid.");
+            }
+            return alt;
+        }
+
+        private void readContexts() throws IOException {
+            final int contextCount = dataInputStream.readInt();
+            for (int i = 0; i < contextCount; ++i) {
+                final int type = dataInputStream.readByte();
+                PredictionContext context;
+                if (type == CONTEXT_EMPTY) {
+                    context = getEmptyContext();
+                } else if (type == CONTEXT_SINGLETON) {
+                    PredictionContext parent = readReference(contexts);
+                    context = SingletonPredictionContext.create(parent, readReturnState());
+                } else if (type == CONTEXT_ARRAY) {
+                    final int size = dataInputStream.readInt();
+                    PredictionContext[] parents = new PredictionContext[size];
+                    int[] returnStates = new int[size];
+                    for (int j = 0; j < size; ++j) {
+                        parents[j] = readReference(contexts);
+                        returnStates[j] = readReturnState();
+                    }
+                    context = new ArrayPredictionContext(parents, returnStates);
+                } else {
+                    throw new IOException("The prediction context type " + type + " is invalid.");
+                }
+                contexts.add(sharedContextCache.add(context));
+            }
+        }
+
+        private DFA readDFA(int decision) throws IOException {
+            DecisionState decisionState = atn.getDecisionState(decision);
+            DFA dfa = new DFA(decisionState, decision);
+            if (dataInputStream.readBoolean() != dfa.isPrecedenceDfa()) {
+                throw new IOException("The precedence of decision " + decision + " is invalid.");
+            }
+            final int stateCount = dataInputStream.readInt();
+            List<DFAState> states = new ArrayList<>(stateCount);
+            for (int i = 0; i < stateCount; ++i) {
+                states.add(readDFAState(decisionState));
+            }
+            for (DFAState state : states) {
+                state.edges = readEdges(states);
+                dfa.states.put(state, state);
+            }
+            if (dfa.isPrecedenceDfa()) {
+                DFAState[] edges = readEdges(states);
+                if (edges != null) {
+                    for (int precedence = 0; precedence < edges.length; ++precedence) {
+                        if (edges[precedence] != null) {
+                            dfa.setPrecedenceStartState(precedence, edges[precedence]);
+                        }
+                    }
+                }
+            } else {
+                final int index = dataInputStream.readInt();
+                dfa.s0 = index == EDGE_NONE ? null : states.get(index);
+            }
+            return dfa;
+        }
+
+        private DFAState readDFAState(DecisionState decisionState) throws IOException {
+            final int stateNumber = dataInputStream.readInt();
+            final boolean isAcceptState = dataInputStream.readBoolean();
+            final int prediction = readAlt(decisionState);
+            final boolean requiresFullContext = dataInputStream.readBoolean();
+            final int uniqueAlt = readAlt(decisionState);
+            ATNConfigSet configs = new ATNConfigSet(false);
+            final int configCount = dataInputStream.readInt();
+            for (int i = 0; i < configCount; ++i) {
+                final int atnStateNumber = dataInputStream.readInt();
+                if (atnStateNumber < 0 || atnStateNumber >= atn.states.size()) {
+                    throw new IOException("The ATN state " + atnStateNumber + " is invalid.");
+                }
+                ATNState atnState = atn.states.get(atnStateNumber);
+                final int alt = readAlt(decisionState);
+                PredictionContext context = readReference(contexts);
+                SemanticContext semanticContext = readReference(semanticContexts);
+                ATNConfig config = semanticContext == noneSemanticContext
+                        ? new ATNConfig(atnState, alt, context)
+                        : new ATNConfig(atnState, alt, context, semanticContext);
+                config.reachesIntoOuterContext = dataInputStream.readInt();
+                config.setPrecedenceFilterSuppressed(dataInputStream.readBoolean());
+                configs.add(config);
+            }
+            configs.uniqueAlt = uniqueAlt;
+            if (requiresFullContext) {
+                // The conflicting alternatives are only consumed by the full context prediction.
+                // They are derived from the configs the same way the parser ATN simulator does.
+                configs = new ConflictingATNConfigSet(configs);
+            }
+            configs.setReadonly(true);
+            DFAState state = new DFAState(configs);
+            state.stateNumber = stateNumber;
+            state.isAcceptState = isAcceptState;
+            state.prediction = prediction;
+            state.requiresFullContext = requiresFullContext;
+            final int predicateCount = dataInputStream.readInt();
+            if (predicateCount != EDGE_NONE) {
+                state.predicates = new DFAState.PredPrediction[predicateCount];
+                for (int i = 0; i < predicateCount; ++i) {
+                    SemanticContext semanticContext = readReference(semanticContexts);
+                    state.predicates[i] = new DFAState.PredPrediction(semanticContext, readAlt(decisionState));
+                }
+            }
+            return state;
+        }
+
+        private DFAState[] readEdges(List<DFAState> states) throws IOException {
+            final int edgeCount = dataInputStream.readInt();
+            if (edgeCount == EDGE_NONE) {
+                return null;
+            }
+            DFAState[] edges = new DFAState[edgeCount];
+            for (int i = 0; i < edgeCount; ++i) {
+                final int index = dataInputStream.readInt();
+                if (index == EDGE_ERROR) {
+                    edges[i] = ATNSimulator.ERROR;
+                } else if (index != EDGE_NONE) {
+                    edges[i] = states.get(index);
+                }
+            }
+            return edges;
+        }
+
+        private <T> T readReference(List<T> list) throws IOException {
+            final int index = dataInputStream.readInt();
+            return index == EDGE_NONE ? null : list.get(index);
+        }
+
+        private int readReturnState() throws IOException {
+            final int returnState = dataInputStream.readInt();
+            if (returnState != PredictionContext.EMPTY_RETURN_STATE
+                    && (returnState < 0 || returnState >= atn.states.size())) {
+                throw new IOException("The return state " + returnState + " is invalid.");
+            }
+            return returnState;
+        }
+
+        private void readSemanticContexts() throws IOException {
+            final int semanticContextCount = dataInputStream.readInt();
+            for (int i = 0; i < semanticContextCount; ++i) {
+                final int type = dataInputStream.readByte();
+                SemanticContext semanticContext;
+                if (type == SEMANTIC_NONE) {
+                    semanticContext = noneSemanticContext;
+                } else if (type == SEMANTIC_PREDICATE) {
+                    final int ruleIndex = dataInputStream.readInt();
+                    final int predIndex = dataInputStream.readInt();
+                    semanticContext = new SemanticContext.Predicate(
+                            ruleIndex, predIndex, dataInputStream.readBoolean());
+                } else if (type == SEMANTIC_PRECEDENCE) {
+                    semanticContext = new SemanticContext.PrecedencePredicate(dataInputStream.readInt());
+                } else if (type == SEMANTIC_AND || type == SEMANTIC_OR) {
+                    final int operandCount = dataInputStream.readInt();
+                    semanticContext = readReference(semanticContexts);
+                    for (int j = 1; j < operandCount; ++j) {
+                        SemanticContext operand = readReference(semanticContexts);
+                        semanticContext = type == SEMANTIC_AND
+                                ? new SemanticContext.AND(semanticContext, operand)
+                                : new SemanticContext.OR(semanticContext, operand);
+                    }
+                } else {
+                    throw new IOException("The semantic context type " + type + " is invalid.");
+                }
+                semanticContexts.add(semanticContext);
+            }
+        }
+    }
+
+    private static final class ConflictingATNConfigSet extends ATNConfigSet {
+        private ConflictingATNConfigSet(ATNConfigSet configs) {
+            super(configs);
+            conflictingAlts = PredictionMode.getAlts(PredictionMode.getConflictingAltSubsets(configs));
+        }
+    }
+
+    private static final class SnapshotWriter {
+        private final Map<PredictionContext, Integer> contextMap;
+        private final DataOutputStream dataOutputStream;
+        private final SemanticContext noneSemanticContext;
+        private final Map<SemanticContext, Integer> semanticContextMap;
+
+        private SnapshotWriter(DataOutputStream dataOutputStream) {
+            contextMap = new IdentityHashMap<>();
+            this.dataOutputStream = dataOutputStream;
+            noneSemanticContext = getNoneSemanticContext(JavaScriptParser._ATN);
+            semanticContextMap = new IdentityHashMap<>();
+        }
+
+        private void collectContext(PredictionContext context, List<PredictionContext> contexts) {
+            if (context == null || contextMap.containsKey(context)) {
+                return;
+            }
+            for (int i = 0; i < context.size(); ++i) {
+                collectContext(context.getParent(i), contexts);
+            }
+            contextMap.put(context, contexts.size());
+            contexts.add(context);
+        }
+
+        private void collectSemanticContext(SemanticContext semanticContext, List<SemanticContext> semanticContexts) {
+            if (semanticContext == null || semanticContextMap.containsKey(semanticContext)) {
+                return;
+            }
+            if (semanticContext instanceof SemanticContext.Operator) {
+                for (SemanticContext operand : ((SemanticContext.Operator) semanticContext).getOperands()) {
+                    collectSemanticContext(operand, semanticContexts);
+                }
+            }
+            semanticContextMap.put(semanticContext, semanticContexts.size());
+            semanticContexts.add(semanticContext);
+        }
+
+        private List<DFAState> collectStates(DFA dfa) {
+            Map<DFAState, Boolean> stateMap = new IdentityHashMap<>();
+            Deque<DFAState> pendingStates = new ArrayDeque<>();
+            synchronized (dfa.states) {
+                pendingStates.addAll(dfa.states.values());
+            }
+            if (!dfa.isPrecedenceDfa() && dfa.s0 != null) {
+                pendingStates.add(dfa.s0);
+            }
+            if (dfa.isPrecedenceDfa() && dfa.s0 != null && dfa.s0.edges != null) {
+                for (DFAState state : dfa.s0.edges) {
+                    if (state != null) {
+                        pendingStates.add(state);
+                    }
+                }
+            }
+            List<DFAState> states = new ArrayList<>();
+            while (!pendingStates.isEmpty()) {
+                DFAState state = pendingStates.poll();
+                if (state == ATNSimulator.ERROR || stateMap.put(state, Boolean.TRUE) != null) {
+                    continue;
+                }
+                states.add(state);
+                if (state.edges != null) {
+                    for (DFAState targetState : state.edges) {
+                        if (targetState != null) {
+                            pendingStates.add(targetState);
+                        }
+                    }
+                }
+            }
+            states.sort(Comparator.comparingInt(state -> state.stateNumber));
+            return states;
+        }
+
+        private void write(DFA[] dfas) throws IOException {
+            List<List<DFAState>> statesList = new ArrayList<>(dfas.length);
+            List<PredictionContext> contexts = new ArrayList<>();
+            List<SemanticContext> semanticContexts = new ArrayList<>();
+            for (DFA dfa : dfas) {
+                List<DFAState> states = collectStates(dfa);
+                for (DFAState state : states) {
+                    for (ATNConfig config : state.configs) {
+                        collectContext(config.context, contexts);
+                        collectSemanticContext(config.semanticContext, semanticContexts);
+                    }
+                    if (state.predicates != null) {
+                        for (DFAState.PredPrediction predPrediction : state.predicates) {
+                            collectSemanticContext(predPrediction.pred, semanticContexts);
+                        }
+                    }
+                }
+                statesList.add(states);
+            }
+            writeContexts(contexts);
+            writeSemanticContexts(semanticContexts);
+            dataOutputStream.writeInt(dfas.length);
+            for (int decision = 0; decision < dfas.length; ++decision) {
+                writeDFA(dfas[decision], statesList.get(decision));
+            }
+            dataOutputStream.flush();
+        }
+
+        private void writeContexts(List<PredictionContext> contexts) throws IOException {
+            dataOutputStream.writeInt(contexts.size());
+            for (PredictionContext context : contexts) {
+                if (context instanceof EmptyPredictionContext) {
+                    dataOutputStream.writeByte(CONTEXT_EMPTY);
+                } else if (context instanceof SingletonPredictionContext) {
+                    dataOutputStream.writeByte(CONTEXT_SINGLETON);
+                    writeReference(contextMap, context.getParent(0));
+                    dataOutputStream.writeInt(context.getReturnState(0));
+                } else {
+                    dataOutputStream.writeByte(CONTEXT_ARRAY);
+                    dataOutputStream.writeInt(context.size());
+                    for (int i = 0; i < context.size(); ++i) {
+                        writeReference(contextMap, context.getParent(i));
+                        dataOutputStream.writeInt(context.getReturnState(i));
+                    }
+                }
+            }
+        }
+
+        private void writeDFA(DFA dfa, List<DFAState> states) throws IOException {
+            Map<DFAState, Integer> stateIndexMap = new IdentityHashMap<>();
+            for (DFAState state : states) {
+                stateIndexMap.put(state, stateIndexMap.size());
+            }
+            dataOutputStream.writeBoolean(dfa.isPrecedenceDfa());
+            dataOutputStream.writeInt(states.size());
+            for (DFAState state : states) {
+                writeDFAState(state);
+            }
+            for (DFAState state : states) {
+                writeEdges(state.edges, stateIndexMap);
+            }
+            if (dfa.isPrecedenceDfa()) {
+                writeEdges(dfa.s0 == null ? null : dfa.s0.edges, stateIndexMap);
+            } else {
+                writeReference(stateIndexMap, dfa.s0);
+            }
+        }
+
+        private void writeDFAState(DFAState state) throws IOException {
+            dataOutputStream.writeInt(state.stateNumber);
+            dataOutputStream.writeBoolean(state.isAcceptState);
+            dataOutputStream.writeInt(state.prediction);
+            dataOutputStream.writeBoolean(state.requiresFullContext);
+            dataOutputStream.writeInt(state.configs.uniqueAlt);
+            dataOutputStream.writeInt(state.configs.size());
+            for (ATNConfig config : state.configs) {
+                dataOutputStream.writeInt(config.state.stateNumber);
+                dataOutputStream.writeInt(config.alt);
+                writeReference(contextMap, config.context);
+                writeReference(semanticContextMap, config.semanticContext);
+                dataOutputStream.writeInt(config.reachesIntoOuterContext);
+                dataOutputStream.writeBoolean(config.isPrecedenceFilterSuppressed());
+            }
+            if (state.predicates == null) {
+                dataOutputStream.writeInt(EDGE_NONE);
+            } else {
+                dataOutputStream.writeInt(state.predicates.length);
+                for (DFAState.PredPrediction predPrediction : state.predicates) {
+                    writeReference(semanticContextMap, predPrediction.pred);
+                    dataOutputStream.writeInt(predPrediction.alt);
+                }
+            }
+        }
+
+        private void writeEdges(DFAState[] edges, Map<DFAState, Integer> stateIndexMap) throws IOException {
+            if (edges == null) {
+                dataOutputStream.writeInt(EDGE_NONE);
+                return;
+            }
+            dataOutputStream.writeInt(edges.length);
+            for (DFAState edge : edges) {
+                if (edge == ATNSimulator.ERROR) {
+                    dataOutputStream.writeInt(EDGE_ERROR);
+                } else {
+                    writeReference(stateIndexMap, edge);
+                }
+            }
+        }
+
+        private <T> void writeReference(Map<T, Integer> map, T object) throws IOException {
+            dataOutputStream.writeInt(object == null ? EDGE_NONE : map.get(object));
+        }
+
+        private void writeSemanticContexts(List<SemanticContext> semanticContexts) throws IOException {
+            dataOutputStream.writeInt(semanticContexts.size());
+            for (SemanticContext semanticContext : semanticContexts) {
+                if (semanticContext == noneSemanticContext) {
+                    dataOutputStream.writeByte(SEMANTIC_NONE);
+                } else if (semanticContext instanceof SemanticContext.Predicate) {
+                    SemanticContext.Predicate predicate = (SemanticContext.Predicate) semanticContext;
+                    dataOutputStream.writeByte(SEMANTIC_PREDICATE);
+                    dataOutputStream.writeInt(predicate.ruleIndex);
+                    dataOutputStream.writeInt(predicate.predIndex);
+                    dataOutputStream.writeBoolean(predicate.isCtxDependent);
+                } else if (semanticContext instanceof SemanticContext.PrecedencePredicate) {
+                    dataOutputStream.writeByte(SEMANTIC_PRECEDENCE);
+                    dataOutputStream.writeInt(((SemanticContext.PrecedencePredicate) semanticContext).precedence);
+                } else {
+                    Collection<SemanticContext> operands = ((SemanticContext.Operator) semanticContext).getOperands();
+                    dataOutputStream.writeByte(semanticContext instanceof SemanticContext.AND ? SEMANTIC_AND : SEMANTIC_OR);
+                    dataOutputStream.writeInt(operands.size());
+                    for (SemanticContext operand : operands) {
+                        writeReference(semanticContextMap, operand);
+                    }
+                }
+            }
+        }
+    }
+}
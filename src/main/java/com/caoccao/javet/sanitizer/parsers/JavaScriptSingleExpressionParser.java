@@ -18,6 +18,7 @@ package com.caoccao.javet.sanitizer.parsers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.CharStream;
 
 /**
  * The type JavaScript single expression parser.
@@ -37,6 +38,17 @@ public class JavaScriptSingleExpressionParser
         this(null, codeString);
     }
 
+    /**
+     * Instantiates a new JavaScript single expression parser from a char stream.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavaScriptSingleExpressionParser(CharStream charStream) throws JavetSanitizerException {
+        super(charStream);
+    }
+
     /**
      * Instantiates a new JavaScript single expression parser.
      *
@@ -53,12 +65,8 @@ public class JavaScriptSingleExpressionParser
     }
 
     @Override
-    protected JavaScriptSingleExpressionParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.singleExpression();
-        }
-        return this;
+    protected JavaScriptParser.SingleExpressionContext parseContext() {
+        return javaScriptParser.singleExpression();
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.caoccao.javet.sanitizer.parsers;
 
 import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import org.antlr.v4.runtime.CharStream;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +42,17 @@ public class JavaScriptStatementListParser
         this(null, codeString);
     }
 
+    /**
+     * Instantiates a new JavaScript statement list parser from a char stream.
+     *
+     * @param charStream the char stream
+     * @throws JavetSanitizerException the javet sanitizer exception
+     * @since 0.3.0
+     */
+    public JavaScriptStatementListParser(CharStream charStream) throws JavetSanitizerException {
+        super(charStream);
+    }
+
     /**
      * Instantiates a new JavaScript statement list parser.
      *
@@ -65,18 +77,14 @@ public class JavaScriptStatementListParser
     public List<JavaScriptStatementParser> getJavaScriptStatementParsers() throws JavetSanitizerException {
         List<JavaScriptStatementParser> parsers = new ArrayList<>();
         for (JavaScriptParser.StatementContext statementContext : context.statement()) {
-            parsers.add(new JavaScriptStatementParser(statementContext, codeString));
+            parsers.add(new JavaScriptStatementParser(statementContext, codeString).setOption(option));
         }
         return parsers;
     }
 
     @Override
-    protected JavaScriptStatementListParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.statementList();
-        }
-        return this;
+    protected JavaScriptParser.StatementListContext parseContext() {
+        return javaScriptParser.statementList();
     }
 
     @Override
@@ -54,11 +54,7 @@ public class JavaScriptStatementParser
     }
 
     @Override
-    protected JavaScriptStatementParser initializeContext() throws JavetSanitizerException {
-        super.initializeContext();
-        if (context == null) {
-            context = javaScriptParser.statement();
-        }
-        return this;
+    protected JavaScriptParser.StatementContext parseContext() {
+        return javaScriptParser.statement();
     }
 }
@@ -0,0 +1,930 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.*;
+
+/**
+ * The type JavaScript table-driven lexer is a hand-written alternative to the generated {@link JavaScriptLexer}.
+ * It produces the same token types, channels, positions and lines, including the regex-vs-division decision,
+ * the template depth and the strict mode scopes, without the ATN simulation and the action callbacks.
+ * The characters are classified by lookup tables. The Unicode identifier characters are taken
+ * from the ATN of the generated lexer, so that both lexers follow the same Unicode version.
+ *
+ * @since 0.3.0
+ */
+public final class JavaScriptTableDrivenLexer implements TokenSource {
+    private static final byte[] BMP_FLAGS = new byte[Character.MIN_SUPPLEMENTARY_CODE_POINT];
+    private static final int FLAG_IDENTIFIER_PART = 2;
+    private static final int FLAG_IDENTIFIER_START = 1;
+    private static final int FLAG_LINE_TERMINATOR = 8;
+    private static final int FLAG_WHITE_SPACE = 4;
+    private static final int INITIAL_STACK_SIZE = 16;
+    private static final Keyword[][] KEYWORDS = new Keyword[128][];
+    private static final int MAX_KEYWORD_LENGTH = 10;
+    private static final Punctuator[][] PUNCTUATORS = new Punctuator[128][];
+    private static final int STRICT_MODE_ANY = 0;
+    private static final int STRICT_MODE_NON_STRICT = 2;
+    private static final int STRICT_MODE_STRICT = 1;
+    private static final int[] SUPPLEMENTARY_IDENTIFIER_PART_RANGES;
+    private static final int[] SUPPLEMENTARY_IDENTIFIER_START_RANGES;
+
+    static {
+        final ATN atn = JavaScriptLexer._ATN;
+        final List<String> ruleNames = Arrays.asList(JavaScriptLexer.ruleNames);
+        SUPPLEMENTARY_IDENTIFIER_START_RANGES = initializeFlags(
+                atn.nextTokens(atn.ruleToStartState[ruleNames.indexOf("IdentifierStart")]),
+                FLAG_IDENTIFIER_START | FLAG_IDENTIFIER_PART);
+        SUPPLEMENTARY_IDENTIFIER_PART_RANGES = initializeFlags(
+                atn.nextTokens(atn.ruleToStartState[ruleNames.indexOf("IdentifierPart")]),
+                FLAG_IDENTIFIER_PART);
+        // The unicode escape sequences are matched by hand.
+        BMP_FLAGS['\\'] = 0;
+        for (char c : new char[]{'\t', '\u000B', '\u000C', ' ', '\u00A0'}) {
+            BMP_FLAGS[c] |= FLAG_WHITE_SPACE;
+        }
+        for (char c : new char[]{'\r', '\n', '\u2028', '\u2029'}) {
+            BMP_FLAGS[c] |= FLAG_LINE_TERMINATOR;
+        }
+        initializeKeywords(
+                "break", JavaScriptLexer.Break, "do", JavaScriptLexer.Do,
+                "instanceof", JavaScriptLexer.Instanceof, "typeof", JavaScriptLexer.Typeof,
+                "case", JavaScriptLexer.Case, "else", JavaScriptLexer.Else,
+                "new", JavaScriptLexer.New, "var", JavaScriptLexer.Var,
+                "catch", JavaScriptLexer.Catch, "finally", JavaScriptLexer.Finally,
+                "return", JavaScriptLexer.Return, "void", JavaScriptLexer.Void,
+                "continue", JavaScriptLexer.Continue, "for", JavaScriptLexer.For,
+                "switch", JavaScriptLexer.Switch, "while", JavaScriptLexer.While,
+                "debugger", JavaScriptLexer.Debugger, "function", JavaScriptLexer.Function_,
+                "this", JavaScriptLexer.This, "with", JavaScriptLexer.With,
+                "default", JavaScriptLexer.Default, "if", JavaScriptLexer.If,
+                "throw", JavaScriptLexer.Throw, "delete", JavaScriptLexer.Delete,
+                "in", JavaScriptLexer.In, "try", JavaScriptLexer.Try,
+                "as", JavaScriptLexer.As, "from", JavaScriptLexer.From,
+                "of", JavaScriptLexer.Of, "class", JavaScriptLexer.Class,
+                "enum", JavaScriptLexer.Enum, "extends", JavaScriptLexer.Extends,
+                "super", JavaScriptLexer.Super, "const", JavaScriptLexer.Const,
+                "export", JavaScriptLexer.Export, "import", JavaScriptLexer.Import,
+                "async", JavaScriptLexer.Async, "await", JavaScriptLexer.Await,
+                "yield", JavaScriptLexer.Yield, "null", JavaScriptLexer.NullLiteral,
+                "true", JavaScriptLexer.BooleanLiteral, "false", JavaScriptLexer.BooleanLiteral);
+        initializeKeyword("let", JavaScriptLexer.NonStrictLet, STRICT_MODE_NON_STRICT);
+        for (Object[] keyword : new Object[][]{
+                {"implements", JavaScriptLexer.Implements},
+                {"let", JavaScriptLexer.StrictLet},
+                {"private", JavaScriptLexer.Private},
+                {"public", JavaScriptLexer.Public},
+                {"interface", JavaScriptLexer.Interface},
+                {"package", JavaScriptLexer.Package},
+                {"protected", JavaScriptLexer.Protected},
+                {"static", JavaScriptLexer.Static}}) {
+            initializeKeyword((String) keyword[0], (Integer) keyword[1], STRICT_MODE_STRICT);
+        }
+        // The longer punctuators are tried first. The braces and the slash are matched by hand.
+        initializePunctuators(
+                ">>>=", JavaScriptLexer.RightShiftLogicalAssign, "...", JavaScriptLexer.Ellipsis,
+                "===", JavaScriptLexer.IdentityEquals, "!==", JavaScriptLexer.IdentityNotEquals,
+                ">>>", JavaScriptLexer.RightShiftLogical, "<<=", JavaScriptLexer.LeftShiftArithmeticAssign,
+                ">>=", JavaScriptLexer.RightShiftArithmeticAssign, "**=", JavaScriptLexer.PowerAssign,
+                "??=", JavaScriptLexer.NullishCoalescingAssign, "?.", JavaScriptLexer.QuestionMarkDot,
+                "++", JavaScriptLexer.PlusPlus, "--", JavaScriptLexer.MinusMinus,
+                "**", JavaScriptLexer.Power, "??", JavaScriptLexer.NullCoalesce,
+                ">>", JavaScriptLexer.RightShiftArithmetic, "<<", JavaScriptLexer.LeftShiftArithmetic,
+                "<=", JavaScriptLexer.LessThanEquals, ">=", JavaScriptLexer.GreaterThanEquals,
+                "==", JavaScriptLexer.Equals_, "!=", JavaScriptLexer.NotEquals,
+                "&&", JavaScriptLexer.And, "||", JavaScriptLexer.Or,
+                "*=", JavaScriptLexer.MultiplyAssign, "%=", JavaScriptLexer.ModulusAssign,
+                "+=", JavaScriptLexer.PlusAssign, "-=", JavaScriptLexer.MinusAssign,
+                "&=", JavaScriptLexer.BitAndAssign, "^=", JavaScriptLexer.BitXorAssign,
+                "|=", JavaScriptLexer.BitOrAssign, "=>", JavaScriptLexer.ARROW,
+                "[", JavaScriptLexer.OpenBracket, "]", JavaScriptLexer.CloseBracket,
+                "(", JavaScriptLexer.OpenParen, ")", JavaScriptLexer.CloseParen,
+                ";", JavaScriptLexer.SemiColon, ",", JavaScriptLexer.Comma,
+                "=", JavaScriptLexer.Assign, "?", JavaScriptLexer.QuestionMark,
+                ":", JavaScriptLexer.Colon, ".", JavaScriptLexer.Dot,
+                "+", JavaScriptLexer.Plus, "-", JavaScriptLexer.Minus,
+                "~", JavaScriptLexer.BitNot, "!", JavaScriptLexer.Not,
+                "*", JavaScriptLexer.Multiply, "%", JavaScriptLexer.Modulus,
+                "#", JavaScriptLexer.Hashtag, "<", JavaScriptLexer.LessThan,
+                ">", JavaScriptLexer.MoreThan, "&", JavaScriptLexer.BitAnd,
+                "^", JavaScriptLexer.BitXOr, "|", JavaScriptLexer.BitOr);
+    }
+
+    private int channel;
+    private int charPositionInLine;
+    private CharStream input;
+    private int lastTokenType;
+    private int line;
+    private int mode;
+    private int[] modeStack;
+    private int modeStackSize;
+    private boolean[] scopeStrictModes;
+    private int scopeStrictModesSize;
+    private int templateDepth;
+    private TokenFactory<?> tokenFactory;
+    private Pair<TokenSource, CharStream> tokenFactorySourcePair;
+    private int type;
+    private boolean useStrictCurrent;
+    private boolean useStrictDefault;
+
+    /**
+     * Instantiates a new JavaScript table-driven lexer.
+     *
+     * @param input the input
+     * @since 0.3.0
+     */
+    public JavaScriptTableDrivenLexer(CharStream input) {
+        modeStack = new int[INITIAL_STACK_SIZE];
+        scopeStrictModes = new boolean[INITIAL_STACK_SIZE];
+        tokenFactory = CommonTokenFactory.DEFAULT;
+        setInputStream(input);
+    }
+
+    private static boolean isDecimalDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isDecimalDigitOrUnderscore(int c) {
+        return (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isHexDigit(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isHexDigitOrUnderscore(int c) {
+        return isHexDigit(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        if (c < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return c >= 0 && (BMP_FLAGS[c] & FLAG_IDENTIFIER_PART) != 0;
+        }
+        return isInRanges(SUPPLEMENTARY_IDENTIFIER_PART_RANGES, c);
+    }
+
+    private static boolean isIdentifierStart(int c) {
+        if (c < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            return c >= 0 && (BMP_FLAGS[c] & FLAG_IDENTIFIER_START) != 0;
+        }
+        return isInRanges(SUPPLEMENTARY_IDENTIFIER_START_RANGES, c);
+    }
+
+    private static boolean isInRanges(int[] ranges, int c) {
+        // The ranges are sorted pairs of inclusive bounds.
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (c < ranges[middle * 2]) {
+                high = middle - 1;
+            } else if (c > ranges[middle * 2 + 1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return c >= 0 && c < Character.MIN_SUPPLEMENTARY_CODE_POINT && (BMP_FLAGS[c] & FLAG_LINE_TERMINATOR) != 0;
+    }
+
+    private static boolean isOctalDigit(int c) {
+        return c >= '0' && c <= '7';
+    }
+
+    private static boolean isWhiteSpace(int c) {
+        return c >= 0 && c < Character.MIN_SUPPLEMENTARY_CODE_POINT && (BMP_FLAGS[c] & FLAG_WHITE_SPACE) != 0;
+    }
+
+    private static int[] initializeFlags(IntervalSet intervalSet, int flags) {
+        List<Integer> ranges = new ArrayList<>();
+        for (Interval interval : intervalSet.getIntervals()) {
+            for (int c = Math.max(interval.a, 0); c <= interval.b && c < Character.MIN_SUPPLEMENTARY_CODE_POINT; ++c) {
+                BMP_FLAGS[c] |= flags;
+            }
+            if (interval.b >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                ranges.add(Math.max(interval.a, Character.MIN_SUPPLEMENTARY_CODE_POINT));
+                ranges.add(interval.b);
+            }
+        }
+        return ranges.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void initializeKeyword(String text, int type, int strictMode) {
+        final char firstChar = text.charAt(0);
+        final Keyword[] keywords = KEYWORDS[firstChar] == null
+                ? new Keyword[1]
+                : Arrays.copyOf(KEYWORDS[firstChar], KEYWORDS[firstChar].length + 1);
+        keywords[keywords.length - 1] = new Keyword(text, type, strictMode);
+        KEYWORDS[firstChar] = keywords;
+    }
+
+    private static void initializeKeywords(Object... textsAndTypes) {
+        for (int i = 0; i < textsAndTypes.length; i += 2) {
+            initializeKeyword((String) textsAndTypes[i], (Integer) textsAndTypes[i + 1], STRICT_MODE_ANY);
+        }
+    }
+
+    private static void initializePunctuators(Object... textsAndTypes) {
+        for (int i = 0; i < textsAndTypes.length; i += 2) {
+            final String text = (String) textsAndTypes[i];
+            final char firstChar = text.charAt(0);
+            final Punctuator[] punctuators = PUNCTUATORS[firstChar] == null
+                    ? new Punctuator[1]
+                    : Arrays.copyOf(PUNCTUATORS[firstChar], PUNCTUATORS[firstChar].length + 1);
+            punctuators[punctuators.length - 1] = new Punctuator(text, (Integer) textsAndTypes[i + 1]);
+            PUNCTUATORS[firstChar] = punctuators;
+        }
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return charPositionInLine;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    /**
+     * Gets strict default.
+     *
+     * @return the strict default
+     * @since 0.3.0
+     */
+    public boolean getStrictDefault() {
+        return useStrictDefault;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return tokenFactory;
+    }
+
+    private int indexOf(String text, int offset) {
+        final int length = text.length();
+        while (la(offset) != IntStream.EOF) {
+            int i = 0;
+            while (i < length && la(offset + i) == text.charAt(i)) {
+                ++i;
+            }
+            if (i == length) {
+                return offset;
+            }
+            ++offset;
+        }
+        return -1;
+    }
+
+    private int la(int offset) {
+        return input.LA(offset + 1);
+    }
+
+    private int matchIdentifierPart(int offset) {
+        final int c = la(offset);
+        if (c == '\\') {
+            final int length = matchUnicodeEscapeSequence(offset + 1, 2);
+            return length > 0 ? length + 1 : 0;
+        }
+        return isIdentifierPart(c) ? 1 : 0;
+    }
+
+    private int matchUnicodeEscapeSequence(int offset, int minBracedDigitCount) {
+        if (la(offset) != 'u') {
+            return 0;
+        }
+        if (la(offset + 1) == '{') {
+            int length = 2;
+            while (isHexDigitOrUnderscore(la(offset + length))) {
+                ++length;
+            }
+            return length - 2 >= minBracedDigitCount && la(offset + length) == '}' ? length + 1 : 0;
+        }
+        for (int i = 1; i <= 4; ++i) {
+            if (!isHexDigitOrUnderscore(la(offset + i))) {
+                return 0;
+            }
+        }
+        return 5;
+    }
+
+    private int matchUntil(String terminator, int offset) {
+        final int index = indexOf(terminator, offset);
+        return index < 0 ? 0 : index + terminator.length();
+    }
+
+    @Override
+    public Token nextToken() {
+        final int startIndex = input.index();
+        final int startLine = line;
+        final int startCharPositionInLine = charPositionInLine;
+        final int c = la(0);
+        if (c == IntStream.EOF) {
+            lastTokenType = Token.EOF;
+            return tokenFactory.create(
+                    tokenFactorySourcePair, Token.EOF, null, Token.DEFAULT_CHANNEL,
+                    startIndex, startIndex - 1, startLine, startCharPositionInLine);
+        }
+        channel = Token.DEFAULT_CHANNEL;
+        final int length = mode == JavaScriptLexer.TEMPLATE ? scanTemplate(c) : scanDefault(c);
+        if (type == JavaScriptLexer.MultiLineComment || type == JavaScriptLexer.StringLiteral
+                || type == JavaScriptLexer.LineTerminator || type == JavaScriptLexer.TemplateStringAtom
+                || type == JavaScriptLexer.HtmlComment || type == JavaScriptLexer.CDataComment) {
+            for (int i = 0; i < length; ++i) {
+                if (la(i) == '\n') {
+                    ++line;
+                    charPositionInLine = 0;
+                } else {
+                    ++charPositionInLine;
+                }
+            }
+        } else {
+            charPositionInLine += length;
+        }
+        input.seek(startIndex + length);
+        if (channel == Token.DEFAULT_CHANNEL) {
+            lastTokenType = type;
+        }
+        return tokenFactory.create(
+                tokenFactorySourcePair, type, null, channel,
+                startIndex, startIndex + length - 1, startLine, startCharPositionInLine);
+    }
+
+    private void popMode() {
+        if (modeStackSize == 0) {
+            throw new EmptyStackException();
+        }
+        mode = modeStack[--modeStackSize];
+    }
+
+    private void processCloseBrace() {
+        useStrictCurrent = scopeStrictModesSize > 0 ? scopeStrictModes[--scopeStrictModesSize] : useStrictDefault;
+    }
+
+    private void processOpenBrace() {
+        useStrictCurrent = scopeStrictModesSize > 0 && scopeStrictModes[scopeStrictModesSize - 1] || useStrictDefault;
+        pushScopeStrictMode(useStrictCurrent);
+    }
+
+    private void processStringLiteral(int length) {
+        if (length == 12 && (lastTokenType == Token.INVALID_TYPE || lastTokenType == JavaScriptLexer.OpenBrace)) {
+            final int quote = la(0);
+            for (int i = 1; i < 11; ++i) {
+                if (la(i) != "use strict".charAt(i - 1)) {
+                    return;
+                }
+            }
+            if (la(11) == quote) {
+                if (scopeStrictModesSize > 0) {
+                    --scopeStrictModesSize;
+                }
+                useStrictCurrent = true;
+                pushScopeStrictMode(true);
+            }
+        }
+    }
+
+    private void pushMode(int newMode) {
+        if (modeStackSize == modeStack.length) {
+            modeStack = Arrays.copyOf(modeStack, modeStackSize * 2);
+        }
+        modeStack[modeStackSize++] = mode;
+        mode = newMode;
+    }
+
+    private void pushScopeStrictMode(boolean strictMode) {
+        if (scopeStrictModesSize == scopeStrictModes.length) {
+            scopeStrictModes = Arrays.copyOf(scopeStrictModes, scopeStrictModesSize * 2);
+        }
+        scopeStrictModes[scopeStrictModesSize++] = strictMode;
+    }
+
+    private int scanDecimalFraction(int offset) {
+        // The dot and the first digit are matched by the caller.
+        int length = offset + 2;
+        while (isDecimalDigitOrUnderscore(la(length))) {
+            ++length;
+        }
+        return scanExponentPart(length);
+    }
+
+    private int scanDefault(int c) {
+        switch (c) {
+            case '\t':
+            case '\u000B':
+            case '\u000C':
+            case ' ':
+            case '\u00A0': {
+                int length = 1;
+                while (isWhiteSpace(la(length))) {
+                    ++length;
+                }
+                type = JavaScriptLexer.WhiteSpaces;
+                channel = Token.HIDDEN_CHANNEL;
+                return length;
+            }
+            case '\r':
+            case '\n':
+            case '\u2028':
+            case '\u2029':
+                type = JavaScriptLexer.LineTerminator;
+                channel = Token.HIDDEN_CHANNEL;
+                return 1;
+            case '"':
+            case '\'':
+                return scanStringLiteral(c);
+            case '#':
+                if (lastTokenType == Token.INVALID_TYPE && la(1) == '!') {
+                    int length = 2;
+                    for (int nextChar = la(length);
+                         nextChar != IntStream.EOF && !isLineTerminator(nextChar);
+                         nextChar = la(length)) {
+                        ++length;
+                    }
+                    type = JavaScriptLexer.HashBangLine;
+                    return length;
+                }
+                break;
+            case '.':
+                if (isDecimalDigit(la(1))) {
+                    type = JavaScriptLexer.DecimalLiteral;
+                    return scanDecimalFraction(0);
+                }
+                break;
+            case '/':
+                return scanSlash();
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return scanNumericLiteral(c);
+            case '<':
+                if (la(1) == '!') {
+                    int length = 0;
+                    if (la(2) == '-' && la(3) == '-') {
+                        length = matchUntil("-->", 4);
+                        type = JavaScriptLexer.HtmlComment;
+                    } else if (indexOf("<![CDATA[", 0) == 0) {
+                        length = matchUntil("]]>", 9);
+                        type = JavaScriptLexer.CDataComment;
+                    }
+                    if (length > 0) {
+                        channel = Token.HIDDEN_CHANNEL;
+                        return length;
+                    }
+                }
+                break;
+            case '`':
+                ++templateDepth;
+                pushMode(JavaScriptLexer.TEMPLATE);
+                type = JavaScriptLexer.BackTick;
+                return 1;
+            case '{':
+                processOpenBrace();
+                type = JavaScriptLexer.OpenBrace;
+                return 1;
+            case '}':
+                if (templateDepth > 0) {
+                    popMode();
+                    type = JavaScriptLexer.TemplateCloseBrace;
+                } else {
+                    processCloseBrace();
+                    type = JavaScriptLexer.CloseBrace;
+                }
+                return 1;
+            default:
+                break;
+        }
+        if (c < PUNCTUATORS.length && PUNCTUATORS[c] != null) {
+            for (Punctuator punctuator : PUNCTUATORS[c]) {
+                if (punctuator.matches(this)) {
+                    type = punctuator.type;
+                    return punctuator.text.length();
+                }
+            }
+        }
+        final int length = scanIdentifier(c);
+        if (length > 0) {
+            return length;
+        }
+        type = JavaScriptLexer.UnexpectedCharacter;
+        channel = JavaScriptLexer.ERROR;
+        return 1;
+    }
+
+    private int scanExponentPart(int offset) {
+        final int c = la(offset);
+        if (c == 'e' || c == 'E') {
+            int length = offset + 1;
+            final int signChar = la(length);
+            if (signChar == '+' || signChar == '-') {
+                ++length;
+            }
+            if (isDecimalDigitOrUnderscore(la(length))) {
+                do {
+                    ++length;
+                } while (isDecimalDigitOrUnderscore(la(length)));
+                return length;
+            }
+        }
+        return offset;
+    }
+
+    private int scanIdentifier(int c) {
+        int length;
+        boolean escaped = false;
+        if (c == '\\') {
+            length = matchUnicodeEscapeSequence(1, 2);
+            if (length == 0) {
+                return 0;
+            }
+            ++length;
+            escaped = true;
+        } else if (isIdentifierStart(c)) {
+            length = 1;
+        } else {
+            return 0;
+        }
+        while (true) {
+            final int nextChar = la(length);
+            if (nextChar < 128 && nextChar >= 0 && nextChar != '\\') {
+                // ASCII fast path
+                if ((BMP_FLAGS[nextChar] & FLAG_IDENTIFIER_PART) == 0) {
+                    break;
+                }
+                ++length;
+            } else {
+                final int partLength = matchIdentifierPart(length);
+                if (partLength == 0) {
+                    break;
+                }
+                escaped |= nextChar == '\\';
+                length += partLength;
+            }
+        }
+        type = JavaScriptLexer.Identifier;
+        if (!escaped && length <= MAX_KEYWORD_LENGTH && c < KEYWORDS.length && KEYWORDS[c] != null) {
+            for (Keyword keyword : KEYWORDS[c]) {
+                if (keyword.matches(this, length)) {
+                    type = keyword.type;
+                    break;
+                }
+            }
+        }
+        return length;
+    }
+
+    private int scanNumericLiteral(int c) {
+        final int nextChar = la(1);
+        if (c == '0') {
+            if ((nextChar == 'x' || nextChar == 'X') && isHexDigit(la(2))) {
+                int length = 3;
+                while (isHexDigitOrUnderscore(la(length))) {
+                    ++length;
+                }
+                return scanNumericLiteralSuffix(
+                        length, JavaScriptLexer.HexIntegerLiteral, JavaScriptLexer.BigHexIntegerLiteral);
+            }
+            if ((nextChar == 'o' || nextChar == 'O') && isOctalDigit(la(2))) {
+                int length = 3;
+                while (isOctalDigit(la(length)) || la(length) == '_') {
+                    ++length;
+                }
+                return scanNumericLiteralSuffix(
+                        length, JavaScriptLexer.OctalIntegerLiteral2, JavaScriptLexer.BigOctalIntegerLiteral);
+            }
+            if ((nextChar == 'b' || nextChar == 'B') && (la(2) == '0' || la(2) == '1')) {
+                int length = 3;
+                while (la(length) == '0' || la(length) == '1' || la(length) == '_') {
+                    ++length;
+                }
+                return scanNumericLiteralSuffix(
+                        length, JavaScriptLexer.BinaryIntegerLiteral, JavaScriptLexer.BigBinaryIntegerLiteral);
+            }
+            if (isOctalDigit(nextChar) && !useStrictCurrent) {
+                int length = 2;
+                while (isOctalDigit(la(length))) {
+                    ++length;
+                }
+                type = JavaScriptLexer.OctalIntegerLiteral;
+                return length;
+            }
+            return scanNumericLiteralSuffix(1, JavaScriptLexer.DecimalLiteral, JavaScriptLexer.BigDecimalIntegerLiteral);
+        }
+        int length = 1;
+        while (isDecimalDigitOrUnderscore(la(length))) {
+            ++length;
+        }
+        return scanNumericLiteralSuffix(length, JavaScriptLexer.DecimalLiteral, JavaScriptLexer.BigDecimalIntegerLiteral);
+    }
+
+    private int scanNumericLiteralSuffix(int length, int integerType, int bigIntegerType) {
+        if (la(length) == 'n') {
+            type = bigIntegerType;
+            return length + 1;
+        }
+        type = integerType;
+        if (integerType == JavaScriptLexer.DecimalLiteral) {
+            if (la(length) == '.' && isDecimalDigit(la(length + 1))) {
+                return scanDecimalFraction(length);
+            }
+            return scanExponentPart(length);
+        }
+        return length;
+    }
+
+    private int scanRegularExpressionLiteral() {
+        int length = 1;
+        while (true) {
+            int c = la(length);
+            if (c == IntStream.EOF || isLineTerminator(c)) {
+                return 0;
+            }
+            if (c == '/') {
+                break;
+            }
+            if (c == '\\') {
+                c = la(length + 1);
+                if (c == IntStream.EOF || isLineTerminator(c)) {
+                    return 0;
+                }
+                length += 2;
+            } else if (c == '[') {
+                ++length;
+                while (true) {
+                    c = la(length);
+                    if (c == IntStream.EOF || isLineTerminator(c)) {
+                        return 0;
+                    }
+                    if (c == ']') {
+                        ++length;
+                        break;
+                    }
+                    if (c == '\\') {
+                        c = la(length + 1);
+                        if (c == IntStream.EOF || isLineTerminator(c)) {
+                            return 0;
+                        }
+                        ++length;
+                    }
+                    ++length;
+                }
+            } else if (c == '*' && length == 1) {
+                return 0;
+            } else {
+                ++length;
+            }
+        }
+        ++length;
+        for (int partLength = matchIdentifierPart(length); partLength > 0; partLength = matchIdentifierPart(length)) {
+            length += partLength;
+        }
+        return length;
+    }
+
+    private int scanSlash() {
+        final int nextChar = la(1);
+        if (nextChar == '*') {
+            final int length = matchUntil("*/", 2);
+            if (length > 0) {
+                type = JavaScriptLexer.MultiLineComment;
+                channel = Token.HIDDEN_CHANNEL;
+                return length;
+            }
+        } else if (nextChar == '/') {
+            int length = 2;
+            for (int c = la(length); c != IntStream.EOF && !isLineTerminator(c); c = la(length)) {
+                ++length;
+            }
+            type = JavaScriptLexer.SingleLineComment;
+            channel = Token.HIDDEN_CHANNEL;
+            return length;
+        } else if (isRegexPossible()) {
+            final int length = scanRegularExpressionLiteral();
+            if (length > 0) {
+                type = JavaScriptLexer.RegularExpressionLiteral;
+                return length;
+            }
+        }
+        if (nextChar == '=') {
+            type = JavaScriptLexer.DivideAssign;
+            return 2;
+        }
+        type = JavaScriptLexer.Divide;
+        return 1;
+    }
+
+    private int scanStringLiteral(int quote) {
+        int length = 1;
+        while (true) {
+            int c = la(length);
+            if (c == quote) {
+                ++length;
+                break;
+            }
+            if (c == IntStream.EOF || c == '\r' || c == '\n') {
+                length = 0;
+                break;
+            }
+            if (c == '\\') {
+                c = la(length + 1);
+                if (isLineTerminator(c)) {
+                    // A line continuation takes all the line terminators ahead.
+                    length += 2;
+                    while (isLineTerminator(la(length))) {
+                        ++length;
+                    }
+                } else if (c == 'x') {
+                    if (!isHexDigitOrUnderscore(la(length + 2)) || !isHexDigitOrUnderscore(la(length + 3))) {
+                        length = 0;
+                        break;
+                    }
+                    length += 4;
+                } else if (c == 'u') {
+                    final int escapeLength = matchUnicodeEscapeSequence(length + 1, 1);
+                    if (escapeLength == 0) {
+                        length = 0;
+                        break;
+                    }
+                    length += escapeLength + 1;
+                } else if (c == IntStream.EOF || (c >= '1' && c <= '9')) {
+                    length = 0;
+                    break;
+                } else {
+                    length += 2;
+                }
+            } else {
+                ++length;
+            }
+        }
+        if (length == 0) {
+            type = JavaScriptLexer.UnexpectedCharacter;
+            channel = JavaScriptLexer.ERROR;
+            return 1;
+        }
+        processStringLiteral(length);
+        type = JavaScriptLexer.StringLiteral;
+        return length;
+    }
+
+    private int scanTemplate(int c) {
+        if (c == '`') {
+            --templateDepth;
+            popMode();
+            type = JavaScriptLexer.BackTick;
+            return 1;
+        }
+        if (c == '$' && la(1) == '{') {
+            pushMode(Lexer.DEFAULT_MODE);
+            type = JavaScriptLexer.TemplateStringStartExpression;
+            return 2;
+        }
+        type = JavaScriptLexer.TemplateStringAtom;
+        return 1;
+    }
+
+    /**
+     * Sets input stream and resets the lexer state. The strict default is turned off,
+     * as {@link JavaScriptLexer#setInputStream(IntStream)} does.
+     *
+     * @param input the input
+     * @since 0.3.0
+     */
+    public void setInputStream(CharStream input) {
+        this.input = Objects.requireNonNull(input);
+        charPositionInLine = 0;
+        lastTokenType = Token.INVALID_TYPE;
+        line = 1;
+        mode = Lexer.DEFAULT_MODE;
+        modeStackSize = 0;
+        scopeStrictModesSize = 0;
+        templateDepth = 0;
+        tokenFactorySourcePair = new Pair<>(this, input);
+        useStrictCurrent = false;
+        useStrictDefault = false;
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> tokenFactory) {
+        this.tokenFactory = Objects.requireNonNull(tokenFactory);
+    }
+
+    /**
+     * Sets use strict default.
+     *
+     * @param useStrictDefault the use strict default
+     * @since 0.3.0
+     */
+    public void setUseStrictDefault(boolean useStrictDefault) {
+        this.useStrictDefault = useStrictDefault;
+        useStrictCurrent = useStrictDefault;
+    }
+
+    private boolean isRegexPossible() {
+        switch (lastTokenType) {
+            case JavaScriptLexer.Identifier:
+            case JavaScriptLexer.NullLiteral:
+            case JavaScriptLexer.BooleanLiteral:
+            case JavaScriptLexer.This:
+            case JavaScriptLexer.CloseBracket:
+            case JavaScriptLexer.CloseParen:
+            case JavaScriptLexer.OctalIntegerLiteral:
+            case JavaScriptLexer.DecimalLiteral:
+            case JavaScriptLexer.HexIntegerLiteral:
+            case JavaScriptLexer.StringLiteral:
+            case JavaScriptLexer.PlusPlus:
+            case JavaScriptLexer.MinusMinus:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static final class Keyword {
+        private final int strictMode;
+        private final String text;
+        private final int type;
+
+        private Keyword(String text, int type, int strictMode) {
+            this.strictMode = strictMode;
+            this.text = text;
+            this.type = type;
+        }
+
+        private boolean matches(JavaScriptTableDrivenLexer lexer, int length) {
+            if (length != text.length()) {
+                return false;
+            }
+            if (strictMode != STRICT_MODE_ANY && lexer.useStrictCurrent != (strictMode == STRICT_MODE_STRICT)) {
+                return false;
+            }
+            for (int i = 1; i < length; ++i) {
+                if (lexer.la(i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Punctuator {
+        private final String text;
+        private final int type;
+
+        private Punctuator(String text, int type) {
+            this.text = text;
+            this.type = type;
+        }
+
+        private boolean matches(JavaScriptTableDrivenLexer lexer) {
+            for (int i = 1; i < text.length(); ++i) {
+                if (lexer.la(i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * The type JavaScript token list keeps the buffered tokens in parallel primitive arrays
+ * instead of one token object per token.
+ * <p>
+ * A token object is created on demand when the token is read from the list.
+ * It only holds the index and reads the rest from the arrays of the list.
+ * The tokens on the default channel are kept once created,
+ * so that the parser and the parse tree always see the same token object.
+ * The tokens on the other channels, e.g. white spaces, line terminators and comments,
+ * are created again per read and are never retained.
+ * <p>
+ * If a symbol table is given, the identifier tokens are interned into it as they are added,
+ * so that the identifier tokens carry their symbols and their text is not created from the char stream again.
+ * <p>
+ * The list only grows. A new list is created per input so that the tokens held by a parse tree stay valid.
+ * All tokens in the list must come from the same token source and char stream,
+ * and must not carry their own text.
+ *
+ * @since 0.3.0
+ */
+final class JavaScriptTokenList extends AbstractList<Token> {
+    private static final int INITIAL_CAPACITY = 256;
+    private int[] channels;
+    private int[] columns;
+    private Token[] defaultChannelTokens;
+    private CharStream inputStream;
+    private int[] lines;
+    private int size;
+    private int[] starts;
+    private int[] stops;
+    private final JavetSanitizerSymbolTable symbolTable;
+    private int[] symbols;
+    private TokenSource tokenSource;
+    private int[] types;
+
+    JavaScriptTokenList(JavetSanitizerSymbolTable symbolTable) {
+        channels = new int[INITIAL_CAPACITY];
+        columns = new int[INITIAL_CAPACITY];
+        defaultChannelTokens = new Token[INITIAL_CAPACITY];
+        inputStream = null;
+        lines = new int[INITIAL_CAPACITY];
+        size = 0;
+        starts = new int[INITIAL_CAPACITY];
+        stops = new int[INITIAL_CAPACITY];
+        this.symbolTable = symbolTable;
+        symbols = symbolTable == null ? null : new int[INITIAL_CAPACITY];
+        tokenSource = null;
+        types = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean add(Token token) {
+        if (size == types.length) {
+            grow();
+        }
+        if (tokenSource == null) {
+            tokenSource = token.getTokenSource();
+            inputStream = token.getInputStream();
+        }
+        types[size] = token.getType();
+        channels[size] = token.getChannel();
+        starts[size] = token.getStartIndex();
+        stops[size] = token.getStopIndex();
+        lines[size] = token.getLine();
+        columns[size] = token.getCharPositionInLine();
+        if (symbolTable != null) {
+            symbols[size] = types[size] == JavaScriptLexer.Identifier
+                    ? symbolTable.intern(inputStream, starts[size], stops[size])
+                    : JavetSanitizerSymbolTable.INVALID_SYMBOL;
+        }
+        ++size;
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public Token get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Token token = defaultChannelTokens[index];
+        if (token == null) {
+            token = new CompactToken(index);
+            if (channels[index] == Token.DEFAULT_CHANNEL) {
+                defaultChannelTokens[index] = token;
+            }
+        }
+        return token;
+    }
+
+    private void grow() {
+        final int capacity = types.length << 1;
+        channels = Arrays.copyOf(channels, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        defaultChannelTokens = Arrays.copyOf(defaultChannelTokens, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        stops = Arrays.copyOf(stops, capacity);
+        if (symbols != null) {
+            symbols = Arrays.copyOf(symbols, capacity);
+        }
+        types = Arrays.copyOf(types, capacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The type Compact token reads the token from the arrays of the list by the token index.
+     *
+     * @since 0.3.0
+     */
+    private final class CompactToken implements IJavaScriptSymbolToken {
+        private final int index;
+
+        private CompactToken(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int getChannel() {
+            return channels[index];
+        }
+
+        @Override
+        public int getCharPositionInLine() {
+            return columns[index];
+        }
+
+        @Override
+        public CharStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public int getLine() {
+            return lines[index];
+        }
+
+        @Override
+        public int getStartIndex() {
+            return starts[index];
+        }
+
+        @Override
+        public int getStopIndex() {
+            return stops[index];
+        }
+
+        @Override
+        public int getSymbol() {
+            return symbols == null ? JavetSanitizerSymbolTable.INVALID_SYMBOL : symbols[index];
+        }
+
+        @Override
+        public JavetSanitizerSymbolTable getSymbolTable() {
+            return symbolTable;
+        }
+
+        @Override
+        public String getText() {
+            // The same text as CommonToken which reads the text from the char stream.
+            if (inputStream == null) {
+                return null;
+            }
+            if (symbols != null && symbols[index] != JavetSanitizerSymbolTable.INVALID_SYMBOL) {
+                return symbolTable.getIdentifier(symbols[index]);
+            }
+            final int startIndex = starts[index];
+            final int stopIndex = stops[index];
+            final int inputSize = inputStream.size();
+            if (startIndex < inputSize && stopIndex < inputSize) {
+                return inputStream.getText(Interval.of(startIndex, stopIndex));
+            }
+            return "<EOF>";
+        }
+
+        @Override
+        public int getTokenIndex() {
+            return index;
+        }
+
+        @Override
+        public TokenSource getTokenSource() {
+            return tokenSource;
+        }
+
+        @Override
+        public int getType() {
+            return types[index];
+        }
+
+        @Override
+        public String toString() {
+            return new CommonToken(this).toString();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * The type JavaScript token stream stops the lexer as soon as it produces more tokens than the max token count.
+ * The buffered tokens are kept by {@link JavaScriptTokenList} in primitive arrays,
+ * so that the token objects are only created for the tokens that are actually read.
+ *
+ * @since 0.3.0
+ */
+final class JavaScriptTokenStream extends CommonTokenStream {
+    private int maxTokenCount;
+    private JavetSanitizerSymbolTable symbolTable;
+
+    JavaScriptTokenStream(TokenSource tokenSource) {
+        super(tokenSource);
+        maxTokenCount = 0;
+        symbolTable = null;
+        tokens = new JavaScriptTokenList(null);
+    }
+
+    @Override
+    protected int fetch(int n) {
+        if (maxTokenCount <= 0) {
+            return super.fetch(n);
+        }
+        // The lexer never runs ahead of the budget, even if the whole stream is filled at once.
+        final int fetchedCount = super.fetch(Math.min(n, maxTokenCount + 1 - tokens.size()));
+        if (tokens.size() > maxTokenCount) {
+            throw new JavaScriptBudgetExceededException(
+                    JavetSanitizerException.tokenCountTooLarge(maxTokenCount, tokens.size()),
+                    tokens.get(maxTokenCount));
+        }
+        return fetchedCount;
+    }
+
+    void setMaxTokenCount(int maxTokenCount) {
+        this.maxTokenCount = maxTokenCount;
+    }
+
+    void setSymbolTable(JavetSanitizerSymbolTable symbolTable) {
+        if (this.symbolTable != symbolTable) {
+            // The identifier tokens are interned as they are fetched, so the buffered tokens are replaced.
+            this.symbolTable = symbolTable;
+            setTokenSource(tokenSource);
+        }
+    }
+
+    @Override
+    public void setTokenSource(TokenSource tokenSource) {
+        // The buffered tokens are replaced instead of cleared, because the parse tree may still hold them.
+        this.tokenSource = tokenSource;
+        tokens = new JavaScriptTokenList(symbolTable);
+        p = -1;
+        fetchedEOF = false;
+    }
+}
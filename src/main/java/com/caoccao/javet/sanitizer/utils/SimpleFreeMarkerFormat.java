@@ -31,12 +31,10 @@ public final class SimpleFreeMarkerFormat {
      * @since 0.1.0
      */
     public static final String STRING_NULL = "<null>";
-    private static final char CHAR_DOLLAR = '$';
-    private static final char CHAR_VARIABLE_CLOSE = '}';
-    private static final char CHAR_VARIABLE_OPEN = '{';
 
     /**
      * Format string.
+     * The format is parsed on every call. Please compile a {@link SimpleFreeMarkerTemplate} for a repeated format.
      *
      * @param format     the format
      * @param parameters the parameters
@@ -47,80 +45,7 @@ public final class SimpleFreeMarkerFormat {
         if (StringUtils.isEmpty(format) || parameters == null || parameters.isEmpty()) {
             return format;
         }
-        final int length = format.length();
-        StringBuilder stringBuilderMessage = new StringBuilder();
-        StringBuilder stringBuilderVariable = new StringBuilder();
-        State state = State.Text;
-        for (int i = 0; i < length; ++i) {
-            final char c = format.charAt(i);
-            switch (c) {
-                case CHAR_DOLLAR:
-                    switch (state) {
-                        case Text:
-                            state = State.Dollar;
-                            break;
-                        case Dollar:
-                            state = State.Text;
-                            stringBuilderMessage.append(CHAR_DOLLAR).append(c);
-                            break;
-                        case Variable:
-                            stringBuilderVariable.append(c);
-                            break;
-                    }
-                    break;
-                case CHAR_VARIABLE_OPEN:
-                    switch (state) {
-                        case Dollar:
-                            state = State.Variable;
-                            break;
-                        case Variable:
-                            stringBuilderVariable.append(c);
-                            break;
-                        default:
-                            state = State.Text;
-                            stringBuilderMessage.append(c);
-                            break;
-                    }
-                    break;
-                case CHAR_VARIABLE_CLOSE:
-                    if (state == State.Variable) {
-                        String variableName = stringBuilderVariable.toString();
-                        Object parameter = parameters.get(variableName);
-                        if (parameter == null) {
-                            parameter = STRING_NULL;
-                        }
-                        stringBuilderMessage.append(parameter);
-                        stringBuilderVariable.setLength(0);
-                        state = State.Text;
-                    } else {
-                        stringBuilderMessage.append(c);
-                    }
-                    break;
-                default:
-                    switch (state) {
-                        case Dollar:
-                            state = State.Text;
-                            stringBuilderMessage.append(CHAR_DOLLAR).append(c);
-                            break;
-                        case Variable:
-                            stringBuilderVariable.append(c);
-                            break;
-                        default:
-                            stringBuilderMessage.append(c);
-                            break;
-                    }
-                    break;
-            }
-        }
-        switch (state) {
-            case Dollar:
-                stringBuilderMessage.append(CHAR_DOLLAR);
-                break;
-            case Variable:
-                stringBuilderMessage.append(CHAR_DOLLAR).append(CHAR_VARIABLE_OPEN).append(stringBuilderVariable);
-                break;
-        }
-        return stringBuilderMessage.toString();
+        return SimpleFreeMarkerTemplate.compile(format).format(parameters);
     }
 
     /**
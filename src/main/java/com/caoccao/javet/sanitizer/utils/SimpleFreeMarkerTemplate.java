@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The type Simple free marker template is a format pre-parsed into literal and variable segments,
+ * so that formatting only concatenates the segments and the parameters.
+ * It follows the same rules as {@link SimpleFreeMarkerFormat#format(String, Map)}.
+ *
+ * @since 0.3.0
+ */
+public final class SimpleFreeMarkerTemplate {
+    private static final char CHAR_DOLLAR = '$';
+    private static final char CHAR_VARIABLE_CLOSE = '}';
+    private static final char CHAR_VARIABLE_OPEN = '{';
+    private final String format;
+    private final int literalLength;
+    private final String[] literals;
+    private final String[] variables;
+
+    private SimpleFreeMarkerTemplate(String format, List<String> literals, List<String> variables) {
+        this.format = format;
+        this.literals = literals.toArray(new String[0]);
+        this.variables = variables.toArray(new String[0]);
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Compile the format to a template.
+     *
+     * @param format the format
+     * @return the template
+     * @since 0.3.0
+     */
+    public static SimpleFreeMarkerTemplate compile(final String format) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        if (StringUtils.isEmpty(format)) {
+            literals.add(format);
+            return new SimpleFreeMarkerTemplate(format, literals, variables);
+        }
+        final int length = format.length();
+        StringBuilder stringBuilderLiteral = new StringBuilder();
+        StringBuilder stringBuilderVariable = new StringBuilder();
+        SimpleFreeMarkerFormat.State state = SimpleFreeMarkerFormat.State.Text;
+        for (int i = 0; i < length; ++i) {
+            final char c = format.charAt(i);
+            switch (c) {
+                case CHAR_DOLLAR:
+                    switch (state) {
+                        case Text:
+                            state = SimpleFreeMarkerFormat.State.Dollar;
+                            break;
+                        case Dollar:
+                            state = SimpleFreeMarkerFormat.State.Text;
+                            stringBuilderLiteral.append(CHAR_DOLLAR).append(c);
+                            break;
+                        case Variable:
+                            stringBuilderVariable.append(c);
+                            break;
+                    }
+                    break;
+                case CHAR_VARIABLE_OPEN:
+                    switch (state) {
+                        case Dollar:
+                            state = SimpleFreeMarkerFormat.State.Variable;
+                            break;
+                        case Variable:
+                            stringBuilderVariable.append(c);
+                            break;
+                        default:
+                            state = SimpleFreeMarkerFormat.State.Text;
+                            stringBuilderLiteral.append(c);
+                            break;
+                    }
+                    break;
+                case CHAR_VARIABLE_CLOSE:
+                    if (state == SimpleFreeMarkerFormat.State.Variable) {
+                        literals.add(stringBuilderLiteral.toString());
+                        variables.add(stringBuilderVariable.toString());
+                        stringBuilderLiteral.setLength(0);
+                        stringBuilderVariable.setLength(0);
+                        state = SimpleFreeMarkerFormat.State.Text;
+                    } else {
+                        stringBuilderLiteral.append(c);
+                    }
+                    break;
+                default:
+                    switch (state) {
+                        case Dollar:
+                            state = SimpleFreeMarkerFormat.State.Text;
+                            stringBuilderLiteral.append(CHAR_DOLLAR).append(c);
+                            break;
+                        case Variable:
+                            stringBuilderVariable.append(c);
+                            break;
+                        default:
+                            stringBuilderLiteral.append(c);
+                            break;
+                    }
+                    break;
+            }
+        }
+        switch (state) {
+            case Dollar:
+                stringBuilderLiteral.append(CHAR_DOLLAR);
+                break;
+            case Variable:
+                stringBuilderLiteral.append(CHAR_DOLLAR).append(CHAR_VARIABLE_OPEN).append(stringBuilderVariable);
+                break;
+        }
+        literals.add(stringBuilderLiteral.toString());
+        return new SimpleFreeMarkerTemplate(format, literals, variables);
+    }
+
+    /**
+     * Format string.
+     * The format is returned as is if the parameters are null or empty.
+     *
+     * @param parameters the parameters
+     * @return the string
+     * @since 0.3.0
+     */
+    public String format(final Map<String, Object> parameters) {
+        if (StringUtils.isEmpty(format) || parameters == null || parameters.isEmpty()) {
+            return format;
+        }
+        if (variables.length == 0) {
+            return literals[0];
+        }
+        StringBuilder sb = new StringBuilder(literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            sb.append(literals[i]);
+            Object parameter = parameters.get(variables[i]);
+            sb.append(parameter == null ? SimpleFreeMarkerFormat.STRING_NULL : parameter);
+        }
+        return sb.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * Gets format.
+     *
+     * @return the format
+     * @since 0.3.0
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets variables.
+     *
+     * @return the variables
+     * @since 0.3.0
+     */
+    public String[] getVariables() {
+        return variables.clone();
+    }
+}
@@ -16,6 +16,9 @@
 
 package com.caoccao.javet.sanitizer.utils;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 /**
  * The type String utils.
  *
@@ -28,6 +31,7 @@ public final class StringUtils {
      * @since 0.1.0
      */
     public static final String EMPTY = "";
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
 
     /**
      * Is blank.
@@ -60,4 +64,36 @@ public final class StringUtils {
     public static boolean isEmpty(String str) {
         return str == null || str.isEmpty();
     }
+
+    /**
+     * To SHA-256 hex string.
+     *
+     * @param str the str
+     * @return the SHA-256 hex string of the UTF-16 chars
+     * @since 0.3.0
+     */
+    public static String toSHA256(String str) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform.
+            throw new IllegalStateException(e);
+        }
+        // The chars are digested as they are, because charset encoders replace unpaired surrogates.
+        final int length = str.length();
+        byte[] bytes = new byte[length * 2];
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            bytes[i * 2] = (byte) (c >> 8);
+            bytes[i * 2 + 1] = (byte) c;
+        }
+        bytes = messageDigest.digest(bytes);
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_CHARS[bytes[i] & 0x0F];
+        }
+        return new String(chars);
+    }
 }
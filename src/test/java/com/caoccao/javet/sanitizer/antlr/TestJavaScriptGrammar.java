@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.antlr;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.TokenStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestJavaScriptGrammar {
+    private static final File GRAMMAR_DIRECTORY = new File("src/main/antlr");
+    private static final String[] GENERATED_FILE_NAMES = new String[]{
+            "JavaScriptLexer.java",
+            "JavaScriptParser.java",
+            "JavaScriptParserBaseListener.java",
+            "JavaScriptParserListener.java",
+    };
+    private static final File SOURCE_DIRECTORY = new File("src/main/java/com/caoccao/javet/sanitizer/antlr");
+
+    private static String normalize(Path path) throws IOException {
+        return Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.startsWith("// Generated from"))
+                .map(line -> line.replace(
+                        "@link JavaScriptParser#singleExpression}",
+                        "@link JavaScriptParser#singleExpression()}"))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String parse(JavaScriptParser javaScriptParser) {
+        return javaScriptParser.program().toStringTree(javaScriptParser);
+    }
+
+    private static TokenStream tokenize(String codeString) {
+        return new CommonTokenStream(new JavaScriptLexer(CharStreams.fromString(codeString)));
+    }
+
+    @Test
+    public void testGeneratedSourcesMatchGrammar() throws Exception {
+        assumeTrue(GRAMMAR_DIRECTORY.isDirectory(), "The grammar is not available.");
+        Class<?> toolClass;
+        try {
+            toolClass = Class.forName("org.antlr.v4.Tool");
+        } catch (ClassNotFoundException | LinkageError e) {
+            toolClass = null;
+        }
+        assumeTrue(toolClass != null, "The antlr4 tool is not available.");
+        Path outputPath = Files.createTempDirectory("javet-sanitizer-grammar");
+        try {
+            String[] args = new String[]{
+                    "-Xexact-output-dir",
+                    "-package", JavaScriptParser.class.getPackage().getName(),
+                    "-o", outputPath.toString(),
+                    new File(GRAMMAR_DIRECTORY, "JavaScriptLexer.g4").getAbsolutePath(),
+                    new File(GRAMMAR_DIRECTORY, "JavaScriptParser.g4").getAbsolutePath(),
+            };
+            Object tool = toolClass.getConstructor(String[].class).newInstance((Object) args);
+            toolClass.getMethod("processGrammarsOnCommandLine").invoke(tool);
+            assertEquals(0, toolClass.getMethod("getNumErrors").invoke(tool));
+            for (String fileName : GENERATED_FILE_NAMES) {
+                assertEquals(
+                        normalize(new File(SOURCE_DIRECTORY, fileName).toPath()),
+                        normalize(outputPath.resolve(fileName)),
+                        fileName + " is out of sync with the grammar.");
+            }
+        } finally {
+            try (Stream<Path> stream = Files.walk(outputPath)) {
+                stream.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    public void testPredicates() {
+        String[] codeStrings = new String[]{
+                "class A { static x = 1; get y() { return 1; } set y(v) {} static { a(); } static get z() {} }",
+                "class 𝒜 { 𝒢 = 1; get 𝒢() {} static 𝒮() {} }",
+                "x = { get: 1, set: 2, static: 3, get a() {}, set a(v) {}, 'get'() {} }",
+                "let get = 1, set = 2; get\nset",
+                "a = b\n++c",
+                "a = b++\nc--",
+                "function f() { return\n1 }",
+                "function f() { return a +\nb }",
+                "function* g() { yield\n1; yield 2 }",
+                "label: for (;;) { continue label\nbreak }",
+                "a\n[1].map(x => x)",
+                "throw new Error('a')",
+                "async function f() { await a; }\nasync\nfunction g() {}",
+                "",
+        };
+        for (String codeString : codeStrings) {
+            // The reference parser evaluates the predicates by the token text as the upstream grammar does.
+            JavaScriptParser referenceParser = new JavaScriptParser(tokenize(codeString)) {
+                @Override
+                protected boolean next(String str) {
+                    return _input.LT(1).getText().equals(str);
+                }
+
+                @Override
+                protected boolean prev(String str) {
+                    return _input.LT(-1).getText().equals(str);
+                }
+            };
+            assertEquals(parse(referenceParser), parse(new JavaScriptParser(tokenize(codeString))), codeString);
+        }
+    }
+}
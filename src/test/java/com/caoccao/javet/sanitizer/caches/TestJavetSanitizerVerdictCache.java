@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.caches;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCachedChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerIncrementalChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerSingleExpressionChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerVerdictCache {
+    @Test
+    public void testEviction() throws JavetSanitizerException {
+        JavetSanitizerVerdictCache cache = new JavetSanitizerVerdictCache(JavetSanitizerVerdictCache.ENTRY_WEIGHT * 2);
+        JavetSanitizerCachedChecker checker = new JavetSanitizerCachedChecker(
+                new JavetSanitizerSingleExpressionChecker(), cache);
+        assertTrue(checker.check("1"));
+        assertTrue(checker.check("2"));
+        assertTrue(checker.check("1"));
+        assertTrue(checker.check("3"));
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(JavetSanitizerVerdictCache.ENTRY_WEIGHT * 2, cache.getWeight());
+        // 2 is the least recently used one.
+        assertTrue(checker.check("1"));
+        assertTrue(checker.check("3"));
+        assertEquals(3, cache.getHitCount());
+        assertTrue(checker.check("2"));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        // An error that is heavier than the max weight is not cached.
+        assertThrows(JavetSanitizerException.class, () -> checker.check("eval"));
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testFingerprint() {
+        JavetSanitizerOption option1 = JavetSanitizerOption.Default.toClone().seal();
+        JavetSanitizerOption option2 = JavetSanitizerOption.Default.toClone();
+        assertEquals(JavetSanitizerOption.Default.getFingerprint(), option1.getFingerprint());
+        assertEquals(option1.getFingerprint(), option2.getFingerprint());
+        option2.setKeywordAsyncEnabled(true);
+        assertNotEquals(option1.getFingerprint(), option2.getFingerprint());
+        option2.setKeywordAsyncEnabled(false);
+        option2.getBuiltInObjectSet().add("a, b");
+        String fingerprint = option2.getFingerprint();
+        option2.getBuiltInObjectSet().remove("a, b");
+        option2.getBuiltInObjectSet().add("a");
+        option2.getBuiltInObjectSet().add("b");
+        assertNotEquals(fingerprint, option2.getFingerprint());
+    }
+
+    @Test
+    public void testFingerprintOfClassifier() throws JavetSanitizerException {
+        JavetSanitizerOption caseSensitiveOption = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierPattern(Pattern.compile("^secret"))
+                .seal();
+        JavetSanitizerOption caseInsensitiveOption = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierPattern(Pattern.compile("^secret", Pattern.CASE_INSENSITIVE))
+                .seal();
+        assertNotEquals(caseSensitiveOption.getFingerprint(), caseInsensitiveOption.getFingerprint());
+        JavetSanitizerVerdictCache cache = new JavetSanitizerVerdictCache();
+        assertTrue(new JavetSanitizerCachedChecker(new JavetSanitizerStatementListChecker(caseSensitiveOption), cache)
+                .check("const Secret = 1;"));
+        JavetSanitizerException exception = assertThrows(
+                JavetSanitizerException.class,
+                () -> new JavetSanitizerCachedChecker(
+                        new JavetSanitizerStatementListChecker(caseInsensitiveOption), cache)
+                        .check("const Secret = 1;"));
+        assertEquals("Identifier Secret is not allowed.", exception.getMessage());
+        assertEquals(0, cache.getHitCount());
+        // Every input of the identifier classification is part of the fingerprint.
+        List<Consumer<JavetSanitizerOption>> changes = SimpleList.of(
+                option -> option.getBuiltInObjectSet().add("a"),
+                option -> option.getDisallowedIdentifierSet().add("a"),
+                option -> option.getReservedFunctionIdentifierSet().add("a"),
+                option -> option.getReservedIdentifierPrefixSet().add("a"),
+                option -> option.getReservedIdentifierSet().add("a"),
+                option -> option.getReservedMutableIdentifierSet().add("a"),
+                option -> option.setReservedIdentifierPattern(Pattern.compile("a")),
+                option -> option.setReservedIdentifierPattern(Pattern.compile("a", Pattern.UNICODE_CASE)));
+        Set<String> fingerprints = new HashSet<>();
+        fingerprints.add(JavetSanitizerOption.Default.getFingerprint());
+        for (Consumer<JavetSanitizerOption> change : changes) {
+            JavetSanitizerOption option = JavetSanitizerOption.Default.toClone();
+            change.accept(option);
+            assertTrue(fingerprints.add(option.getFingerprint()));
+        }
+    }
+
+    @Test
+    public void testHitResetsChecker() throws JavetSanitizerException {
+        JavetSanitizerVerdictCache cache = new JavetSanitizerVerdictCache();
+        JavetSanitizerModuleChecker moduleChecker = new JavetSanitizerModuleChecker();
+        JavetSanitizerCachedChecker checker = new JavetSanitizerCachedChecker(moduleChecker, cache);
+        assertTrue(checker.check("function main() {}"));
+        assertTrue(checker.check("function main() { return 1; }"));
+        assertEquals(SimpleList.of("main"), new ArrayList<>(moduleChecker.getFunctionParserMap().keySet()));
+        assertTrue(checker.check("function main() {}"));
+        assertEquals(1, cache.getHitCount());
+        assertTrue(moduleChecker.getFunctionParserMap().isEmpty());
+        JavetSanitizerIncrementalChecker incrementalChecker = new JavetSanitizerIncrementalChecker(
+                new JavetSanitizerStatementListChecker());
+        checker = new JavetSanitizerCachedChecker(incrementalChecker, cache);
+        assertTrue(checker.check("const a = 1;"));
+        assertTrue(checker.check("const a = 1; const b = 2;"));
+        assertEquals(2, incrementalChecker.getStatementParsers().size());
+        assertTrue(checker.check("const a = 1;"));
+        assertEquals(2, cache.getHitCount());
+        assertNull(incrementalChecker.getCodeString());
+        assertNull(incrementalChecker.getPassedCodeString());
+        assertTrue(incrementalChecker.getStatementParsers().isEmpty());
+    }
+
+    @Test
+    public void testHitAndInvalidation() throws JavetSanitizerException {
+        JavetSanitizerVerdictCache cache = new JavetSanitizerVerdictCache();
+        JavetSanitizerCachedChecker checker = new JavetSanitizerCachedChecker(
+                new JavetSanitizerStatementListChecker(), cache);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(checker.check("const a = 1;"));
+            JavetSanitizerException exception = assertThrows(
+                    JavetSanitizerException.class,
+                    () -> checker.check("const a = eval;"));
+            assertEquals(100, exception.getError().getCode());
+            assertEquals("Identifier eval is not allowed.", exception.getMessage());
+            assertEquals("Source Code: eval\n" +
+                    "Line Number: 1, 1\n" +
+                    "Column: 10, 14\n" +
+                    "Position: 10, 14", exception.getContext().toString());
+        }
+        assertEquals(4, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getSize());
+        // The checker type is part of the key.
+        assertTrue(new JavetSanitizerCachedChecker(new JavetSanitizerSingleExpressionChecker(), cache).check("1"));
+        assertEquals(3, cache.getSize());
+        assertTrue(cache.invalidate(checker.getChecker(), "const a = 1;"));
+        assertFalse(cache.invalidate(checker.getChecker(), "const a = 1;"));
+        assertEquals(2, cache.invalidate(JavetSanitizerOption.Default));
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getWeight());
+        // An option that is not sealed bypasses the cache.
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone();
+        cache.resetStatistics();
+        assertTrue(new JavetSanitizerCachedChecker(new JavetSanitizerStatementListChecker(option), cache)
+                .check("const a = 1;"));
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getSize());
+        cache.invalidateAll();
+    }
+}
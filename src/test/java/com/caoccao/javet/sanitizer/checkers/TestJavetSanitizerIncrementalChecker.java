@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.checkers;
+
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementParser;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerIncrementalChecker extends BaseTestJavetSanitizerChecker {
+    private static String check(IJavetSanitizerChecker checker, String codeString) {
+        try {
+            checker.check(codeString);
+            return "passed";
+        } catch (JavetSanitizerException e) {
+            return e.getError().getCode() + " " + e.getMessage() + "\n" + e.getContext();
+        }
+    }
+
+    private static String toCodeString(int statementCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < statementCount; ++i) {
+            sb.append("const a").append(i).append(" = ").append(i).append(";\n");
+        }
+        return sb.toString();
+    }
+
+    private void assertBudget(JavetSanitizerOption option, String editedCodeString, int expectedCode)
+            throws JavetSanitizerException {
+        final String codeString = toCodeString(20);
+        assertEquals("passed", check(new JavetSanitizerStatementListChecker(option), codeString));
+        String expectedResult = check(new JavetSanitizerStatementListChecker(option), editedCodeString);
+        assertTrue(expectedResult.startsWith(expectedCode + " "), expectedResult);
+        JavetSanitizerIncrementalChecker checker =
+                new JavetSanitizerIncrementalChecker(new JavetSanitizerStatementListChecker(option));
+        assertTrue(checker.check(codeString));
+        // The budget is enforced on the whole code string, not only on the rechecked window.
+        assertEquals(expectedResult, check(checker, editedCodeString));
+        assertEquals(codeString, checker.getPassedCodeString());
+    }
+
+    @Test
+    public void testBudgetOfCodeLength() throws JavetSanitizerException {
+        assertBudget(JavetSanitizerOption.Default.toClone().setMaxCodeLength(305).seal(), toCodeString(35), 400);
+    }
+
+    @Test
+    public void testBudgetOfNestingDepth() throws JavetSanitizerException {
+        assertBudget(
+                JavetSanitizerOption.Default.toClone().setMaxNestingDepth(40).seal(),
+                toCodeString(20).replace("const a5 = 5;", "const a5 = ((((((((((((((((((((5))))))))))))))))))));"),
+                402);
+    }
+
+    @Test
+    public void testBudgetOfNodeCount() throws JavetSanitizerException {
+        assertBudget(JavetSanitizerOption.Default.toClone().setMaxNodeCount(500).seal(), toCodeString(35), 403);
+    }
+
+    @Test
+    public void testBudgetOfTokenCount() throws JavetSanitizerException {
+        assertBudget(JavetSanitizerOption.Default.toClone().setMaxTokenCount(250).seal(), toCodeString(35), 401);
+    }
+
+    @Test
+    public void testEdits() throws JavetSanitizerException {
+        JavetSanitizerIncrementalChecker checker =
+                new JavetSanitizerIncrementalChecker(new JavetSanitizerStatementListChecker());
+        assertTrue(checker.check("const a = 1;\nconst b = 2;\nconst c = 3;\nconst d = 4;\nconst e = 5;"));
+        assertEquals(5, checker.getRecheckedStatementCount());
+        List<JavaScriptStatementParser> statementParsers = SimpleList.of(
+                checker.getStatementParsers().toArray(new JavaScriptStatementParser[0]));
+        assertTrue(checker.check(36, 37, "x + 1"));
+        assertEquals("const a = 1;\nconst b = 2;\nconst c = x + 1;\nconst d = 4;\nconst e = 5;", checker.getCodeString());
+        assertEquals(3, checker.getRecheckedStatementCount());
+        assertSame(statementParsers.get(0), checker.getStatementParsers().get(0));
+        assertSame(statementParsers.get(4), checker.getStatementParsers().get(4));
+        assertNotSame(statementParsers.get(2), checker.getStatementParsers().get(2));
+        // The rejected version is reported as the full check does and the passed version is kept.
+        assertException(
+                () -> checker.check(36, 41, "eval(1)"),
+                100, "Identifier eval is not allowed.",
+                "Source Code: eval\n" +
+                        "Line Number: 3, 3\n" +
+                        "Column: 10, 14\n" +
+                        "Position: 36, 40");
+        assertEquals("const a = 1;\nconst b = 2;\nconst c = x + 1;\nconst d = 4;\nconst e = 5;",
+                checker.getPassedCodeString());
+        assertTrue(checker.check(36, 43, "y"));
+        assertEquals(3, checker.getRecheckedStatementCount());
+        // The comment changes the boundaries of the statements after the window, so the code string is checked fully.
+        assertTrue(checker.check("const a = 1;\nconst b = 2;\n/*const c = y;\nconst d = 4;\n*/const e = 5;"));
+        assertEquals(3, checker.getRecheckedStatementCount());
+        assertEquals(3, checker.getStatementParsers().size());
+    }
+
+    @Test
+    public void testModule() throws JavetSanitizerException {
+        JavetSanitizerModuleChecker moduleChecker = new JavetSanitizerModuleChecker();
+        JavetSanitizerIncrementalChecker checker = new JavetSanitizerIncrementalChecker(moduleChecker);
+        String codeString = "function a() {}\nfunction b() {}\nfunction main() {}\nfunction c() {}\nfunction d() {}";
+        assertTrue(checker.check(codeString));
+        assertTrue(checker.check(codeString.replace("function d() {}", "function d() { return 1; }")));
+        assertEquals(2, checker.getRecheckedStatementCount());
+        assertEquals(5, moduleChecker.getFunctionParserMap().size());
+        assertTrue(moduleChecker.getFunctionParserMap().containsKey("main"));
+        assertException(
+                () -> checker.check(codeString.replace("main", "main2")),
+                300, "Function main is not found.",
+                null);
+        assertException(
+                () -> checker.check(codeString.replace("function c() {}", "const c = 1;")),
+                200, "Token VariableStatementContext is invalid. Expecting FunctionDeclarationContext.",
+                null);
+    }
+
+    @Test
+    public void testRandomEdits() throws JavetSanitizerException {
+        List<String> snippets = SimpleList.of(
+                "", ";", "\n", "{", "}", "(", ")", "/*", "*/", "//", "`", "'", "eval", "Object", "x = 1;",
+                "function f() {}", " a.b(c) ", "[1]", "async", "=>", "/a/", "/",
+                "0", "1", "a", "b", " ", " + 1", "c(a);\n", "\nconst z = 2;\n");
+        String baseCodeString = "const a = 1;\nlet b = [a, 2];\nfunction c(x) { return x + b[0]; }\n" +
+                "if (a > 0) { b.push(c(a)); }\nconst d = `t${a}`;\n// comment\nconst e = d / 2;\n";
+        Random random = new Random(0);
+        JavetSanitizerStatementListChecker fullChecker = new JavetSanitizerStatementListChecker();
+        JavetSanitizerIncrementalChecker checker =
+                new JavetSanitizerIncrementalChecker(new JavetSanitizerStatementListChecker());
+        assertTrue(checker.check(baseCodeString));
+        for (int i = 0; i < 500; ++i) {
+            String codeString = random.nextBoolean() ? checker.getPassedCodeString() : checker.getCodeString();
+            if (random.nextInt(10) == 0) {
+                codeString = baseCodeString;
+            }
+            final int startPosition = random.nextInt(codeString.length() + 1);
+            final int endPosition = Math.min(codeString.length(), startPosition + random.nextInt(4));
+            String newCodeString = codeString.substring(0, startPosition)
+                    + snippets.get(random.nextInt(snippets.size()))
+                    + codeString.substring(endPosition);
+            assertEquals(check(fullChecker, newCodeString), check(checker, newCodeString), newCodeString);
+        }
+    }
+
+    @Test
+    public void testVerdictOnly() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setVerdictOnlyEnabled(true)
+                .seal();
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new JavetSanitizerIncrementalChecker(new JavetSanitizerStatementListChecker(option)));
+        assertEquals("Option Default must not be verdict only.", exception.getMessage());
+    }
+}
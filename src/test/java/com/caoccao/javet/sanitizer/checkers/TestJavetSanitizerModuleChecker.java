@@ -21,8 +21,11 @@ import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
 import com.caoccao.javet.sanitizer.utils.SimpleList;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestJavetSanitizerModuleChecker extends BaseTestJavetSanitizerChecker {
     @Test
@@ -80,6 +83,47 @@ public class TestJavetSanitizerModuleChecker extends BaseTestJavetSanitizerCheck
                         "Position: 18, 22");
     }
 
+    @Test
+    public void testParallel() throws JavetSanitizerException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                    .setKeywordImportEnabled(true)
+                    .seal();
+            List<String> codeStrings = SimpleList.of(
+                    "function a() { return 1; }\nfunction b() { eval('1'); }\nfunction main() { Object.a = 1; }",
+                    "function a() { Function('1'); }\nfunction b() { eval('1'); }\nfunction main() {}",
+                    "function a() {}\nfunction b() { async () => {}; }\nconst c = 1;",
+                    "function a() {}\nimport { x } from 'x.mjs';\nfunction main() {}",
+                    "function a() {}\nfunction b() {}",
+                    "function a() { eval(1) }; function main() {}");
+            for (String codeString : codeStrings) {
+                JavetSanitizerException expectedException = assertThrows(
+                        JavetSanitizerException.class,
+                        () -> new JavetSanitizerModuleChecker(option).check(codeString));
+                JavetSanitizerException exception = assertThrows(
+                        JavetSanitizerException.class,
+                        () -> new JavetSanitizerModuleChecker(option, forkJoinPool).check(codeString));
+                assertEquals(expectedException.getMessage(), exception.getMessage(), codeString);
+                assertEquals(String.valueOf(expectedException.getContext()), String.valueOf(exception.getContext()));
+            }
+            StringBuilder sb = new StringBuilder("import { x } from 'x.mjs';\n");
+            for (int i = 0; i < 100; ++i) {
+                sb.append("function f").append(i).append("(a) { return a + ").append(i).append("; }\n");
+            }
+            sb.append("function main() { return f1(1); }\nfunction f1(a) { return a; }");
+            JavetSanitizerModuleChecker checker = new JavetSanitizerModuleChecker(option, forkJoinPool);
+            assertSame(forkJoinPool, checker.getForkJoinPool());
+            assertTrue(checker.check(sb.toString()));
+            assertEquals(101, checker.getFunctionParserMap().size());
+            assertEquals("function f1(a) { return a; }",
+                    checker.getFunctionParserMap().get("f1").getCodeString().substring(
+                            checker.getFunctionParserMap().get("f1").getContext().getStart().getStartIndex()));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
     @Test
     public void testValidStatements() throws JavetSanitizerException {
         assertTrue(
@@ -106,4 +150,37 @@ public class TestJavetSanitizerModuleChecker extends BaseTestJavetSanitizerCheck
         assertEquals(1, checker.getFunctionParserMap().size(), "There should be 1 functions.");
         assertTrue(checker.getFunctionParserMap().containsKey("main"), "main() should be found.");
     }
+
+    @Test
+    public void testVerdictOnly() throws JavetSanitizerException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                    .setVerdictOnlyEnabled(true)
+                    .seal();
+            List<JavetSanitizerModuleChecker> checkers = SimpleList.of(
+                    new JavetSanitizerModuleChecker(option),
+                    new JavetSanitizerModuleChecker(option, forkJoinPool));
+            for (JavetSanitizerModuleChecker checker : checkers) {
+                assertTrue(checker.check("function main() {}\nfunction $b($c) {}\nfunction a() {}"));
+                assertNull(checker.rootParser);
+                assertNull(checker.functionDeclarationParsers);
+                assertTrue(checker.statementParsers.isEmpty());
+                assertTrue(checker.getFunctionParserMap().isEmpty());
+                assertEquals(SimpleList.of("main", "$b", "a"), new ArrayList<>(checker.getFunctionIdentifierSet()));
+                JavetSanitizerException exception = assertThrows(
+                        JavetSanitizerException.class,
+                        () -> checker.check("function main() { eval('1'); }"));
+                assertEquals("Identifier eval is not allowed.", exception.getMessage());
+                assertEquals("Source Code: eval\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 18, 22\n" +
+                        "Position: 18, 22", exception.getContext().toString());
+                assertNull(checker.rootParser);
+                assertTrue(checker.getFunctionIdentifierSet().isEmpty());
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
 }
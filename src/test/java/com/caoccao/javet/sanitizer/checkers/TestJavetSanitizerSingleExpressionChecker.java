@@ -17,6 +17,8 @@
 package com.caoccao.javet.sanitizer.checkers;
 
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerParseMode;
 import com.caoccao.javet.sanitizer.utils.SimpleList;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +50,35 @@ public class TestJavetSanitizerSingleExpressionChecker extends BaseTestJavetSani
                         "Position: 9, 10");
     }
 
+    @Test
+    public void testTwoStageParseMode() throws JavetSanitizerException {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setParseMode(JavetSanitizerParseMode.TwoStage)
+                .seal();
+        assertException(
+                () -> new JavetSanitizerSingleExpressionChecker(option).check("function a() {}"),
+                200, "Token a is invalid. Expecting '('.",
+                "Source Code: a\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 9, 10\n" +
+                        "Position: 9, 10");
+        assertException(
+                () -> new JavetSanitizerSingleExpressionChecker(option).check("a.b(eval)"),
+                100, "Identifier eval is not allowed.",
+                "Source Code: eval\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 4, 8\n" +
+                        "Position: 4, 8");
+        List<String> statements = SimpleList.of(
+                "() => 1", "(a, b) => a + b", "a ? b : c", "{ a: 1, b: [1, 2], c: () => {} }",
+                "a?.b.c(d, e)[f] ?? g", "new A(b, ...c)", "`a${b}c`");
+        for (String statement : statements) {
+            assertTrue(
+                    new JavetSanitizerSingleExpressionChecker(option).check(statement),
+                    statement + " should pass.");
+        }
+    }
+
     @Test
     public void testValidStatements() throws JavetSanitizerException {
         List<String> statements = SimpleList.of(
@@ -16,16 +16,72 @@
 
 package com.caoccao.javet.sanitizer.checkers;
 
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
 import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.listeners.JavetSanitizerSecurityCheckListener;
 import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerParseMode;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
 import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestJavetSanitizerStatementListChecker extends BaseTestJavetSanitizerChecker {
+    @Test
+    public void testBudgets() throws JavetSanitizerException {
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(
+                        JavetSanitizerOption.Default.toClone().setMaxCodeLength(5).seal()).check("a = 1;"),
+                400, "Code length 6 is greater than the maximal code length 5.",
+                null);
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(
+                        JavetSanitizerOption.Default.toClone().setMaxTokenCount(5).seal()).check("a = 1;"),
+                401, "Token count 6 is greater than the maximal token count 5.",
+                "Source Code: ;\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 5, 6\n" +
+                        "Position: 5, 6");
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(
+                        JavetSanitizerOption.Default.toClone().setMaxNestingDepth(10).seal()).check("a = ((((1))));"),
+                402, "Nesting depth 11 is greater than the maximal nesting depth 10.",
+                "Source Code: (\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 7, 8\n" +
+                        "Position: 7, 8");
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(
+                        JavetSanitizerOption.Default.toClone().setMaxNestingDepth(10).seal()).check("a = 1+1+1+1+1+1+1+1;"),
+                402, "Nesting depth 11 is greater than the maximal nesting depth 10.",
+                "Source Code: 1\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 4, 5\n" +
+                        "Position: 4, 5");
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(
+                        JavetSanitizerOption.Default.toClone().setMaxNodeCount(14).seal()).check("a = 1;"),
+                403, "Node count 15 is greater than the maximal node count 14.",
+                "Source Code: ;\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 5, 6\n" +
+                        "Position: 5, 6");
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setMaxCodeLength(6)
+                .setMaxNestingDepth(10)
+                .setMaxNodeCount(15)
+                .setMaxTokenCount(7)
+                .seal();
+        assertTrue(new JavetSanitizerStatementListChecker(option).check("a = 1;"));
+    }
+
     @Test
     public void testInvalidIdentifiers() {
         JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
@@ -183,6 +239,159 @@ public class TestJavetSanitizerStatementListChecker extends BaseTestJavetSanitiz
                         "Position: 2, 6");
     }
 
+    @Test
+    public void testPrescan() throws JavetSanitizerException {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierMatcher(identifier -> identifier.startsWith("$"))
+                .setPrescanEnabled(true)
+                .seal();
+        invalidIdentifierCodeStringMap.forEach((key, value) -> {
+            String statement = "function main() { " + key + " }";
+            assertException(
+                    () -> new JavetSanitizerStatementListChecker(option).check(statement),
+                    100, "Identifier " + value + " is not allowed.",
+                    null);
+        });
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(option).check("a.b(eval);"),
+                100, "Identifier eval is not allowed.",
+                "Source Code: eval\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 4, 8\n" +
+                        "Position: 4, 8");
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(option).check("a = 1;\nasync () => {}"),
+                101, "Keyword async is not allowed.",
+                "Source Code: async\n" +
+                        "Line Number: 2, 2\n" +
+                        "Column: 0, 5\n" +
+                        "Position: 7, 12");
+        // The with token may be a property name, so the with statement falls through to the full check.
+        assertException(
+                () -> new JavetSanitizerStatementListChecker(option).check("with (a) {}"),
+                101, "Keyword with is not allowed.",
+                "Source Code: with (a) {}\n" +
+                        "Line Number: 1, 1\n" +
+                        "Column: 0, 11\n" +
+                        "Position: 0, 11");
+        assertTrue(new JavetSanitizerStatementListChecker(option).check("a.with = 1; a.b(c); // eval"));
+        // An earlier disabled keyword falls through to the full check, so the error code stays the same.
+        for (JavetSanitizerOption checkOption : SimpleList.of(option, JavetSanitizerOption.Default)) {
+            assertException(
+                    () -> new JavetSanitizerStatementListChecker(checkOption).check("var q = 1; eval"),
+                    101, "Keyword var is not allowed.",
+                    null);
+        }
+    }
+
+    @Test
+    public void testStackTraceDisabled() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setStackTraceEnabled(false)
+                .seal();
+        SimpleList.of("a(b(c(eval)));", "async () => {}").forEach(statement -> {
+            JavetSanitizerException exception = assertThrows(
+                    JavetSanitizerException.class,
+                    () -> new JavetSanitizerStatementListChecker(option).check(statement));
+            assertFalse(exception.isStackTraceEnabled());
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals(0, exception.toClone().getStackTrace().length);
+            assertNotNull(exception.getContext());
+            exception = assertThrows(
+                    JavetSanitizerException.class,
+                    () -> new JavetSanitizerStatementListChecker().check(statement));
+            assertTrue(exception.isStackTraceEnabled());
+            assertTrue(exception.getStackTrace().length > 0);
+        });
+    }
+
+    @Test
+    public void testStreaming() throws JavetSanitizerException {
+        for (JavetSanitizerParseMode parseMode : JavetSanitizerParseMode.values()) {
+            JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                    .setParseMode(parseMode)
+                    .setReservedIdentifierMatcher(identifier -> identifier.startsWith("$"))
+                    .setStreamingEnabled(true)
+                    .seal();
+            invalidIdentifierCodeStringMap.forEach((key, value) -> {
+                String statement = "function main() { " + key + " }";
+                assertException(
+                        () -> new JavetSanitizerStatementListChecker(option).check(statement),
+                        100, "Identifier " + value + " is not allowed.",
+                        null);
+            });
+            // The left operand of a left-recursive rule is checked when it exits before the rule is entered again.
+            assertException(
+                    () -> new JavetSanitizerStatementListChecker(option).check("a(1); eval.call(b);"),
+                    100, "Identifier eval is not allowed.",
+                    "Source Code: eval\n" +
+                            "Line Number: 1, 1\n" +
+                            "Column: 6, 10\n" +
+                            "Position: 6, 10");
+            assertException(
+                    () -> new JavetSanitizerStatementListChecker(option).check("a = 1;\nasync () => {}"),
+                    101, "Keyword async is not allowed.",
+                    "Source Code: async () => {}\n" +
+                            "Line Number: 2, 2\n" +
+                            "Column: 0, 14\n" +
+                            "Position: 7, 21");
+            // The violation is reported before the syntax error after it.
+            assertException(
+                    () -> new JavetSanitizerStatementListChecker(option).check("eval(); a b"),
+                    100, "Identifier eval is not allowed.",
+                    null);
+            assertTrue(new JavetSanitizerStatementListChecker(option).check("a.with = 1; a.b(c); // eval"));
+            // The nested statements are kept unless only the verdict is needed.
+            JavaScriptStatementListParser parser = new JavaScriptStatementListParser(
+                    "function a() { if (b) { c(); } }\nd();")
+                    .setOption(option)
+                    .parse();
+            JavaScriptParser.StatementContext statementContext = parser.getContext().statement(0);
+            assertEquals(1, statementContext.getChildCount());
+            JavaScriptParser.IfStatementContext ifStatementContext = statementContext.functionDeclaration()
+                    .functionBody().sourceElements().sourceElement(0).statement().ifStatement();
+            assertNotNull(ifStatementContext);
+            assertEquals("c();", ifStatementContext.statement(0).block().statementList().getText());
+            assertEquals(1, parser.getContext().statement(1).getChildCount());
+            parser = new JavaScriptStatementListParser(
+                    "function a() { if (b) { c(); } }\nd();")
+                    .setOption(option.toClone().setVerdictOnlyEnabled(true).seal())
+                    .parse();
+            statementContext = parser.getContext().statement(0);
+            assertEquals(1, statementContext.getChildCount());
+            JavaScriptParser.SourceElementsContext sourceElementsContext =
+                    statementContext.functionDeclaration().functionBody().sourceElements();
+            assertEquals(0, sourceElementsContext.sourceElement(0).statement().getChildCount(),
+                    "The nested statement should be released.");
+            assertEquals(1, parser.getContext().statement(1).getChildCount());
+        }
+    }
+
+    @Test
+    public void testStreamingChecksEachRuleOnce() throws JavetSanitizerException {
+        Map<ParserRuleContext, Integer> checkCountMap = new IdentityHashMap<>();
+        List<String> checkedTexts = new ArrayList<>();
+        for (JavetSanitizerParseMode parseMode : JavetSanitizerParseMode.values()) {
+            checkCountMap.clear();
+            checkedTexts.clear();
+            JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                    .setListenerFunction(o -> new JavetSanitizerSecurityCheckListener(o) {
+                        @Override
+                        public void enterEveryRule(ParserRuleContext ctx) {
+                            if (checkCountMap.merge(ctx, 1, Integer::sum) == 1) {
+                                checkedTexts.add(ctx.getText());
+                            }
+                        }
+                    })
+                    .setParseMode(parseMode)
+                    .setStreamingEnabled(true)
+                    .seal();
+            assertTrue(new JavetSanitizerStatementListChecker(option).check("x = a + b + c; if (x) { a.b(c); }"));
+            assertTrue(checkedTexts.containsAll(SimpleList.of("a", "a+b", "a+b+c", "x", "a.b", "a.b(c)")));
+            checkCountMap.forEach((ctx, count) -> assertEquals(1, count, ctx.getClass().getSimpleName()));
+        }
+    }
+
     @Test
     public void testValidStatements() throws JavetSanitizerException {
         JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
@@ -208,4 +417,28 @@ public class TestJavetSanitizerStatementListChecker extends BaseTestJavetSanitiz
                     statement + " should pass.");
         }
     }
+
+    @Test
+    public void testVerdictOnly() throws JavetSanitizerException {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setVerdictOnlyEnabled(true)
+                .seal();
+        JavetSanitizerStatementListChecker checker = new JavetSanitizerStatementListChecker(option);
+        assertTrue(checker.check("const a = 1;\nfunction b() { return a; }"));
+        assertNull(checker.rootParser);
+        assertTrue(checker.statementParsers.isEmpty());
+        JavaScriptStatementListParser parser = new JavaScriptStatementListParser("const a = 1;\nfunction b() { return a; }")
+                .setOption(JavetSanitizerOption.Default)
+                .parse();
+        JavaScriptParser.FunctionDeclarationContext functionDeclarationContext =
+                parser.getContext().statement(1).functionDeclaration();
+        assertNotNull(functionDeclarationContext.getStart());
+        parser.release();
+        assertNull(parser.getContext());
+        assertNull(parser.getCodeString());
+        assertEquals(0, functionDeclarationContext.getChildCount(), "The children should be dropped.");
+        assertNull(functionDeclarationContext.getStart(), "The start token should be dropped.");
+        assertNull(functionDeclarationContext.getStop(), "The stop token should be dropped.");
+        assertEquals(0, functionDeclarationContext.getParent().getChildCount(), "The parent should be trimmed.");
+    }
 }
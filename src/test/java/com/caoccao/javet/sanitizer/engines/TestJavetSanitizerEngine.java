@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.engines;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerEngine {
+    private static String check(JavetSanitizerEngine engine, JavetSanitizerCheckerType checkerType, String codeString) {
+        try {
+            return String.valueOf(engine.check(checkerType, codeString));
+        } catch (JavetSanitizerException e) {
+            return e.getError().getCode() + " " + e.getMessage() + " " + e.getContext();
+        }
+    }
+
+    @Test
+    public void testCheckAll() throws Exception {
+        JavetSanitizerEngine engine = new JavetSanitizerEngine();
+        List<String> codeStrings = SimpleList.of(
+                "const a = 1;",
+                "const a = eval;",
+                "",
+                "const a = { b: [1, 2] }; a.b.push(3); const c = a.b.map(x => x * 2);");
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (JavetSanitizerBatchReport report : SimpleList.of(
+                    engine.checkAll(JavetSanitizerCheckerType.StatementList, codeStrings),
+                    engine.checkAll(JavetSanitizerCheckerType.StatementList, codeStrings, executorService))) {
+                List<JavetSanitizerBatchVerdict> verdicts = report.getVerdicts();
+                assertEquals(4, verdicts.size());
+                for (int i = 0; i < verdicts.size(); i++) {
+                    assertEquals(i, verdicts.get(i).getIndex());
+                    assertEquals(codeStrings.get(i).length(), verdicts.get(i).getLength());
+                }
+                assertTrue(verdicts.get(0).isPassed());
+                assertNull(verdicts.get(0).getException());
+                assertFalse(verdicts.get(1).isPassed());
+                assertEquals(100, verdicts.get(1).getException().getError().getCode());
+                assertFalse(verdicts.get(2).isPassed());
+                assertEquals(2, verdicts.get(2).getException().getError().getCode());
+                assertTrue(verdicts.get(3).isPassed());
+                assertEquals(2, report.getPassedCount());
+                assertEquals(2, report.getFailedCount());
+                assertEquals(codeStrings.stream().mapToInt(String::length).sum(), report.getTotalLength());
+                assertTrue(report.getElapsedNanos() > 0L);
+                assertTrue(report.getThroughputInChecksPerSecond() > 0D);
+                assertTrue(report.getMaxLatencyNanos() >= report.getLatencyNanos(50));
+                assertTrue(report.getLatencyNanos(50) >= report.getLatencyNanos(0));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        JavetSanitizerBatchReport report = engine.checkAll(JavetSanitizerCheckerType.Module, SimpleList.of());
+        assertTrue(report.getVerdicts().isEmpty());
+        assertEquals(0L, report.getMaxLatencyNanos());
+    }
+
+    @Test
+    public void testConcurrentChecks() throws Exception {
+        JavetSanitizerEngine engine = new JavetSanitizerEngine();
+        List<String> codeStrings = SimpleList.of(
+                "const a = 1;",
+                "const a = eval;",
+                "function main() { return `${a}`; }",
+                "var a = 1;",
+                "a.b(",
+                "const a = { b: [1, 2] }; a.b.push(3);");
+        List<String> expectedResults = new ArrayList<>();
+        for (String codeString : codeStrings) {
+            expectedResults.add(check(engine, JavetSanitizerCheckerType.StatementList, codeString));
+        }
+        assertEquals("true", expectedResults.get(0));
+        assertTrue(expectedResults.get(1).startsWith("100 Identifier eval is not allowed."));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    List<String> results = new ArrayList<>();
+                    for (int round = 0; round < 10; round++) {
+                        results.clear();
+                        for (String codeString : codeStrings) {
+                            results.add(check(engine, JavetSanitizerCheckerType.StatementList, codeString));
+                        }
+                    }
+                    return results;
+                }));
+            }
+            for (Future<List<String>> future : futures) {
+                assertEquals(expectedResults, future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnsealedOption() {
+        assertThrows(IllegalArgumentException.class, () -> new JavetSanitizerEngine(new JavetSanitizerOption("Test")));
+        assertSame(JavetSanitizerOption.Default, new JavetSanitizerEngine().getOption());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.matchers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptStatementListParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerMatcherTable {
+    @Test
+    public void testGetRuleIndex() {
+        assertEquals(
+                JavaScriptParser.RULE_identifier,
+                JavetSanitizerMatcherTable.getRuleIndex(JavaScriptParser.IdentifierContext.class));
+        assertEquals(
+                JavaScriptParser.RULE_singleExpression,
+                JavetSanitizerMatcherTable.getRuleIndex(JavaScriptParser.AwaitExpressionContext.class));
+        assertEquals(
+                JavaScriptParser.RULE_iterationStatement,
+                JavetSanitizerMatcherTable.getRuleIndex(JavaScriptParser.ForOfStatementContext.class));
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        ParseTree matchedTree = new TerminalNodeImpl(null);
+        JavetSanitizerMatcherTable table = new JavetSanitizerMatcherTable()
+                .add(JavaScriptParser.IdentifierExpressionContext.class, (option, context) -> matchedTree)
+                .add(JavaScriptParser.IdentifierExpressionContext.class, (option, context) -> null)
+                .add(JavaScriptParser.IdentifierContext.class, (option, context) -> null);
+        JavaScriptStatementListParser parser = new JavaScriptStatementListParser("a = b + c.d;").parse();
+        List<ParserRuleContext> contexts = new ArrayList<>();
+        ParseTreeWalker.DEFAULT.walk(new ParseTreeListener() {
+            @Override
+            public void enterEveryRule(ParserRuleContext ctx) {
+                contexts.add(ctx);
+            }
+
+            @Override
+            public void exitEveryRule(ParserRuleContext ctx) {
+            }
+
+            @Override
+            public void visitErrorNode(ErrorNode node) {
+            }
+
+            @Override
+            public void visitTerminal(TerminalNode node) {
+            }
+        }, parser.getContext());
+        int matchedCount = 0;
+        for (ParserRuleContext context : contexts) {
+            ParseTree parseTree = table.matches(JavetSanitizerOption.Default, context);
+            if (context instanceof JavaScriptParser.IdentifierExpressionContext) {
+                assertSame(matchedTree, parseTree, "The first matcher should win.");
+                ++matchedCount;
+            } else {
+                assertNull(parseTree);
+            }
+        }
+        assertEquals(3, matchedCount);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerSingleExpressionChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerParseMode;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptParserEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerDecisionProfiler {
+    @Test
+    public void testProfile() throws JavetSanitizerException {
+        JavetSanitizerDecisionProfiler decisionProfiler = new JavetSanitizerDecisionProfiler();
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setDecisionProfiler(decisionProfiler)
+                .setParseMode(JavetSanitizerParseMode.TwoStage)
+                .seal();
+        assertTrue(new JavetSanitizerStatementListChecker(option).check("const a = (b) => b + 1;\na(1);"));
+        assertTrue(new JavetSanitizerSingleExpressionChecker(option).check("({ a: [1, 2], b: x => x * 2 })"));
+        assertThrows(JavetSanitizerException.class, () -> new JavetSanitizerStatementListChecker(option).check("a = ;"));
+        assertEquals(3, decisionProfiler.getParseCount());
+        List<JavetSanitizerDecisionStats> decisionStatsList = decisionProfiler.getDecisionStats();
+        assertFalse(decisionStatsList.isEmpty());
+        long invocations = 0L;
+        for (int i = 0; i < decisionStatsList.size(); i++) {
+            JavetSanitizerDecisionStats decisionStats = decisionStatsList.get(i);
+            assertTrue(decisionStats.getDecision() >= 0);
+            assertTrue(decisionStats.getInvocations() > 0L);
+            assertNotNull(decisionStats.getRuleName());
+            if (i > 0) {
+                assertTrue(decisionStatsList.get(i - 1).getTimeInPredictionNanos()
+                        >= decisionStats.getTimeInPredictionNanos());
+            }
+            invocations += decisionStats.getInvocations();
+        }
+        assertTrue(decisionStatsList.stream().anyMatch(s -> "singleExpression".equals(s.getRuleName())));
+        assertTrue(decisionStatsList.stream().anyMatch(s -> s.getErrorCount() > 0L));
+        List<JavetSanitizerDecisionStats> ruleStatsList = decisionProfiler.getRuleStats();
+        assertEquals(invocations, ruleStatsList.stream().mapToLong(JavetSanitizerDecisionStats::getInvocations).sum());
+        assertTrue(ruleStatsList.stream().allMatch(s -> s.getDecision() == -1));
+        assertEquals(ruleStatsList.size(), ruleStatsList.stream().map(JavetSanitizerDecisionStats::getRuleName).distinct().count());
+        String report = decisionProfiler.getReport(5);
+        assertTrue(report.startsWith("Parses: 3, Decisions: " + decisionStatsList.size() + " of "));
+        assertTrue(report.contains("Top Decisions"));
+        assertTrue(report.contains("Top Rules"));
+        assertTrue(report.contains("singleExpression"));
+        decisionProfiler.reset();
+        assertEquals(0, decisionProfiler.getParseCount());
+        assertTrue(decisionProfiler.getDecisionStats().isEmpty());
+        // The engine stops profiling when it is released.
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire("1");
+        try {
+            assertNull(javaScriptParserEngine.getJavaScriptParser().getParseInfo());
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        assertTrue(new JavetSanitizerStatementListChecker().check("a = 1;"));
+        assertEquals(0, decisionProfiler.getParseCount());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.observers;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class TestJavetSanitizerJfrObserver {
+    @Test
+    public void testJfr() throws Exception {
+        JavetSanitizerJfrObserver jfrObserver = JavetSanitizerJfrObserver.getInstance();
+        assumeTrue(jfrObserver.isAvailable(), "JFR is not available.");
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone().setObserver(jfrObserver).seal();
+        JavetSanitizerStatementListChecker checker = new JavetSanitizerStatementListChecker(option);
+        // The events are not committed without a recording.
+        assertTrue(checker.check("const a = 1;"));
+        // The JFR API is called by reflection because the tests are compiled against JDK 8 as well.
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Method getIntMethod = Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getInt", String.class);
+        Method getLongMethod = Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getLong", String.class);
+        Method getStringMethod = Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getString", String.class);
+        Path path = Files.createTempFile("javet-sanitizer-", ".jfr");
+        try {
+            try (AutoCloseable recording = (AutoCloseable) recordingClass.getConstructor().newInstance()) {
+                recordingClass.getMethod("enable", String.class).invoke(recording, JavetSanitizerJfrObserver.EVENT_NAME);
+                recordingClass.getMethod("start").invoke(recording);
+                assertTrue(checker.check("const a = 1;"));
+                assertThrows(JavetSanitizerException.class, () -> checker.check("const a = eval;"));
+                recordingClass.getMethod("stop").invoke(recording);
+                recordingClass.getMethod("dump", Path.class).invoke(recording, path);
+            }
+            List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class)
+                    .invoke(null, path);
+            List<String> phases = new ArrayList<>();
+            for (Object event : events) {
+                phases.add((String) getStringMethod.invoke(event, "phase"));
+            }
+            assertEquals(
+                    "[Lex, Parse, Walk, Validate, Lex, Parse, Walk, ErrorContext]",
+                    phases.toString());
+            Object event = events.get(0);
+            assertEquals(12, getIntMethod.invoke(event, "inputSize"));
+            assertTrue((long) getLongMethod.invoke(event, "elapsed") > 0L);
+            assertTrue((int) getIntMethod.invoke(event, "tokenCount") > 0);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testObserver() throws JavetSanitizerException {
+        List<String> records = new ArrayList<>();
+        IJavetSanitizerObserver observer = (phase, elapsedNanos, inputSize, tokenCount, nodeCount) -> {
+            assertTrue(elapsedNanos >= 0L);
+            synchronized (records) {
+                records.add(phase + ":" + inputSize + ":" + tokenCount + ":" + nodeCount);
+            }
+        };
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone().setObserver(observer).seal();
+        assertSame(observer, option.getObserver());
+        assertSame(observer, option.toClone().getObserver());
+        assertEquals(JavetSanitizerOption.Default.getFingerprint(), option.getFingerprint());
+        // The whitespace, the semicolon and the EOF are tokens as well.
+        assertTrue(new JavetSanitizerStatementListChecker(option).check("a = 1;"));
+        assertEquals("[Lex:6:7:0, Parse:6:7:15, Walk:6:7:15, Validate:6:7:15]", records.toString());
+        records.clear();
+        assertThrows(JavetSanitizerException.class, () -> new JavetSanitizerStatementListChecker(option).check("a = ;"));
+        assertEquals("[Lex:5:6:0, Parse:5:6:10, ErrorContext:5:6:10]", records.toString());
+        records.clear();
+        // The function declarations of a module are walked as child parsers in parallel.
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            assertTrue(new JavetSanitizerModuleChecker(option, forkJoinPool)
+                    .check("function main() {}\nfunction f() {}"));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        assertEquals(5, records.size());
+        assertTrue(records.get(0).startsWith("Lex:34:"));
+        assertTrue(records.get(1).startsWith("Parse:34:"));
+        assertTrue(records.subList(2, 4).stream().allMatch(record -> record.startsWith("Walk:")));
+        assertTrue(records.get(4).startsWith("Validate:34:"));
+        // No phase is observed without an observer.
+        records.clear();
+        assertTrue(new JavetSanitizerStatementListChecker().check("a = 1;"));
+        assertTrue(records.isEmpty());
+    }
+}
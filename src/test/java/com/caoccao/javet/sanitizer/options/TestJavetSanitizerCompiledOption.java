@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerKeywordMatcher;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerTokenMatcher;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerCompiledOption {
+    @Test
+    public void testDefault() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default;
+        JavetSanitizerCompiledOption compiledOption = option.getCompiledOption();
+        assertSame(compiledOption, option.getCompiledOption());
+        assertEquals(option.getFingerprint(), compiledOption.getFingerprint());
+        assertEquals(option.getGlobalIdentifier(), compiledOption.getGlobalIdentifier());
+        assertEquals(option.getBuiltInObjectSet(), compiledOption.getBuiltInObjectSet());
+        assertEquals(option.getReservedFunctionIdentifierSet(), compiledOption.getReservedFunctionIdentifierSet());
+        assertTrue(compiledOption.isStackTraceEnabled());
+        assertEquals(
+                JavetSanitizerIdentifierTable.FLAG_RESERVED_FUNCTION,
+                compiledOption.getIdentifierFlags("main"));
+        assertThrows(UnsupportedOperationException.class, () -> compiledOption.getBuiltInObjectSet().add("a"));
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> compiledOption.getReservedFunctionIdentifierSet().add("a"));
+        for (int tokenType : new int[]{
+                JavaScriptLexer.Async, JavaScriptLexer.Await, JavaScriptLexer.Debugger, JavaScriptLexer.Export,
+                JavaScriptLexer.Import, JavaScriptLexer.Var, JavaScriptLexer.With, JavaScriptLexer.Yield}) {
+            assertTrue(compiledOption.isKeywordDisallowed(tokenType), JavaScriptLexer.VOCABULARY.getSymbolicName(tokenType));
+        }
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.Class));
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.Identifier));
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.EOF));
+    }
+
+    @Test
+    public void testKeywords() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone()
+                .setKeywordAsyncEnabled(true)
+                .setKeywordAwaitEnabled(true)
+                .setKeywordVarEnabled(true);
+        JavetSanitizerCompiledOption compiledOption = option.getCompiledOption();
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.Async));
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.Await));
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.Var));
+        assertTrue(compiledOption.isKeywordDisallowed(JavaScriptLexer.Debugger));
+        assertEquals(JavaScriptLexer.Debugger, JavetSanitizerTokenMatcher.getInstance().getKeywordTokenType(option));
+        assertSame(
+                JavetSanitizerKeywordMatcher.getInstance().getMatcher(option),
+                JavetSanitizerKeywordMatcher.getInstance().getMatcher(option.toClone().seal()));
+        assertTrue(option.toClone().isKeywordVarEnabled());
+        // An unsealed option answers the keyword flags without being compiled.
+        assertFalse(option.isKeywordDisallowed(JavaScriptLexer.Async));
+        assertTrue(option.isKeywordDisallowed(JavaScriptLexer.Debugger));
+        assertFalse(option.isKeywordDisallowed(JavaScriptLexer.Class));
+        option.setKeywordDebuggerEnabled(true);
+        assertFalse(option.isKeywordDisallowed(JavaScriptLexer.Debugger));
+        assertEquals(JavaScriptLexer.Export, JavetSanitizerTokenMatcher.getInstance().getKeywordTokenType(option));
+    }
+
+    @Test
+    public void testSeal() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone();
+        JavetSanitizerCompiledOption snapshot = option.getCompiledOption();
+        assertNotSame(snapshot, option.getCompiledOption());
+        option.setGlobalIdentifier("a").setKeywordWithEnabled(true).setStackTraceEnabled(false);
+        option.getReservedFunctionIdentifierSet().add("b");
+        assertEquals(JavetSanitizerOption.Default.getGlobalIdentifier(), snapshot.getGlobalIdentifier());
+        assertTrue(snapshot.isKeywordDisallowed(JavaScriptLexer.With));
+        assertFalse(snapshot.getReservedFunctionIdentifierSet().contains("b"));
+        option.seal();
+        JavetSanitizerCompiledOption compiledOption = option.getCompiledOption();
+        assertSame(compiledOption, option.getCompiledOption());
+        assertNotEquals(snapshot.getFingerprint(), compiledOption.getFingerprint());
+        assertEquals(option.getFingerprint(), compiledOption.getFingerprint());
+        assertEquals("a", compiledOption.getGlobalIdentifier());
+        assertFalse(compiledOption.isKeywordDisallowed(JavaScriptLexer.With));
+        assertFalse(compiledOption.isStackTraceEnabled());
+        assertTrue(compiledOption.getReservedFunctionIdentifierSet().contains("b"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerIdentifierTable {
+    @Test
+    public void testDefault() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default;
+        assertEquals(0, option.getIdentifierFlags(null));
+        assertEquals(0, option.getIdentifierFlags(""));
+        assertEquals(0, option.getIdentifierFlags("a"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_BUILT_IN_OBJECT, option.getIdentifierFlags("console"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_DISALLOWED, option.getIdentifierFlags("apply"));
+        assertEquals(
+                JavetSanitizerIdentifierTable.FLAG_BUILT_IN_OBJECT | JavetSanitizerIdentifierTable.FLAG_DISALLOWED,
+                option.getIdentifierFlags("eval"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_RESERVED_FUNCTION, option.getIdentifierFlags("main"));
+        option.getBuiltInObjectSet().forEach(identifier -> assertNotEquals(
+                0,
+                option.getIdentifierFlags(identifier) & JavetSanitizerIdentifierTable.FLAG_BUILT_IN_OBJECT,
+                identifier));
+        option.getDisallowedIdentifierSet().forEach(identifier -> assertNotEquals(
+                0,
+                option.getIdentifierFlags(identifier) & JavetSanitizerIdentifierTable.FLAG_DISALLOWED,
+                identifier));
+    }
+
+    @Test
+    public void testNamingConvention() throws JavetSanitizerException {
+        JavetSanitizerOption matcherOption = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierMatcher(identifier -> identifier.startsWith("$") || identifier.matches("__\\w+__"));
+        JavetSanitizerOption prefixOption = JavetSanitizerOption.Default.toClone()
+                .setReservedIdentifierPattern(Pattern.compile("__\\w+__"));
+        prefixOption.getReservedIdentifierPrefixSet().add("$");
+        List<JavetSanitizerOption> options = SimpleList.of(matcherOption, prefixOption);
+        for (JavetSanitizerOption option : options) {
+            option.getReservedIdentifierSet().add("$a");
+            option.getReservedMutableIdentifierSet().add("$a");
+        }
+        assertNotEquals(matcherOption.getFingerprint(), prefixOption.getFingerprint());
+        List<String> identifiers = SimpleList.of(
+                "$", "$a", "$b", "__a__", "__a", "a", "console", "eval", "main", "中文");
+        List<Integer> unsealedFlagsList = SimpleList.of();
+        for (JavetSanitizerOption option : options) {
+            for (String identifier : identifiers) {
+                unsealedFlagsList.add(option.getIdentifierFlags(identifier));
+            }
+        }
+        options.forEach(JavetSanitizerOption::seal);
+        Set<Integer> flagsSet = new HashSet<>();
+        int index = 0;
+        for (JavetSanitizerOption option : options) {
+            for (String identifier : identifiers) {
+                int flags = option.getIdentifierFlags(identifier);
+                assertEquals(unsealedFlagsList.get(index++), flags, identifier);
+                flagsSet.add(flags);
+            }
+        }
+        assertEquals(
+                JavetSanitizerIdentifierTable.FLAG_RESERVED | JavetSanitizerIdentifierTable.FLAG_RESERVED_MUTABLE
+                        | JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME,
+                prefixOption.getIdentifierFlags("$a"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME, prefixOption.getIdentifierFlags("$b"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME, prefixOption.getIdentifierFlags("__a__"));
+        assertEquals(0, prefixOption.getIdentifierFlags("__a"));
+        assertTrue(flagsSet.size() > 1);
+        for (JavetSanitizerOption option : options) {
+            JavetSanitizerStatementListChecker checker = new JavetSanitizerStatementListChecker(option);
+            assertTrue(checker.check("x = $a; $a = 1;"));
+            assertThrows(JavetSanitizerException.class, () -> checker.check("$b = 1;"));
+            assertThrows(JavetSanitizerException.class, () -> checker.check("__b__ = 1;"));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.options;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.matchers.JavetSanitizerIdentifierMatcher;
+import com.caoccao.javet.sanitizer.parsers.JavaScriptParserEngine;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetSanitizerSymbolTable {
+    @Test
+    public void testCharStream() {
+        String codeString = "console a 𠮷b main a 𠮷b";
+        CharStream charStream = CharStreams.fromString(codeString);
+        JavetSanitizerSymbolTable symbolTable = JavetSanitizerOption.Default.getCompiledOption().createSymbolTable();
+        int[][] intervals = new int[][]{{0, 6}, {8, 8}, {10, 11}, {13, 16}, {18, 18}, {20, 21}};
+        int[] symbols = new int[intervals.length];
+        for (int i = 0; i < intervals.length; i++) {
+            // The identifier is interned right after it is lexed and also from any other position.
+            charStream.seek(i % 2 == 0 ? intervals[i][1] + 1 : 0);
+            symbols[i] = symbolTable.intern(charStream, intervals[i][0], intervals[i][1]);
+        }
+        assertEquals("console", symbolTable.getIdentifier(symbols[0]));
+        assertEquals("a", symbolTable.getIdentifier(symbols[1]));
+        assertEquals("𠮷b", symbolTable.getIdentifier(symbols[2]));
+        assertEquals("main", symbolTable.getIdentifier(symbols[3]));
+        assertEquals(symbols[1], symbols[4]);
+        assertEquals(symbols[2], symbols[5]);
+        assertEquals(2, symbolTable.getSize());
+        assertEquals(symbols[0], symbolTable.intern("console"));
+        assertEquals(symbols[2], symbolTable.intern("𠮷b"));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_BUILT_IN_OBJECT, symbolTable.getFlags(symbols[0]));
+        assertEquals(JavetSanitizerIdentifierTable.FLAG_RESERVED_FUNCTION, symbolTable.getFlags(symbols[3]));
+        assertEquals(0, symbolTable.getFlags(symbols[1]));
+        assertEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, symbolTable.intern(charStream, 1, 0));
+    }
+
+    @Test
+    public void testIntern() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone();
+        option.getReservedIdentifierPrefixSet().add("$");
+        option.getReservedIdentifierSet().add("$a");
+        option.seal();
+        JavetSanitizerSymbolTable symbolTable1 = option.getCompiledOption().createSymbolTable();
+        JavetSanitizerSymbolTable symbolTable2 = option.getCompiledOption().createSymbolTable();
+        assertEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, symbolTable1.intern((String) null));
+        assertEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, symbolTable1.intern(""));
+        // The known identifiers share the same symbols.
+        assertEquals(symbolTable1.intern("eval"), symbolTable2.intern("eval"));
+        assertEquals(symbolTable1.intern("$a"), symbolTable2.intern("$a"));
+        assertEquals(0, symbolTable1.getSize());
+        assertEquals(
+                JavetSanitizerIdentifierTable.FLAG_RESERVED | JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME,
+                symbolTable1.getFlags(symbolTable1.intern("$a")));
+        assertEquals(
+                JavetSanitizerIdentifierTable.FLAG_RESERVED_NAME,
+                symbolTable1.getFlags(symbolTable1.intern("$b")));
+        assertEquals(1, symbolTable1.getSize());
+        for (int i = 0; i < 1000; i++) {
+            int symbol = symbolTable1.intern("a" + i);
+            assertEquals(symbol, symbolTable1.intern("a" + i));
+            assertEquals("a" + i, symbolTable1.getIdentifier(symbol));
+            assertEquals(0, symbolTable1.getFlags(symbol));
+        }
+        assertEquals(1001, symbolTable1.getSize());
+        assertEquals("$b", symbolTable1.getIdentifier(symbolTable1.intern("$b")));
+        assertEquals(0, symbolTable2.getSize());
+    }
+
+    @Test
+    public void testSymbolsOfOtherOption() {
+        JavetSanitizerOption option = JavetSanitizerOption.Default.toClone();
+        option.getDisallowedIdentifierSet().add("a");
+        option.seal();
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire("a");
+        JavaScriptParser.IdentifierContext identifierContext;
+        try {
+            javaScriptParserEngine.setCompiledOption(JavetSanitizerOption.Default.getCompiledOption());
+            identifierContext = ((JavaScriptParser.IdentifierExpressionContext)
+                    javaScriptParserEngine.getJavaScriptParser().singleExpression()).identifier();
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        JavetSanitizerIdentifierMatcher identifierMatcher = JavetSanitizerIdentifierMatcher.getInstance();
+        assertNull(identifierMatcher.matches(JavetSanitizerOption.Default, identifierContext));
+        // The symbols interned for the default option are not trusted by another option.
+        assertNotNull(identifierMatcher.matches(option, identifierContext));
+        assertNotNull(identifierMatcher.matches(option.toClone(), identifierContext));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerModuleChecker;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerStatementListChecker;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavaScriptCharStreams {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCheckFile() throws Exception {
+        JavetSanitizerOption option = JavetSanitizerOption.Default;
+        for (String codeString : SimpleList.of(
+                "const a = 1;\nconst b = 2;\nconst c = eval;",
+                "const a = '中文';\nconst b = 2;\nconst c = eval;",
+                "const a = 1;\nconst b = 2;\nconst c = (;")) {
+            Path path = tempDir.resolve("test.js");
+            Files.write(path, codeString.getBytes(StandardCharsets.UTF_8));
+            JavetSanitizerException expectedException = assertThrows(
+                    JavetSanitizerException.class,
+                    () -> new JavetSanitizerStatementListChecker(option).check(codeString));
+            JavetSanitizerException exception = assertThrows(
+                    JavetSanitizerException.class,
+                    () -> new JavetSanitizerStatementListChecker(option).check(path));
+            assertEquals(expectedException.getMessage(), exception.getMessage());
+            assertEquals(expectedException.getContext().toString(), exception.getContext().toString());
+            assertEquals(3, exception.getContext().getStartLineNumber());
+            try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                exception = assertThrows(
+                        JavetSanitizerException.class,
+                        () -> new JavetSanitizerStatementListChecker(option).check(fileChannel));
+                assertEquals(expectedException.getContext().toString(), exception.getContext().toString());
+            }
+        }
+        Path path = tempDir.resolve("module.js");
+        Files.write(path, "function main() { return 1; }".getBytes(StandardCharsets.UTF_8));
+        assertTrue(new JavetSanitizerModuleChecker().check(path));
+        Files.write(path, "function a() { return 1; }".getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+                "Function main is not found.",
+                assertThrows(JavetSanitizerException.class, () -> new JavetSanitizerModuleChecker().check(path))
+                        .getMessage());
+        Files.write(path, " \n\t".getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+                2,
+                assertThrows(JavetSanitizerException.class, () -> new JavetSanitizerModuleChecker().check(path))
+                        .getError().getCode());
+    }
+
+    @Test
+    public void testFromPath() throws Exception {
+        Path path = tempDir.resolve("ascii.js");
+        String codeString = "const a = `b`;\r\n";
+        Files.write(path, codeString.getBytes(StandardCharsets.UTF_8));
+        CharStream charStream = JavaScriptCharStreams.fromPath(path);
+        assertInstanceOf(JavaScriptMappedCharStream.class, charStream);
+        CharStream expectedCharStream = CharStreams.fromString(codeString);
+        assertEquals(expectedCharStream.size(), charStream.size());
+        assertEquals(path.toString(), charStream.getSourceName());
+        assertEquals(codeString, charStream.toString());
+        assertEquals("a = `", charStream.getText(Interval.of(6, 10)));
+        for (int i = 0; i <= codeString.length(); i++) {
+            assertEquals(expectedCharStream.LA(1), charStream.LA(1));
+            assertEquals(expectedCharStream.LA(-1), charStream.LA(-1));
+            if (i < codeString.length()) {
+                expectedCharStream.consume();
+                charStream.consume();
+            }
+        }
+        assertThrows(IllegalStateException.class, charStream::consume);
+        path = tempDir.resolve("utf8.js");
+        codeString = "const a = '中文😀';";
+        Files.write(path, codeString.getBytes(StandardCharsets.UTF_8));
+        charStream = JavaScriptCharStreams.fromPath(path);
+        assertFalse(charStream instanceof JavaScriptMappedCharStream);
+        assertEquals(CharStreams.fromString(codeString).size(), charStream.size());
+        assertEquals(codeString, charStream.toString());
+    }
+}
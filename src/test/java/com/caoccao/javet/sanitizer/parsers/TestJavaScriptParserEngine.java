@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavaScriptParserEngine {
+    private static List<String> getFreshTokens(String codeString) {
+        JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+        javaScriptLexer.setUseStrictDefault(true);
+        CommonTokenStream tokenStream = new CommonTokenStream(javaScriptLexer);
+        tokenStream.fill();
+        return toStrings(tokenStream.getTokens());
+    }
+
+    private static List<String> getReusedTokens(String codeString) {
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(codeString);
+        try {
+            javaScriptParserEngine.getTokenStream().fill();
+            return toStrings(javaScriptParserEngine.getTokenStream().getTokens());
+        } finally {
+            javaScriptParserEngine.release();
+        }
+    }
+
+    private static List<String> toStrings(List<Token> tokens) {
+        List<String> strings = new ArrayList<>();
+        for (Token token : tokens) {
+            strings.add(token.getType() + ":" + token.getChannel() + ":" + token.getText());
+        }
+        return strings;
+    }
+
+    @Test
+    public void testAcquireWhileInUse() {
+        JavaScriptParserEngine outerEngine = JavaScriptParserEngine.acquire("a");
+        try {
+            assertTrue(outerEngine.isInUse());
+            JavaScriptParserEngine innerEngine = JavaScriptParserEngine.acquire("b");
+            try {
+                assertNotSame(outerEngine, innerEngine);
+                assertEquals("b", innerEngine.getJavaScriptParser().singleExpression().getText());
+            } finally {
+                innerEngine.release();
+            }
+            assertEquals("a", outerEngine.getJavaScriptParser().singleExpression().getText());
+        } finally {
+            outerEngine.release();
+        }
+        assertFalse(outerEngine.isInUse());
+        JavaScriptParserEngine engine = JavaScriptParserEngine.acquire("c");
+        try {
+            assertSame(outerEngine, engine);
+        } finally {
+            engine.release();
+        }
+    }
+
+    @Test
+    public void testLexerStateIsReset() {
+        // Each input leaves state behind: open template strings, strict mode scopes or the last token.
+        String[] codeStrings = new String[]{
+                "`${a ? `${b",
+                "}` + 1",
+                "{ 'use strict'; { var x = 010;",
+                "var y = 010; }",
+                "a / b / c",
+                "/ab+c/.test(x)",
+                "`a${b}c` + `${`${d}`}`",
+        };
+        for (int round = 0; round < 2; ++round) {
+            for (String codeString : codeStrings) {
+                assertEquals(getFreshTokens(codeString), getReusedTokens(codeString), codeString);
+            }
+        }
+    }
+
+    @Test
+    public void testParseTreeSurvivesReuse() {
+        JavaScriptParser.SingleExpressionContext context;
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire("a.b(c)");
+        try {
+            context = javaScriptParserEngine.getJavaScriptParser().singleExpression();
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        javaScriptParserEngine = JavaScriptParserEngine.acquire("function (");
+        try {
+            JavaScriptParser javaScriptParser = javaScriptParserEngine.getJavaScriptParser();
+            assertThrows(ParseCancellationException.class, javaScriptParser::anonymousFunction);
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        assertEquals("a.b(c)", context.getText());
+        assertEquals("a", context.getStart().getText());
+        assertEquals(")", context.getStop().getText());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.utils.SimpleList;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavaScriptPredictionCache {
+    private static final List<String> CORPUS = SimpleList.of(
+            "function main(a, b) { const x = [1, 2, 3].map(v => v * 2); return a + b + x.length; }",
+            "let s = `${a} items`; if (s && b > 2) { s += 1; } else { for (let i = 0; i < 3; i++) { s--; } }",
+            "a.b.c(d, e)[f] = async () => { await g(); }",
+            "x => x ? y : z",
+            "function (");
+
+    private static List<String> getDFAStrings() {
+        List<String> dfaStrings = new ArrayList<>();
+        for (DFA dfa : new JavaScriptParser(null).getInterpreter().decisionToDFA) {
+            dfaStrings.add(dfa.toString(JavaScriptParser.VOCABULARY));
+        }
+        return dfaStrings;
+    }
+
+    private static String getTreeString(String codeString) throws JavetSanitizerException {
+        JavaScriptStatementListParser parser = new JavaScriptStatementListParser(codeString).parse();
+        return parser.getContext().toStringTree(SimpleList.of(JavaScriptParser.ruleNames));
+    }
+
+    private static byte[] save() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        JavaScriptPredictionCache.save(byteArrayOutputStream);
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        JavaScriptPredictionCache.clear();
+    }
+
+    @Test
+    public void testInvalidSnapshot() throws IOException {
+        JavaScriptPredictionCache.clear();
+        JavaScriptPredictionCache.warmUp(CORPUS);
+        byte[] snapshot = save();
+        byte[] otherVersionSnapshot = snapshot.clone();
+        otherVersionSnapshot[7] += 1;
+        assertFalse(JavaScriptPredictionCache.load(new ByteArrayInputStream(otherVersionSnapshot)));
+        byte[] corruptedSnapshot = snapshot.clone();
+        corruptedSnapshot[corruptedSnapshot.length - 1] += 1;
+        assertThrows(IOException.class, () -> JavaScriptPredictionCache.load(new ByteArrayInputStream(corruptedSnapshot)));
+        assertThrows(IOException.class, () -> JavaScriptPredictionCache.load(new ByteArrayInputStream(new byte[8])));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException, JavetSanitizerException {
+        List<String> codeStrings = SimpleList.of(
+                "function add(a, b) { return a + b; }",
+                "const y = { a: 1, b: [2, 3] }; while (y.a < 10) { y.a = y.a * 2 + (y.b[0] ?? 1); }",
+                "class A extends B { constructor() { super(); this.x = new.target; } }");
+        JavaScriptPredictionCache.clear();
+        List<String> coldTreeStrings = new ArrayList<>();
+        for (String codeString : codeStrings) {
+            coldTreeStrings.add(getTreeString(codeString));
+        }
+        JavaScriptPredictionCache.clear();
+        assertEquals(0, JavaScriptPredictionCache.getStateCount());
+        assertTrue(JavaScriptPredictionCache.warmUp(CORPUS) > 0);
+        final int stateCount = JavaScriptPredictionCache.getStateCount();
+        List<String> dfaStrings = getDFAStrings();
+        byte[] snapshot = save();
+        JavaScriptPredictionCache.clear();
+        assertEquals(0, JavaScriptPredictionCache.getStateCount());
+        assertTrue(JavaScriptPredictionCache.load(new ByteArrayInputStream(snapshot)));
+        assertEquals(stateCount, JavaScriptPredictionCache.getStateCount());
+        assertEquals(dfaStrings, getDFAStrings());
+        assertArrayEquals(snapshot, save());
+        assertEquals(0, JavaScriptPredictionCache.warmUp(CORPUS));
+        for (int i = 0; i < codeStrings.size(); ++i) {
+            assertEquals(coldTreeStrings.get(i), getTreeString(codeStrings.get(i)));
+        }
+        assertTrue(JavaScriptPredictionCache.getStateCount() > stateCount);
+    }
+}
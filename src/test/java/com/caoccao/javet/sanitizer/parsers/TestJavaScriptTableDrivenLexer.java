@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.checkers.JavetSanitizerCheckerType;
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerException;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestJavaScriptTableDrivenLexer {
+    private static final String[] FRAGMENTS = new String[]{
+            "a", "$", "_", "x1", "let", "static", "get", "\\u0061", "\\u{61}", "\\u{6}", "\\u00",
+            "é", "𝒜", "ℵ", "a\u0301", "٣", "\u200C", "@", "\uD800", "\u0000",
+            "0", "1", "7", "9", "0x", "0xF_f", "0o7", "0o", "0b1", "0B", "n", "e", "E", "+", "-",
+            ".", "..", "...", "1_0", "'", "\"", "\\", "\\x", "\\x4_", "\\u{}", "\\0", "\\1",
+            "\\\n", "\\\r\n", "\\\u2028", "`", "${", "}", "{", "(", ")", "[", "]", "/", "/=", "*", "*/", "/*", "//",
+            "<!--", "-->", "<![CDATA[", "]]>", "<", "<<", "<<=", ">", ">>", ">>>", ">>>=",
+            "=", "==", "===", "=>", "!", "!=", "!==", "?", "?.", "??", "??=", "&", "&&", "&=", "|", "||", "|=",
+            "^", "^=", "%", "%=", "~", "#", "#!", ":", ";", ",", " ", "\t", "\u00A0", "\u000B",
+            "\n", "\r", "\u2028", "\u2029", "\uFEFF", "'use strict'", "\"use strict\"",
+            "null", "true", "this", "x++", "--", "return", "typeof", "instanceof", "implements",
+            "/[/]/g", "/\\//", "/[", "i", "g",
+    };
+
+    private static void assertSameTokens(String codeString, boolean useStrictDefault) {
+        JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+        javaScriptLexer.removeErrorListeners();
+        javaScriptLexer.setUseStrictDefault(useStrictDefault);
+        JavaScriptTableDrivenLexer tableDrivenLexer = new JavaScriptTableDrivenLexer(CharStreams.fromString(codeString));
+        tableDrivenLexer.setUseStrictDefault(useStrictDefault);
+        assertEquals(getTokens(javaScriptLexer), getTokens(tableDrivenLexer), codeString);
+    }
+
+    private static List<String> getTokens(TokenSource tokenSource) {
+        List<String> tokens = new ArrayList<>();
+        try {
+            while (true) {
+                Token token = tokenSource.nextToken();
+                tokens.add(token.getType() + ":" + token.getChannel()
+                        + ":" + token.getStartIndex() + ":" + token.getStopIndex()
+                        + ":" + token.getLine() + ":" + token.getCharPositionInLine() + ":" + token.getText());
+                if (token.getType() == Token.EOF) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            tokens.add(e.getClass().getName());
+        }
+        return tokens;
+    }
+
+    private static String getVerdict(JavetSanitizerOption option, String codeString) {
+        try {
+            JavetSanitizerCheckerType.StatementList.createChecker(option).check(codeString);
+            return "ok";
+        } catch (JavetSanitizerException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void testChecker() {
+        JavetSanitizerOption generatedOption = JavetSanitizerOption.Default;
+        JavetSanitizerOption tableDrivenOption = JavetSanitizerOption.Default.toClone()
+                .setLexerType(JavetSanitizerLexerType.TableDriven)
+                .seal();
+        String[] codeStrings = new String[]{
+                "const a = 1;\nlet b = `${a}px`;",
+                "x = /ab+c/gi.test('s') / 2;",
+                "eval('1');",
+                "var a = 1;",
+                "import('a');",
+                "a = 'unterminated",
+                "function f() { return\n1 }",
+                "const 𝒜 = 0x1fn + 1_000n;",
+                "<!-- comment --> a = 1;",
+        };
+        for (String codeString : codeStrings) {
+            assertEquals(getVerdict(generatedOption, codeString), getVerdict(tableDrivenOption, codeString), codeString);
+        }
+    }
+
+    @Test
+    public void testEngine() {
+        String codeString = "let a = /a/g;\n`${a}`";
+        JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+        javaScriptLexer.setUseStrictDefault(true);
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(codeString);
+        try {
+            javaScriptParserEngine.setLexerType(JavetSanitizerLexerType.TableDriven);
+            javaScriptParserEngine.getTokenStream().fill();
+            assertEquals(javaScriptParserEngine.getTableDrivenLexer(), javaScriptParserEngine.getTokenStream().getTokenSource());
+            List<String> tokens = new ArrayList<>();
+            for (Token token : javaScriptParserEngine.getTokenStream().getTokens()) {
+                tokens.add(token.getType() + ":" + token.getChannel()
+                        + ":" + token.getStartIndex() + ":" + token.getStopIndex()
+                        + ":" + token.getLine() + ":" + token.getCharPositionInLine() + ":" + token.getText());
+            }
+            assertEquals(getTokens(javaScriptLexer), tokens);
+        } finally {
+            javaScriptParserEngine.release();
+        }
+    }
+
+    @Test
+    public void testFixedCorpus() {
+        String[] codeStrings = new String[]{
+                "",
+                "a / b / c",
+                "x = /ab+c/gi.test(s)",
+                "(a)/2/g",
+                "a++ /2/ g",
+                "`a${b}c${`d${e}`}`",
+                "`${ {} }`",
+                "}",
+                "``}",
+                "`${`",
+                "'use strict'; let x = 010",
+                "{ 'use strict'; 017 } 017",
+                "0123 08 0.5e+3 .5 1e 1_000n 0x1fn 0o17n 0b101n 1..a 0_1 1e_1",
+                "#!/usr/bin/env node\nx",
+                "// c\n#!x",
+                "/* a */ /* b",
+                "<!-- a --> <![CDATA[ x ]]> <!-",
+                "\"a\\\nb\" 'a\\x4' '\\u{1F600}' '\\u12' '\\0\\9'",
+                "a\r\nb\u2028c",
+                "class A { static x; private y; }",
+                "\\u0061bc \\u{61}bc \\u{6}x",
+                "𝒜𝒜 = 1; é\u0301 = 2",
+        };
+        for (String codeString : codeStrings) {
+            assertSameTokens(codeString, true);
+            assertSameTokens(codeString, false);
+        }
+    }
+
+    @Test
+    public void testRandomCorpus() {
+        Random random = new Random(0);
+        for (int i = 0; i < 5000; ++i) {
+            StringBuilder sb = new StringBuilder();
+            final int fragmentCount = 1 + random.nextInt(12);
+            for (int j = 0; j < fragmentCount; ++j) {
+                sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameTokens(sb.toString(), random.nextBoolean());
+        }
+    }
+}
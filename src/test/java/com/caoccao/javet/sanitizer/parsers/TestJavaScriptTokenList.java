@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023-2024. caoccao.com Sam Cao
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.caoccao.javet.sanitizer.parsers;
+
+import com.caoccao.javet.sanitizer.antlr.JavaScriptLexer;
+import com.caoccao.javet.sanitizer.antlr.JavaScriptParser;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerCompiledOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerLexerType;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerOption;
+import com.caoccao.javet.sanitizer.options.JavetSanitizerSymbolTable;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavaScriptTokenList {
+    @Test
+    public void testSameAsCommonTokens() {
+        String codeString = "/* a\n b */ const a = `x${1 + 2}y`;\r\n// c\nif (a) {\n\tb = /x\\/y/g.test('中文\\u0041');\n}\n";
+        JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+        javaScriptLexer.setUseStrictDefault(true);
+        CommonTokenStream commonTokenStream = new CommonTokenStream(javaScriptLexer);
+        commonTokenStream.fill();
+        List<Token> expectedTokens = commonTokenStream.getTokens();
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(codeString);
+        try {
+            javaScriptParserEngine.getTokenStream().fill();
+            List<Token> tokens = javaScriptParserEngine.getTokenStream().getTokens();
+            assertInstanceOf(JavaScriptTokenList.class, tokens);
+            assertEquals(expectedTokens.size(), tokens.size());
+            for (int i = 0; i < tokens.size(); ++i) {
+                Token expectedToken = expectedTokens.get(i);
+                Token token = tokens.get(i);
+                assertEquals(expectedToken.toString(), token.toString());
+                assertSame(javaScriptParserEngine.getJavaScriptLexer(), token.getTokenSource());
+                assertSame(expectedToken.getInputStream().getClass(), token.getInputStream().getClass());
+                if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+                    assertSame(token, tokens.get(i));
+                } else {
+                    assertNotSame(token, tokens.get(i));
+                }
+            }
+        } finally {
+            javaScriptParserEngine.release();
+        }
+    }
+
+    @Test
+    public void testReplacedPerInput() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("a").append(i).append(" = ").append(i).append(";\n");
+        }
+        List<Token> tokens;
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(sb.toString());
+        try {
+            javaScriptParserEngine.getTokenStream().fill();
+            tokens = javaScriptParserEngine.getTokenStream().getTokens();
+            assertEquals(7001, tokens.size());
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        assertTrue(javaScriptParserEngine.getTokenStream().getTokens().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> javaScriptParserEngine.getTokenStream().get(0));
+        Token lastToken = tokens.get(6997);
+        JavaScriptParserEngine reusedJavaScriptParserEngine = JavaScriptParserEngine.acquire("b;");
+        try {
+            assertSame(javaScriptParserEngine, reusedJavaScriptParserEngine);
+            reusedJavaScriptParserEngine.getTokenStream().fill();
+            assertEquals(3, reusedJavaScriptParserEngine.getTokenStream().size());
+            assertEquals("b", reusedJavaScriptParserEngine.getTokenStream().get(0).getText());
+        } finally {
+            reusedJavaScriptParserEngine.release();
+        }
+        assertEquals(7001, tokens.size());
+        assertEquals("999", lastToken.getText());
+        assertEquals(1000, lastToken.getLine());
+        assertEquals(7, lastToken.getCharPositionInLine());
+        assertEquals(6997, lastToken.getTokenIndex());
+    }
+
+    @Test
+    public void testSymbols() {
+        String codeString = "console.log(a); a = main; $x = '中文' + a.b; 中文 = a;";
+        JavetSanitizerCompiledOption compiledOption = JavetSanitizerOption.Default.getCompiledOption();
+        for (JavetSanitizerLexerType lexerType : JavetSanitizerLexerType.values()) {
+            JavaScriptLexer javaScriptLexer = new JavaScriptLexer(CharStreams.fromString(codeString));
+            javaScriptLexer.setUseStrictDefault(true);
+            CommonTokenStream commonTokenStream = new CommonTokenStream(javaScriptLexer);
+            commonTokenStream.fill();
+            List<Token> expectedTokens = commonTokenStream.getTokens();
+            JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(codeString);
+            try {
+                javaScriptParserEngine.setLexerType(lexerType);
+                javaScriptParserEngine.setCompiledOption(compiledOption);
+                javaScriptParserEngine.getTokenStream().fill();
+                List<Token> tokens = javaScriptParserEngine.getTokenStream().getTokens();
+                assertEquals(expectedTokens.size(), tokens.size(), lexerType.name());
+                JavetSanitizerSymbolTable symbolTable = null;
+                String identifierA = null;
+                for (int i = 0; i < tokens.size(); ++i) {
+                    IJavaScriptSymbolToken token = assertInstanceOf(IJavaScriptSymbolToken.class, tokens.get(i));
+                    assertEquals(expectedTokens.get(i).toString(), token.toString(), lexerType.name());
+                    if (token.getType() == JavaScriptLexer.Identifier) {
+                        symbolTable = token.getSymbolTable();
+                        assertNotNull(symbolTable);
+                        assertSame(compiledOption, symbolTable.getCompiledOption());
+                        assertNotEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, token.getSymbol());
+                        assertEquals(symbolTable.intern(token.getText()), token.getSymbol());
+                        assertEquals(
+                                JavetSanitizerOption.Default.getIdentifierFlags(token.getText()),
+                                symbolTable.getFlags(token.getSymbol()));
+                        if ("a".equals(token.getText())) {
+                            if (identifierA == null) {
+                                identifierA = token.getText();
+                            }
+                            assertSame(identifierA, token.getText());
+                        }
+                    } else {
+                        assertEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, token.getSymbol());
+                    }
+                }
+                assertNotNull(symbolTable);
+                // a, b, log, $x and 中文 are not known by the compiled option.
+                assertEquals(5, symbolTable.getSize());
+            } finally {
+                javaScriptParserEngine.release();
+            }
+        }
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire(codeString);
+        try {
+            javaScriptParserEngine.getTokenStream().fill();
+            IJavaScriptSymbolToken token = assertInstanceOf(
+                    IJavaScriptSymbolToken.class, javaScriptParserEngine.getTokenStream().get(0));
+            assertNull(token.getSymbolTable());
+            assertEquals(JavetSanitizerSymbolTable.INVALID_SYMBOL, token.getSymbol());
+            assertEquals("console", token.getText());
+        } finally {
+            javaScriptParserEngine.release();
+        }
+    }
+
+    @Test
+    public void testTokensInParseTree() {
+        JavaScriptParserEngine javaScriptParserEngine = JavaScriptParserEngine.acquire("a = 1; // b\nc(a);");
+        JavaScriptParser.ProgramContext programContext;
+        Token firstToken;
+        try {
+            programContext = javaScriptParserEngine.getJavaScriptParser().program();
+            firstToken = javaScriptParserEngine.getTokenStream().get(0);
+            assertSame(firstToken, programContext.getStart());
+        } finally {
+            javaScriptParserEngine.release();
+        }
+        TerminalNode terminalNode = programContext.getToken(Token.EOF, 0);
+        assertNotNull(terminalNode);
+        assertEquals("a = 1; // b\nc(a);", programContext.getStart().getInputStream().toString());
+        assertEquals("a", firstToken.getText());
+        assertEquals(2, programContext.getStop().getLine());
+    }
+}
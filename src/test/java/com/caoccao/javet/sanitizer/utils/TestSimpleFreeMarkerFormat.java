@@ -16,10 +16,12 @@
 
 package com.caoccao.javet.sanitizer.utils;
 
+import com.caoccao.javet.sanitizer.exceptions.JavetSanitizerError;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TestSimpleFreeMarkerFormat {
@@ -51,6 +53,22 @@ public class TestSimpleFreeMarkerFormat {
                 "Dollar should pass.");
     }
 
+    @Test
+    public void testTemplate() {
+        SimpleFreeMarkerTemplate template = SimpleFreeMarkerTemplate.compile("a${b}c${d}${e}$f${");
+        assertArrayEquals(new String[]{"b", "d", "e"}, template.getVariables());
+        assertEquals("a${b}c${d}${e}$f${", template.format(null));
+        assertEquals("a1c<null>3$f${", template.format(SimpleMap.of("b", 1, "e", 3)));
+        assertEquals("", SimpleFreeMarkerTemplate.compile("").format(SimpleMap.of("b", 1)));
+        assertEquals("abc", SimpleFreeMarkerTemplate.compile("abc").format(SimpleMap.of("b", 1)));
+        for (JavetSanitizerError error : JavetSanitizerError.values()) {
+            assertEquals(error.getFormat(), error.getTemplate().getFormat());
+            assertEquals(
+                    SimpleFreeMarkerFormat.format(error.getFormat(), SimpleMap.of("name", "x", "message", "y")),
+                    error.getMessage(SimpleMap.of("name", "x", "message", "y")));
+        }
+    }
+
     @Test
     public void testValid() {
         assertEquals("abcx",